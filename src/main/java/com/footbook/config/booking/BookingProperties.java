@@ -0,0 +1,52 @@
+package com.footbook.config.booking;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.booking")
+@Validated
+@Data
+public class BookingProperties {
+    /**
+     * How long a held individual room slot stays reserved for the player before it is released.
+     */
+    @NotNull
+    private Duration holdTtl = Duration.ofSeconds(60);
+
+    /**
+     * Rooms are moved to the archive once their month is this many months in the past.
+     */
+    @Positive
+    private int archiveAfterMonths = 6;
+
+    /**
+     * Archive partitions older than this many months are detached from the archive tables.
+     */
+    @Positive
+    private int archiveRetentionMonths = 36;
+
+    /**
+     * How often the open team room index used for matchmaking is reloaded from the database.
+     */
+    @Positive
+    private long matchIndexRefreshMs = 60000;
+
+    /**
+     * Longest date range a team can ask to be matched within.
+     */
+    @Positive
+    private int matchWindowDays = 14;
+
+    /**
+     * How many days back the booking timeline consistency check looks; upcoming rooms are always checked.
+     */
+    @Positive
+    private int timelineCheckDays = 7;
+}
@@ -0,0 +1,92 @@
+package com.footbook.config.search;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "app.search")
+@Validated
+@Data
+public class SearchProperties {
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double fuzzyThreshold = 0.3;
+
+    @NotBlank
+    private String engine = "database";
+
+    @Positive
+    private long indexMemoryBudgetMb = 512;
+
+    /**
+     * How often an in-memory search index that went over its memory budget is rebuilt from scratch.
+     */
+    @Positive
+    private long indexRebuildMs = 600000;
+
+    @Positive
+    private long suggestRefreshMs = 1000;
+
+    /**
+     * Deadline for each per-type sub-search of a global search.
+     */
+    @NotNull
+    private Duration subSearchTimeout = Duration.ofMillis(800);
+
+    /**
+     * Per-type overrides of {@link #subSearchTimeout}, keyed by result type (branches, individual_rooms, team_rooms, teams).
+     */
+    private Map<String, Duration> subSearchTimeouts = new HashMap<>();
+
+    /**
+     * Sub-searches allowed to run at once across all searches, each holding a database connection.
+     * Keep it well below the connection pool size so searches cannot starve other requests.
+     */
+    @Positive
+    private int maxConcurrentSubSearches = 4;
+
+    /**
+     * Matches ranked per result type by a database search. Each matching branch, team or owner
+     * contributes an even share of its latest-starting rooms; branches and teams are taken in ID
+     * order. Matches beyond this depth are not returned on any page.
+     */
+    @Positive
+    private int maxCandidates = 1000;
+
+    /**
+     * Maximum number of cached search responses; 0 disables the cache.
+     */
+    @PositiveOrZero
+    private int cacheMaxEntries = 1000;
+
+    @NotNull
+    private Duration cacheTtl = Duration.ofSeconds(60);
+
+    /**
+     * Largest radius accepted by nearby branch and room lookups.
+     */
+    @Positive
+    private double nearbyMaxRadiusKm = 50;
+
+    /**
+     * Default, and longest, date range of a nearby room lookup.
+     */
+    @Positive
+    private int nearbyWindowDays = 7;
+
+    public Duration timeoutFor(String type) {
+        return subSearchTimeouts.getOrDefault(type, subSearchTimeout);
+    }
+}
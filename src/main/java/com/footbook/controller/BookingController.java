@@ -1,6 +1,6 @@
 package com.footbook.controller;
 
-import com.footbook.dto.response.booking.BookingResponse;
+import com.footbook.dto.response.booking.BookingPageResponse;
 import com.footbook.dto.response.error.ErrorResponse;
 import com.footbook.service.BookingService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,16 +10,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/v1/bookings")
 @Validated
@@ -32,56 +33,78 @@ public class BookingController {
     @PreAuthorize("hasAuthority('CUSTOMER') or hasAuthority('ADMIN')")
     @Operation(
         summary = "Get all my bookings",
-        description = "Retrieves all bookings (individual and team rooms) for the current user, including both upcoming and past bookings",
+        description = "Retrieves bookings (individual and team rooms) for the current user, including both upcoming and past bookings, latest first. " +
+            "Pass nextCursor from the previous page to continue",
         security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Bookings retrieved successfully"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid cursor or page size",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
         @ApiResponse(
             responseCode = "401",
             description = "Unauthorized",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))
         )
     })
-    public ResponseEntity<List<BookingResponse>> getMyBookings() {
-        return ResponseEntity.ok(bookingService.getMyBookings());
+    public ResponseEntity<BookingPageResponse> getMyBookings(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(bookingService.getMyBookings(cursor, size));
     }
 
     @GetMapping("/my-bookings/upcoming")
     @PreAuthorize("hasAuthority('CUSTOMER') or hasAuthority('ADMIN')")
     @Operation(
         summary = "Get my upcoming bookings",
-        description = "Retrieves all upcoming bookings for the current user",
+        description = "Retrieves upcoming bookings for the current user, soonest first. Pass nextCursor from the previous page to continue",
         security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Upcoming bookings retrieved successfully"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid cursor or page size",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
         @ApiResponse(
             responseCode = "401",
             description = "Unauthorized",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))
         )
     })
-    public ResponseEntity<List<BookingResponse>> getMyUpcomingBookings() {
-        return ResponseEntity.ok(bookingService.getMyUpcomingBookings());
+    public ResponseEntity<BookingPageResponse> getMyUpcomingBookings(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(bookingService.getMyUpcomingBookings(cursor, size));
     }
 
     @GetMapping("/my-bookings/past")
     @PreAuthorize("hasAuthority('CUSTOMER') or hasAuthority('ADMIN')")
     @Operation(
         summary = "Get my past bookings",
-        description = "Retrieves all past bookings for the current user",
+        description = "Retrieves past bookings for the current user, latest first. Pass nextCursor from the previous page to continue",
         security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Past bookings retrieved successfully"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid cursor or page size",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
         @ApiResponse(
             responseCode = "401",
             description = "Unauthorized",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))
         )
     })
-    public ResponseEntity<List<BookingResponse>> getMyPastBookings() {
-        return ResponseEntity.ok(bookingService.getMyPastBookings());
+    public ResponseEntity<BookingPageResponse> getMyPastBookings(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(bookingService.getMyPastBookings(cursor, size));
     }
 }
@@ -3,6 +3,7 @@ package com.footbook.controller;
 import com.footbook.dto.request.branch.CreateBranchRequest;
 import com.footbook.dto.request.branch.UpdateBranchRequest;
 import com.footbook.dto.response.branch.BranchResponse;
+import com.footbook.dto.response.branch.NearbyBranchResponse;
 import com.footbook.dto.response.error.ErrorResponse;
 import com.footbook.service.BranchService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -70,6 +71,26 @@ public class BranchController {
         return ResponseEntity.ok(branchService.getAllActiveBranches());
     }
 
+    @GetMapping("/nearby")
+    @Operation(
+        summary = "Get nearby branches",
+        description = "Retrieves active branches within a radius of the given location, nearest first. The radius defaults to, and may not exceed, the configured maximum."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Branches retrieved successfully"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Location or radius out of range",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    public ResponseEntity<List<NearbyBranchResponse>> getNearbyBranches(
+        @RequestParam double lat,
+        @RequestParam double lng,
+        @RequestParam(required = false) Double radiusKm) {
+        return ResponseEntity.ok(branchService.getNearbyBranches(lat, lng, radiusKm));
+    }
+
     @GetMapping("/{id}")
     @Operation(
         summary = "Get branch by ID",
@@ -1,9 +1,12 @@
 package com.footbook.controller;
 
 import com.footbook.dto.request.room.CreateIndividualRoomRequest;
+import com.footbook.dto.request.room.CreateIndividualRoomSeriesRequest;
 import com.footbook.dto.response.error.ErrorResponse;
 import com.footbook.dto.response.room.IndividualRoomDetailResponse;
 import com.footbook.dto.response.room.IndividualRoomResponse;
+import com.footbook.dto.response.room.IndividualRoomSeriesResponse;
+import com.footbook.dto.response.room.SlotHoldResponse;
 import com.footbook.service.IndividualRoomService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -47,29 +50,65 @@ public class IndividualRoomController {
         @ApiResponse(responseCode = "201", description = "Room created successfully"),
         @ApiResponse(
             responseCode = "400",
-            description = "Invalid input or time conflict",
+            description = "Invalid input",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))
         ),
         @ApiResponse(
             responseCode = "401",
             description = "Unauthorized",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "The player is booked at that time, or every pitch of the branch is",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
         )
     })
     public ResponseEntity<IndividualRoomResponse> createRoom(@Valid @RequestBody CreateIndividualRoomRequest request) {
         return ResponseEntity.status(HttpStatus.CREATED).body(individualRoomService.createRoom(request));
     }
 
+    @PostMapping("/series")
+    @PreAuthorize("hasAuthority('CUSTOMER') or hasAuthority('ADMIN')")
+    @Operation(
+        summary = "Create a recurring series of individual rooms",
+        description = "Creates the same individual room weekly or biweekly for the given number of occurrences. Every occurrence is validated before any is created, and conflicting dates are listed in the error.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Series created successfully"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid input",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "The player, or every pitch of the branch, is booked on any occurrence",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    public ResponseEntity<IndividualRoomSeriesResponse> createRoomSeries(@Valid @RequestBody CreateIndividualRoomSeriesRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(individualRoomService.createRoomSeries(request));
+    }
+
     @GetMapping
     @Operation(
         summary = "Get all individual rooms",
-        description = "Retrieves a paginated list of individual rooms with optional filtering"
+        description = "Retrieves a paginated list of individual rooms with optional filtering. With near=latitude,longitude only upcoming rooms of branches within radiusKm are listed, nearest branch first and then by start time, and sortBy is ignored."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Rooms retrieved successfully")
     })
     public ResponseEntity<Page<IndividualRoomResponse>> getAllRooms(
         @RequestParam(required = false) UUID branchId,
+        @RequestParam(required = false) String near,
+        @RequestParam(required = false) Double radiusKm,
         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
         @RequestParam(required = false) String status,
@@ -84,7 +123,7 @@ public class IndividualRoomController {
             : Sort.by(sortFields).ascending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        return ResponseEntity.ok(individualRoomService.getAllRooms(branchId, startDate, endDate, status, pageable));
+        return ResponseEntity.ok(individualRoomService.getAllRooms(branchId, near, radiusKm, startDate, endDate, status, pageable));
     }
 
     @GetMapping("/{id}")
@@ -104,18 +143,52 @@ public class IndividualRoomController {
         return ResponseEntity.ok(individualRoomService.getRoomById(id));
     }
 
+    @PostMapping("/{id}/hold")
+    @PreAuthorize("hasAuthority('CUSTOMER') or hasAuthority('ADMIN')")
+    @Operation(
+        summary = "Hold a slot in an individual room",
+        description = "Reserves a slot for a short time so it can be confirmed by joining. Holding again returns the existing hold.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Slot held"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Already joined",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Room not found",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Room is full or every free slot is held",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    public ResponseEntity<SlotHoldResponse> holdSlot(@PathVariable UUID id) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(individualRoomService.holdSlot(id));
+    }
+
     @PostMapping("/{id}/join")
     @PreAuthorize("hasAuthority('CUSTOMER') or hasAuthority('ADMIN')")
     @Operation(
         summary = "Join an individual room",
-        description = "Join an available individual room as a participant. Validates capacity and time conflicts.",
+        description = "Join an available individual room as a participant, confirming the caller's hold if they have one. Validates capacity and time conflicts.",
         security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully joined the room"),
         @ApiResponse(
             responseCode = "400",
-            description = "Time conflict or already joined",
+            description = "Already joined",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))
         ),
         @ApiResponse(
@@ -127,6 +200,11 @@ public class IndividualRoomController {
             responseCode = "404",
             description = "Room not found",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Room is full, every free slot is held by other players, or the player is booked at that time",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
         )
     })
     public ResponseEntity<Void> joinRoom(@PathVariable UUID id) {
@@ -1,11 +1,18 @@
 package com.footbook.controller;
 
+import com.footbook.dto.response.error.ErrorResponse;
 import com.footbook.dto.response.search.SearchResponse;
+import com.footbook.dto.response.search.SuggestionResponse;
 import com.footbook.service.SearchService;
+import com.footbook.service.SuggestService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -14,6 +21,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/search")
 @Validated
@@ -21,18 +30,53 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Search", description = "Global search endpoints")
 public class SearchController {
     private final SearchService searchService;
+    private final SuggestService suggestService;
 
     @GetMapping
     @Operation(
         summary = "Global search",
-        description = "Search across branches, rooms, and teams. Optional type filter: 'branches', 'rooms', 'teams', 'individual_rooms', or 'team_rooms'"
+        description = "Search across branches, rooms, and teams. Optional type filter: 'branches', 'rooms', 'teams', 'individual_rooms', or 'team_rooms'. " +
+            "Optional mode: 'fulltext' (default) or 'fuzzy' for typo-tolerant matching on branch, team and player names. " +
+            "Results are ranked by relevance and paged per type; pass a cursor from nextCursors to fetch the next page of that type. " +
+            "Each type ranks at most app.search.max-candidates matches (1000 by default): for rooms, the latest-starting ones " +
+            "of each matching branch, team or owner; branches and teams in ID order. Matches beyond that depth are not returned " +
+            "on any page; narrow the query to reach them. " +
+            "Types that could not be searched in time are listed in missingTypes"
     )
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Search results retrieved successfully")
+        @ApiResponse(responseCode = "200", description = "Search results retrieved successfully"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid search mode, cursor or page size",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
     })
     public ResponseEntity<SearchResponse> search(
         @RequestParam String query,
-        @RequestParam(required = false) String type) {
-        return ResponseEntity.ok(searchService.search(query, type));
+        @RequestParam(required = false) String type,
+        @RequestParam(required = false) String mode,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "10") @Min(1) @Max(50) int size) {
+        return ResponseEntity.ok(searchService.search(query, type, mode, cursor, size));
+    }
+
+    @GetMapping("/suggest")
+    @Operation(
+        summary = "Autocomplete suggestions",
+        description = "Suggest branch, team and player names where the name or one of its words starts with the prefix. " +
+            "Served from memory and intended to be called on every keystroke"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid limit",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    public ResponseEntity<List<SuggestionResponse>> suggest(
+        @RequestParam String prefix,
+        @RequestParam(defaultValue = "8") @Min(1) @Max(10) int limit) {
+        return ResponseEntity.ok(suggestService.suggest(prefix, limit));
     }
 }
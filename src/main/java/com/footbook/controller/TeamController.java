@@ -20,6 +20,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -85,6 +86,29 @@ public class TeamController {
         return ResponseEntity.ok(teamService.getAllTeams(name, pageable));
     }
 
+    @GetMapping("/slice")
+    @Operation(
+        summary = "Get teams without a total count",
+        description = "Retrieves one page of active teams with optional name filtering, reporting only whether another page follows. Cheaper than the paginated list when the total is not shown."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Teams retrieved successfully")
+    })
+    public ResponseEntity<Slice<TeamResponse>> getActiveTeamsSlice(
+        @RequestParam(required = false) String name,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size,
+        @RequestParam(defaultValue = "name") String sortBy,
+        @RequestParam(defaultValue = "ASC") String sortDirection) {
+
+        Sort sort = sortDirection.equalsIgnoreCase("DESC")
+            ? Sort.by(sortBy).descending()
+            : Sort.by(sortBy).ascending();
+
+        Pageable pageable = PageRequest.of(page, size, sort);
+        return ResponseEntity.ok(teamService.getActiveTeamsSlice(name, pageable));
+    }
+
     @GetMapping("/{id}")
     @Operation(
         summary = "Get team details",
@@ -1,10 +1,12 @@
 package com.footbook.controller;
 
 import com.footbook.dto.request.room.CreateTeamRoomRequest;
+import com.footbook.dto.request.room.CreateTeamRoomSeriesRequest;
 import com.footbook.dto.request.room.JoinTeamRoomRequest;
 import com.footbook.dto.response.error.ErrorResponse;
 import com.footbook.dto.response.room.TeamRoomDetailResponse;
 import com.footbook.dto.response.room.TeamRoomResponse;
+import com.footbook.dto.response.room.TeamRoomSeriesResponse;
 import com.footbook.service.TeamRoomService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -27,6 +29,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -48,29 +51,65 @@ public class TeamRoomController {
         @ApiResponse(responseCode = "201", description = "Team room created successfully"),
         @ApiResponse(
             responseCode = "400",
-            description = "Invalid input, not captain, team not full, or time conflict",
+            description = "Invalid input, not captain, or team not full",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))
         ),
         @ApiResponse(
             responseCode = "401",
             description = "Unauthorized",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "The team or one of its members is booked at that time, or every pitch of the branch is",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
         )
     })
     public ResponseEntity<TeamRoomResponse> createRoom(@Valid @RequestBody CreateTeamRoomRequest request) {
         return ResponseEntity.status(HttpStatus.CREATED).body(teamRoomService.createRoom(request));
     }
 
+    @PostMapping("/series")
+    @PreAuthorize("hasAuthority('CUSTOMER') or hasAuthority('ADMIN')")
+    @Operation(
+        summary = "Create a recurring series of team rooms",
+        description = "Creates the same team room weekly or biweekly for the given number of occurrences (captain only). Every occurrence is validated before any is created, and conflicting dates are listed in the error.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Series created successfully"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid input, not captain, or team not full",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "The team, one of its members, or every pitch of the branch is booked on any occurrence",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    public ResponseEntity<TeamRoomSeriesResponse> createRoomSeries(@Valid @RequestBody CreateTeamRoomSeriesRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(teamRoomService.createRoomSeries(request));
+    }
+
     @GetMapping
     @Operation(
         summary = "Get all team rooms",
-        description = "Retrieves a paginated list of team rooms with optional filtering"
+        description = "Retrieves a paginated list of team rooms with optional filtering. With near=latitude,longitude only upcoming rooms of branches within radiusKm are listed, nearest branch first and then by start time, and sortBy is ignored."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Rooms retrieved successfully")
     })
     public ResponseEntity<Page<TeamRoomResponse>> getAllRooms(
         @RequestParam(required = false) UUID branchId,
+        @RequestParam(required = false) String near,
+        @RequestParam(required = false) Double radiusKm,
         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
         @RequestParam(required = false) Integer teamSize,
@@ -86,7 +125,7 @@ public class TeamRoomController {
             : Sort.by(sortFields).ascending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        return ResponseEntity.ok(teamRoomService.getAllRooms(branchId, startDate, endDate, teamSize, status, pageable));
+        return ResponseEntity.ok(teamRoomService.getAllRooms(branchId, near, radiusKm, startDate, endDate, teamSize, status, pageable));
     }
 
     @GetMapping("/{id}")
@@ -106,6 +145,39 @@ public class TeamRoomController {
         return ResponseEntity.ok(teamRoomService.getRoomById(id));
     }
 
+    @GetMapping("/match")
+    @PreAuthorize("hasAuthority('CUSTOMER') or hasAuthority('ADMIN')")
+    @Operation(
+        summary = "Find an opponent room for your team",
+        description = "Finds the earliest open team room of your team's size, optionally at the given branches and within the given dates, at which neither your team nor any of its members is already booked (captain only). The room is not joined.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Matching room found"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Not captain, team not full, or date range too long",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Team not found or no room matches",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    public ResponseEntity<TeamRoomResponse> findMatch(
+        @RequestParam UUID teamId,
+        @RequestParam(required = false) List<UUID> branchIds,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(teamRoomService.findMatch(teamId, branchIds, startDate, endDate));
+    }
+
     @PostMapping("/{id}/join")
     @PreAuthorize("hasAuthority('CUSTOMER') or hasAuthority('ADMIN')")
     @Operation(
@@ -117,7 +189,7 @@ public class TeamRoomController {
         @ApiResponse(responseCode = "200", description = "Successfully joined the room"),
         @ApiResponse(
             responseCode = "400",
-            description = "Not captain, team size mismatch, team not full, or time conflict",
+            description = "Not captain, team size mismatch, or team not full",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))
         ),
         @ApiResponse(
@@ -129,6 +201,11 @@ public class TeamRoomController {
             responseCode = "404",
             description = "Room or team not found",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Room already matched, or the team or one of its members is booked at that time",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
         )
     })
     public ResponseEntity<Void> joinRoom(
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.UUID;
 
@@ -22,6 +23,12 @@ public class IndividualRoom extends BaseEntity {
     @Column(name = "branch_id", nullable = false)
     private UUID branchId;
 
+    @Column(name = "pitch_id")
+    private UUID pitchId;
+
+    @Column(name = "series_id")
+    private UUID seriesId;
+
     @Column(name = "owner_id", nullable = false)
     private UUID ownerId;
 
@@ -34,9 +41,20 @@ public class IndividualRoom extends BaseEntity {
     @Column(name = "end_time", nullable = false)
     private LocalTime endTime;
 
+    // Generated by the database from the date and times; used for range queries only
+    @Column(name = "starts_at", insertable = false, updatable = false)
+    private LocalDateTime startsAt;
+
+    @Column(name = "ends_at", insertable = false, updatable = false)
+    private LocalDateTime endsAt;
+
     @Column(name = "total_slots", nullable = false)
     private Integer totalSlots;
 
+    // Changed only by the reserve and release statements, never by saving the entity
+    @Column(name = "filled_slots", nullable = false, updatable = false)
+    private Integer filledSlots;
+
     @Column(name = "notes", columnDefinition = "TEXT")
     private String notes;
 
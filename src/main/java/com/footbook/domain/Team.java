@@ -32,6 +32,10 @@ public class Team extends BaseEntity {
     @Column(name = "roster_size", nullable = false)
     private Integer rosterSize;
 
+    // Changed only by the add and remove member statements, never by saving the entity
+    @Column(name = "member_count", nullable = false, updatable = false)
+    private Integer memberCount;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false, length = 20)
     private TeamStatus status;
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.UUID;
 
@@ -22,6 +23,12 @@ public class TeamRoom extends BaseEntity {
     @Column(name = "branch_id", nullable = false)
     private UUID branchId;
 
+    @Column(name = "pitch_id")
+    private UUID pitchId;
+
+    @Column(name = "series_id")
+    private UUID seriesId;
+
     @Column(name = "creator_team_id", nullable = false)
     private UUID creatorTeamId;
 
@@ -37,6 +44,13 @@ public class TeamRoom extends BaseEntity {
     @Column(name = "end_time", nullable = false)
     private LocalTime endTime;
 
+    // Generated by the database from the date and times; used for range queries only
+    @Column(name = "starts_at", insertable = false, updatable = false)
+    private LocalDateTime startsAt;
+
+    @Column(name = "ends_at", insertable = false, updatable = false)
+    private LocalDateTime endsAt;
+
     @Column(name = "required_team_size", nullable = false)
     private Integer requiredTeamSize;
 
@@ -0,0 +1,117 @@
+package com.footbook.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * One row of the per-user booking read model: a room the user takes part in, flattened with
+ * its branch. Rows are never written through JPA; they are copied from the
+ * {@code user_booking_live} view whenever one of the underlying rooms, teams, branches or
+ * users changes.
+ */
+@Entity
+@Table(name = "user_booking_timeline")
+@IdClass(UserBookingTimelineEntry.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserBookingTimelineEntry {
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Id
+    @Column(name = "room_id", nullable = false)
+    private UUID roomId;
+
+    @Column(name = "booking_type", nullable = false, length = 20)
+    private String bookingType;
+
+    @Column(name = "scheduled_date", nullable = false)
+    private LocalDate scheduledDate;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalTime endTime;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "room_created_at", nullable = false)
+    private LocalDateTime roomCreatedAt;
+
+    @Column(name = "total_slots")
+    private Integer totalSlots;
+
+    @Column(name = "filled_slots")
+    private Integer filledSlots;
+
+    @Column(name = "owner_name")
+    private String ownerName;
+
+    @Column(name = "creator_team_name")
+    private String creatorTeamName;
+
+    @Column(name = "opponent_team_name")
+    private String opponentTeamName;
+
+    @Column(name = "required_team_size")
+    private Integer requiredTeamSize;
+
+    @Column(name = "branch_id", nullable = false)
+    private UUID branchId;
+
+    @Column(name = "branch_name", nullable = false)
+    private String branchName;
+
+    @Column(name = "branch_address", nullable = false, columnDefinition = "TEXT")
+    private String branchAddress;
+
+    @Column(name = "branch_google_maps_url", columnDefinition = "TEXT")
+    private String branchGoogleMapsUrl;
+
+    @Column(name = "branch_operating_hours_start", nullable = false)
+    private LocalTime branchOperatingHoursStart;
+
+    @Column(name = "branch_operating_hours_end", nullable = false)
+    private LocalTime branchOperatingHoursEnd;
+
+    @Column(name = "branch_contact_phone", length = 50)
+    private String branchContactPhone;
+
+    @Column(name = "branch_contact_email")
+    private String branchContactEmail;
+
+    @Column(name = "branch_latitude", precision = 10, scale = 8)
+    private BigDecimal branchLatitude;
+
+    @Column(name = "branch_longitude", precision = 11, scale = 8)
+    private BigDecimal branchLongitude;
+
+    @Column(name = "branch_is_active", nullable = false)
+    private Boolean branchIsActive;
+
+    @Column(name = "branch_created_at", nullable = false)
+    private LocalDateTime branchCreatedAt;
+
+    @Column(name = "branch_updated_at", nullable = false)
+    private LocalDateTime branchUpdatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID userId;
+        private UUID roomId;
+    }
+}
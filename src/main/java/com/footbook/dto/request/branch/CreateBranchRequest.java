@@ -1,6 +1,8 @@
 package com.footbook.dto.request.branch;
 
 import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 
 import java.math.BigDecimal;
@@ -27,6 +29,10 @@ public record CreateBranchRequest(
 
     BigDecimal latitude,
 
-    BigDecimal longitude
+    BigDecimal longitude,
+
+    @Min(value = 1, message = "A branch needs at least one pitch")
+    @Max(value = 50, message = "A branch can have at most 50 pitches")
+    Integer pitchCount
 ) {
 }
@@ -0,0 +1,22 @@
+package com.footbook.dto.request.room;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public record CreateIndividualRoomSeriesRequest(
+    @NotNull(message = "Room details are required")
+    @Valid
+    CreateIndividualRoomRequest room,
+
+    @NotBlank(message = "Recurrence is required (WEEKLY or BIWEEKLY)")
+    String recurrence,
+
+    @NotNull(message = "Number of occurrences is required")
+    @Min(value = 2, message = "A series must have at least 2 occurrences")
+    @Max(value = 26, message = "A series can have at most 26 occurrences")
+    Integer occurrences
+) {
+}
@@ -0,0 +1,9 @@
+package com.footbook.dto.response.booking;
+
+import java.util.List;
+
+public record BookingPageResponse(
+    List<BookingResponse> bookings,
+    String nextCursor
+) {
+}
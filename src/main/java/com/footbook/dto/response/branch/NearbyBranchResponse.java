@@ -0,0 +1,7 @@
+package com.footbook.dto.response.branch;
+
+public record NearbyBranchResponse(
+    BranchResponse branch,
+    double distanceKm
+) {
+}
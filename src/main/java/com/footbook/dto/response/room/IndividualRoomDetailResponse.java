@@ -16,6 +16,8 @@ public record IndividualRoomDetailResponse(
     Integer totalSlots,
     Integer filledSlots,
     Integer availableSlots,
+    Integer heldSlots,
+    LocalDateTime holdExpiresAt,
     String notes,
     String status,
     List<ParticipantInfo> participants,
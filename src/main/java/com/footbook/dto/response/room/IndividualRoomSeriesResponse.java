@@ -0,0 +1,11 @@
+package com.footbook.dto.response.room;
+
+import java.util.List;
+import java.util.UUID;
+
+public record IndividualRoomSeriesResponse(
+    UUID seriesId,
+    String recurrence,
+    List<IndividualRoomResponse> rooms
+) {
+}
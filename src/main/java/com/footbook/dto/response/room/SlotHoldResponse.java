@@ -0,0 +1,10 @@
+package com.footbook.dto.response.room;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record SlotHoldResponse(
+    UUID roomId,
+    LocalDateTime expiresAt
+) {
+}
@@ -0,0 +1,11 @@
+package com.footbook.dto.response.room;
+
+import java.util.List;
+import java.util.UUID;
+
+public record TeamRoomSeriesResponse(
+    UUID seriesId,
+    String recurrence,
+    List<TeamRoomResponse> rooms
+) {
+}
@@ -12,6 +12,18 @@ public record SearchResponse(
     List<IndividualRoomResponse> individualRooms,
     List<TeamRoomResponse> teamRooms,
     List<TeamResponse> teams,
-    int totalResults
+    int totalResults,
+    NextCursors nextCursors,
+    List<String> missingTypes
 ) {
+    /**
+     * Cursor for the next page of each result type; null when that type has no further results.
+     */
+    public record NextCursors(
+        String branches,
+        String individualRooms,
+        String teamRooms,
+        String teams
+    ) {
+    }
 }
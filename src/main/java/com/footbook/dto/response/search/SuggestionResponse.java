@@ -0,0 +1,10 @@
+package com.footbook.dto.response.search;
+
+import java.util.UUID;
+
+public record SuggestionResponse(
+    UUID id,
+    String type,
+    String name
+) {
+}
@@ -0,0 +1,20 @@
+package com.footbook.event;
+
+import java.util.UUID;
+
+/**
+ * Published by the write services whenever a searchable entity is created, modified or removed.
+ * Listeners that keep derived in-memory state should consume it after the transaction commits.
+ */
+public record EntityChangedEvent(
+    EntityType entityType,
+    UUID entityId
+) {
+    public enum EntityType {
+        BRANCH,
+        TEAM,
+        INDIVIDUAL_ROOM,
+        TEAM_ROOM,
+        USER
+    }
+}
@@ -0,0 +1,13 @@
+package com.footbook.exception;
+
+/**
+ * Thrown when a room has no slot left that is not already held by another player, when every
+ * pitch of a branch is booked for the requested time, or when the pitch chosen for a room was
+ * booked by someone else in the meantime. Also thrown when the player or team is already booked
+ * at an overlapping time, and when another team has matched the room first.
+ */
+public class SlotUnavailableException extends RuntimeException {
+    public SlotUnavailableException(String message) {
+        super(message);
+    }
+}
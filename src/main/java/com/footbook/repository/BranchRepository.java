@@ -1,6 +1,7 @@
 package com.footbook.repository;
 
 import com.footbook.domain.Branch;
+import com.footbook.repository.projection.SearchHit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -22,5 +23,56 @@ public interface BranchRepository extends JpaRepository<Branch, UUID> {
 
     List<Branch> findByIsActiveTrueOrderByNameAsc();
 
+    List<Branch> findByIsActiveTrueAndLatitudeIsNotNullAndLongitudeIsNotNull();
+
     boolean existsByIdAndIsActiveTrue(UUID id);
+
+    /**
+     * Ranks at most {@code maxCandidates} matches, taken in ID order, so a deep page does not score
+     * every match again.
+     */
+    @Query(value = "WITH candidates AS MATERIALIZED (" +
+        "SELECT b.id FROM branches b " +
+        "WHERE b.is_active = true AND b.search_vector @@ to_tsquery('simple', :tsQuery) " +
+        "ORDER BY b.id LIMIT :maxCandidates" +
+        ") " +
+        "SELECT h.id AS id, h.score AS score FROM (" +
+        "SELECT b.id, ts_rank(b.search_vector, q) AS score " +
+        "FROM candidates c JOIN branches b ON b.id = c.id, to_tsquery('simple', :tsQuery) q" +
+        ") h " +
+        "WHERE h.score < :afterScore OR (h.score = :afterScore AND h.id > :afterId) " +
+        "ORDER BY h.score DESC, h.id ASC " +
+        "LIMIT :limit", nativeQuery = true)
+    List<SearchHit> searchActiveByText(
+        @Param("tsQuery") String tsQuery, @Param("afterScore") float afterScore,
+        @Param("afterId") UUID afterId, @Param("limit") int limit,
+        @Param("maxCandidates") int maxCandidates
+    );
+
+    /**
+     * Like {@link #searchActiveByText}, ranks at most {@code maxCandidates} matches.
+     */
+    @Query(value = "WITH candidates AS MATERIALIZED (" +
+        "SELECT b.id FROM branches b " +
+        "WHERE b.is_active = true AND b.name % :term " +
+        "ORDER BY b.id LIMIT :maxCandidates" +
+        ") " +
+        "SELECT h.id AS id, h.score AS score FROM (" +
+        "SELECT b.id, similarity(b.name, :term) AS score " +
+        "FROM candidates c JOIN branches b ON b.id = c.id" +
+        ") h " +
+        "WHERE h.score < :afterScore OR (h.score = :afterScore AND h.id > :afterId) " +
+        "ORDER BY h.score DESC, h.id ASC " +
+        "LIMIT :limit", nativeQuery = true)
+    List<SearchHit> searchActiveBySimilarity(
+        @Param("term") String term, @Param("afterScore") float afterScore,
+        @Param("afterId") UUID afterId, @Param("limit") int limit,
+        @Param("maxCandidates") int maxCandidates
+    );
+
+    @Query(value = "SELECT set_config('pg_trgm.similarity_threshold', :threshold, true)", nativeQuery = true)
+    String setSimilarityThreshold(@Param("threshold") String threshold);
+
+    @Query(value = "SELECT set_config('statement_timeout', :timeoutMs, true)", nativeQuery = true)
+    String setStatementTimeout(@Param("timeoutMs") String timeoutMs);
 }
@@ -2,12 +2,15 @@ package com.footbook.repository;
 
 import com.footbook.domain.IndividualRoomParticipant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,36 +19,109 @@ import java.util.UUID;
 public interface IndividualRoomParticipantRepository extends JpaRepository<IndividualRoomParticipant, UUID> {
     List<IndividualRoomParticipant> findByRoomIdOrderByJoinedAtAsc(UUID roomId);
 
-    long countByRoomId(UUID roomId);
-
     boolean existsByRoomIdAndUserId(UUID roomId, UUID userId);
 
     Optional<IndividualRoomParticipant> findByRoomIdAndUserId(UUID roomId, UUID userId);
 
-    void deleteByRoomIdAndUserId(UUID roomId, UUID userId);
+    /**
+     * Adds the user to the room, occupying their time in {@code user_bookings}. The exclusion
+     * constraint there turns an overlapping booking into a skipped insert rather than an error.
+     *
+     * @return 1 if the user was added, 0 if they already are in the room or are booked into
+     * another room at an overlapping time
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "WITH occupied AS (" +
+        "INSERT INTO user_bookings (user_id, room_id, scheduled_date, start_time, end_time) " +
+        "VALUES (:userId, :roomId, :date, :startTime, :endTime) " +
+        "ON CONFLICT DO NOTHING " +
+        "RETURNING room_id, user_id" +
+        ") " +
+        "INSERT INTO individual_room_participants (room_id, user_id, joined_at) " +
+        "SELECT room_id, user_id, :joinedAt FROM occupied " +
+        "ON CONFLICT (room_id, user_id) DO NOTHING", nativeQuery = true)
+    int insertIfFree(
+        @Param("roomId") UUID roomId,
+        @Param("userId") UUID userId,
+        @Param("joinedAt") LocalDateTime joinedAt,
+        @Param("date") LocalDate date,
+        @Param("startTime") LocalTime startTime,
+        @Param("endTime") LocalTime endTime
+    );
 
-    @Query("SELECT p FROM IndividualRoomParticipant p " +
-        "JOIN IndividualRoom r ON p.roomId = r.id " +
-        "WHERE p.userId = :userId " +
-        "AND r.status <> 'CANCELLED' " +
-        "AND (r.scheduledDate > :today OR (r.scheduledDate = :today AND r.startTime >= :currentTime)) " +
-        "ORDER BY r.scheduledDate ASC, r.startTime ASC")
-    List<IndividualRoomParticipant> findUpcomingParticipationsByUser(
+    /**
+     * Dates among {@code dates}, formatted as yyyy-MM-dd, on which the user is already booked into
+     * an individual room overlapping {@code [startTime, endTime)}. Rooms never span midnight, so
+     * overlaps are always on the same date.
+     */
+    @Query(value = "SELECT DISTINCT to_char(ub.scheduled_date, 'YYYY-MM-DD') AS conflict_date FROM user_bookings ub " +
+        "WHERE ub.user_id = :userId " +
+        "AND ub.scheduled_date IN (:dates) " +
+        "AND ub.start_time < :endTime AND ub.end_time > :startTime " +
+        "ORDER BY conflict_date", nativeQuery = true)
+    List<String> findConflictingDates(
         @Param("userId") UUID userId,
-        @Param("today") LocalDate today,
-        @Param("currentTime") LocalTime currentTime
+        @Param("dates") Collection<LocalDate> dates,
+        @Param("startTime") LocalTime startTime,
+        @Param("endTime") LocalTime endTime
     );
 
+    /**
+     * Adds each room owner of the series as its first participant, occupying their time the
+     * same way as {@link #insertIfFree}.
+     *
+     * @return number of rooms the owner was added to; fewer than the series has rooms means a conflict
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "WITH occupied AS (" +
+        "INSERT INTO user_bookings (user_id, room_id, scheduled_date, start_time, end_time) " +
+        "SELECT r.owner_id, r.id, r.scheduled_date, r.start_time, r.end_time " +
+        "FROM individual_rooms r WHERE r.series_id = :seriesId " +
+        "ON CONFLICT DO NOTHING " +
+        "RETURNING room_id, user_id" +
+        ") " +
+        "INSERT INTO individual_room_participants (room_id, user_id, joined_at) " +
+        "SELECT room_id, user_id, :joinedAt FROM occupied", nativeQuery = true)
+    int insertSeriesOwners(@Param("seriesId") UUID seriesId, @Param("joinedAt") LocalDateTime joinedAt);
+
+    /**
+     * Removes the user from the room and frees their time.
+     *
+     * @return 1 if the user was in the room, 0 otherwise
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "WITH freed AS (" +
+        "DELETE FROM user_bookings WHERE room_id = :roomId AND user_id = :userId" +
+        ") " +
+        "DELETE FROM individual_room_participants WHERE room_id = :roomId AND user_id = :userId", nativeQuery = true)
+    int deleteParticipation(@Param("roomId") UUID roomId, @Param("userId") UUID userId);
+
+    /**
+     * Frees the time of every participant, for a room that no longer takes place.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM user_bookings WHERE room_id = :roomId", nativeQuery = true)
+    int releaseUserBookings(@Param("roomId") UUID roomId);
+
+    /**
+     * Driven by the user's bookings that have not ended yet, found through the {@code user_bookings}
+     * overlap index, so only upcoming rooms are read rather than every room the user ever joined.
+     * Cancelled rooms hold no bookings.
+     */
+    @Query(value = "SELECT p.* FROM user_bookings ub " +
+        "JOIN individual_rooms r ON r.id = ub.room_id " +
+        "JOIN individual_room_participants p ON p.room_id = ub.room_id AND p.user_id = ub.user_id " +
+        "WHERE ub.user_id = :userId " +
+        "AND ub.during && tsrange(:now, NULL) " +
+        "AND r.status <> 'CANCELLED' " +
+        "AND r.starts_at >= :now " +
+        "ORDER BY r.starts_at ASC", nativeQuery = true)
+    List<IndividualRoomParticipant> findUpcomingParticipationsByUser(@Param("userId") UUID userId, @Param("now") LocalDateTime now);
+
     @Query("SELECT p FROM IndividualRoomParticipant p " +
         "JOIN IndividualRoom r ON p.roomId = r.id " +
         "WHERE p.userId = :userId " +
-        "AND (r.scheduledDate < :today OR (r.scheduledDate = :today AND r.startTime < :currentTime)) " +
-        "ORDER BY r.scheduledDate DESC, r.startTime DESC")
-    List<IndividualRoomParticipant> findPastParticipationsByUser(
-        @Param("userId") UUID userId,
-        @Param("today") LocalDate today,
-        @Param("currentTime") LocalTime currentTime
-    );
-
-    List<IndividualRoomParticipant> findByRoomIdIn(List<UUID> roomIds);
+        "AND r.startsAt < :now " +
+        "ORDER BY r.startsAt DESC")
+    List<IndividualRoomParticipant> findPastParticipationsByUser(@Param("userId") UUID userId, @Param("now") LocalDateTime now);
 }
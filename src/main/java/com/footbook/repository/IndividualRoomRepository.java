@@ -1,15 +1,20 @@
 package com.footbook.repository;
 
 import com.footbook.domain.IndividualRoom;
+import com.footbook.repository.projection.SearchHit;
+import com.footbook.repository.projection.SlotReservation;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
-import java.time.LocalTime;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -30,47 +35,179 @@ public interface IndividualRoomRepository extends JpaRepository<IndividualRoom,
         Pageable pageable
     );
 
-    @Query("SELECT CASE WHEN COUNT(r) > 0 THEN true ELSE false END " +
-        "FROM IndividualRoom r " +
-        "JOIN IndividualRoomParticipant p ON r.id = p.roomId " +
-        "WHERE p.userId = :userId " +
-        "AND r.scheduledDate = :date " +
-        "AND r.status <> 'CANCELLED' " +
-        "AND NOT (r.endTime <= :startTime OR r.startTime >= :endTime)")
-    boolean hasUserConflict(
-        @Param("userId") UUID userId,
-        @Param("date") LocalDate date,
-        @Param("startTime") LocalTime startTime,
-        @Param("endTime") LocalTime endTime
-    );
-
-    @Query("SELECT CASE WHEN COUNT(r) > 0 THEN true ELSE false END " +
-        "FROM IndividualRoom r " +
-        "JOIN IndividualRoomParticipant p ON r.id = p.roomId " +
-        "WHERE p.userId = :userId " +
-        "AND r.id <> :excludeRoomId " +
-        "AND r.scheduledDate = :date " +
-        "AND r.status <> 'CANCELLED' " +
-        "AND NOT (r.endTime <= :startTime OR r.startTime >= :endTime)")
-    boolean hasUserConflictExcludingRoom(
-        @Param("userId") UUID userId,
-        @Param("excludeRoomId") UUID excludeRoomId,
-        @Param("date") LocalDate date,
-        @Param("startTime") LocalTime startTime,
-        @Param("endTime") LocalTime endTime
+    /**
+     * Rooms of the given branches starting within {@code [from, to)}, for nearby lookups.
+     * Served by the {@code (branch_id, starts_at)} index.
+     */
+    @Query("SELECT r FROM IndividualRoom r WHERE " +
+        "r.branchId IN :branchIds AND " +
+        "r.startsAt >= :from AND r.startsAt < :to AND " +
+        "(:status IS NULL OR r.status = :status) AND " +
+        "r.status <> 'CANCELLED' " +
+        "ORDER BY r.startsAt ASC, r.id ASC")
+    List<IndividualRoom> findRoomsNear(
+        @Param("branchIds") Collection<UUID> branchIds,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to,
+        @Param("status") IndividualRoom.RoomStatus status
     );
 
     Optional<IndividualRoom> findByIdAndStatusNot(UUID id, IndividualRoom.RoomStatus status);
 
-    List<IndividualRoom> findByOwnerIdOrderByScheduledDateDescStartTimeDesc(UUID ownerId);
+    List<IndividualRoom> findByStatusNotAndIdGreaterThanOrderByIdAsc(IndividualRoom.RoomStatus status, UUID afterId, Limit limit);
+
+    List<IndividualRoom> findByOwnerIdOrderByStartsAtDesc(UUID ownerId);
 
     @Query("SELECT r FROM IndividualRoom r WHERE r.ownerId = :ownerId " +
         "AND r.status <> 'CANCELLED' " +
-        "AND (r.scheduledDate > :today OR (r.scheduledDate = :today AND r.startTime >= :currentTime)) " +
-        "ORDER BY r.scheduledDate ASC, r.startTime ASC")
-    List<IndividualRoom> findUpcomingRoomsByOwner(
-        @Param("ownerId") UUID ownerId,
-        @Param("today") LocalDate today,
-        @Param("currentTime") LocalTime currentTime
+        "AND r.startsAt >= :now " +
+        "ORDER BY r.startsAt ASC")
+    List<IndividualRoom> findUpcomingRoomsByOwner(@Param("ownerId") UUID ownerId, @Param("now") LocalDateTime now);
+
+    /**
+     * Takes one slot of an open room, marking it FULL when that was the last one.
+     * Concurrent reservations of the same room queue on its row lock, so the room cannot be overbooked.
+     *
+     * @return the reserved room, or empty if it is missing, cancelled or already full
+     */
+    @Query(value = "UPDATE individual_rooms SET filled_slots = filled_slots + 1, " +
+        "status = CASE WHEN filled_slots + 1 >= total_slots THEN 'FULL' ELSE status END, " +
+        "updated_at = now() " +
+        "WHERE id = :roomId AND status = 'OPEN' AND filled_slots < total_slots " +
+        "RETURNING scheduled_date AS scheduledDate, start_time AS startTime, end_time AS endTime, status AS status",
+        nativeQuery = true)
+    Optional<SlotReservation> reserveSlot(@Param("roomId") UUID roomId);
+
+    /**
+     * Gives one slot back, reopening the room if it was full.
+     */
+    @Modifying
+    @Query(value = "UPDATE individual_rooms SET filled_slots = filled_slots - 1, " +
+        "status = CASE WHEN status = 'FULL' THEN 'OPEN' ELSE status END, " +
+        "updated_at = now() " +
+        "WHERE id = :roomId", nativeQuery = true)
+    int releaseSlot(@Param("roomId") UUID roomId);
+
+    /**
+     * Cancels the room unless it already is, without overwriting slots reserved concurrently.
+     *
+     * @return 1 if the room was cancelled, 0 if it is missing or already cancelled
+     */
+    @Modifying
+    @Query(value = "UPDATE individual_rooms SET status = 'CANCELLED', updated_at = now() " +
+        "WHERE id = :roomId AND status <> 'CANCELLED'", nativeQuery = true)
+    int cancelRoom(@Param("roomId") UUID roomId);
+
+    /**
+     * Resets every slot counter that differs from the actual number of participants, along with
+     * the OPEN or FULL status that follows from it. Rooms with more participants than slots are
+     * counted as full rather than past capacity, which the slot constraint does not allow.
+     *
+     * @return number of rooms corrected
+     */
+    @Modifying
+    @Query(value = "UPDATE individual_rooms r SET filled_slots = LEAST(c.participants, r.total_slots), " +
+        "status = CASE WHEN r.status = 'CANCELLED' THEN r.status " +
+        "WHEN c.participants >= r.total_slots THEN 'FULL' ELSE 'OPEN' END " +
+        "FROM (SELECT r2.id, count(p.id) AS participants FROM individual_rooms r2 " +
+        "LEFT JOIN individual_room_participants p ON p.room_id = r2.id GROUP BY r2.id) c " +
+        "WHERE c.id = r.id AND r.filled_slots <> LEAST(c.participants, r.total_slots)", nativeQuery = true)
+    int reconcileFilledSlots();
+
+    /**
+     * @return number of rooms with more participants than slots
+     */
+    @Query(value = "SELECT count(*) FROM individual_rooms r WHERE r.total_slots < " +
+        "(SELECT count(*) FROM individual_room_participants p WHERE p.room_id = r.id)", nativeQuery = true)
+    long countOverbookedRooms();
+
+    // Latest-starting rooms of one matching branch or owner, its share of the ranked candidates
+    String LATEST_ROOMS_OF_BRANCH = "SELECT r.id, r.starts_at, r.branch_id, r.owner_id FROM individual_rooms r " +
+        "WHERE r.branch_id = mb.id AND r.status <> 'CANCELLED' " +
+        "ORDER BY r.starts_at DESC, r.id DESC LIMIT (SELECT n FROM share)";
+    String LATEST_ROOMS_OF_OWNER = "SELECT r.id, r.starts_at, r.branch_id, r.owner_id FROM individual_rooms r " +
+        "WHERE r.owner_id = mu.id AND r.status <> 'CANCELLED' " +
+        "ORDER BY r.starts_at DESC, r.id DESC LIMIT (SELECT n FROM share)";
+
+    /**
+     * Each table is probed through its own search vector index and the matching room IDs are
+     * merged before ranking, since a match condition ORed across the joined tables could only be
+     * answered by scanning the whole join.
+     * <p>
+     * At most {@code maxCandidates} rooms are ranked, so a deep page costs the same as the first.
+     * The rooms matching on their own text, and each matching branch and owner, contribute an even
+     * share of them, the latest-starting ones, rather than every room a branch or owner ever had.
+     */
+    @Query(value = "WITH mb AS (" +
+        "SELECT b.id FROM branches b WHERE b.search_vector @@ to_tsquery('simple', :tsQuery) " +
+        "ORDER BY b.id LIMIT :maxCandidates" +
+        "), " +
+        "mu AS (" +
+        "SELECT u.id FROM users u WHERE u.search_vector @@ to_tsquery('simple', :tsQuery) " +
+        "ORDER BY u.id LIMIT :maxCandidates" +
+        "), " +
+        "share AS (" +
+        "SELECT greatest(1, :maxCandidates / (1 + (SELECT count(*) FROM mb) + (SELECT count(*) FROM mu))) AS n" +
+        "), " +
+        "candidates AS MATERIALIZED (" +
+        "(SELECT r.id, r.starts_at, r.branch_id, r.owner_id FROM individual_rooms r " +
+        "WHERE r.search_vector @@ to_tsquery('simple', :tsQuery) AND r.status <> 'CANCELLED' " +
+        "ORDER BY r.starts_at DESC, r.id DESC LIMIT (SELECT n FROM share)) " +
+        "UNION " +
+        "SELECT c.* FROM mb CROSS JOIN LATERAL (" + LATEST_ROOMS_OF_BRANCH + ") c " +
+        "UNION " +
+        "SELECT c.* FROM mu CROSS JOIN LATERAL (" + LATEST_ROOMS_OF_OWNER + ") c " +
+        "ORDER BY starts_at DESC, id DESC LIMIT :maxCandidates" +
+        ") " +
+        "SELECT h.id AS id, h.score AS score FROM (" +
+        "SELECT r.id, ts_rank(r.search_vector || b.search_vector || u.search_vector, q) AS score " +
+        "FROM candidates m " +
+        "JOIN individual_rooms r ON r.id = m.id " +
+        "JOIN branches b ON b.id = m.branch_id " +
+        "JOIN users u ON u.id = m.owner_id, " +
+        "to_tsquery('simple', :tsQuery) q" +
+        ") h " +
+        "WHERE h.score < :afterScore OR (h.score = :afterScore AND h.id > :afterId) " +
+        "ORDER BY h.score DESC, h.id ASC " +
+        "LIMIT :limit", nativeQuery = true)
+    List<SearchHit> searchByText(
+        @Param("tsQuery") String tsQuery, @Param("afterScore") float afterScore,
+        @Param("afterId") UUID afterId, @Param("limit") int limit,
+        @Param("maxCandidates") int maxCandidates
+    );
+
+    /**
+     * Like {@link #searchByText}, each table is probed through its own trigram index and at most
+     * {@code maxCandidates} rooms, shared evenly across the matching branches and owners, are ranked.
+     */
+    @Query(value = "WITH mb AS (" +
+        "SELECT b.id FROM branches b WHERE b.name % :term ORDER BY b.id LIMIT :maxCandidates" +
+        "), " +
+        "mu AS (" +
+        "SELECT u.id FROM users u WHERE (u.first_name || ' ' || u.last_name) % :term " +
+        "ORDER BY u.id LIMIT :maxCandidates" +
+        "), " +
+        "share AS (" +
+        "SELECT greatest(1, :maxCandidates / greatest(1, (SELECT count(*) FROM mb) + (SELECT count(*) FROM mu))) AS n" +
+        "), " +
+        "candidates AS MATERIALIZED (" +
+        "SELECT c.* FROM mb CROSS JOIN LATERAL (" + LATEST_ROOMS_OF_BRANCH + ") c " +
+        "UNION " +
+        "SELECT c.* FROM mu CROSS JOIN LATERAL (" + LATEST_ROOMS_OF_OWNER + ") c " +
+        "ORDER BY starts_at DESC, id DESC LIMIT :maxCandidates" +
+        ") " +
+        "SELECT h.id AS id, h.score AS score FROM (" +
+        "SELECT m.id, greatest(similarity(b.name, :term), similarity(u.first_name || ' ' || u.last_name, :term)) AS score " +
+        "FROM candidates m " +
+        "JOIN branches b ON b.id = m.branch_id " +
+        "JOIN users u ON u.id = m.owner_id" +
+        ") h " +
+        "WHERE h.score < :afterScore OR (h.score = :afterScore AND h.id > :afterId) " +
+        "ORDER BY h.score DESC, h.id ASC " +
+        "LIMIT :limit", nativeQuery = true)
+    List<SearchHit> searchBySimilarity(
+        @Param("term") String term, @Param("afterScore") float afterScore,
+        @Param("afterId") UUID afterId, @Param("limit") int limit,
+        @Param("maxCandidates") int maxCandidates
     );
 }
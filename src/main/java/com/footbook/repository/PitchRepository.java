@@ -0,0 +1,68 @@
+package com.footbook.repository;
+
+import com.footbook.domain.Pitch;
+import com.footbook.repository.projection.PitchBookingSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface PitchRepository extends JpaRepository<Pitch, UUID> {
+    String PITCH_BOOKING_COLUMNS = "pb.room_id AS roomId, pb.pitch_id AS pitchId, pb.branch_id AS branchId, " +
+        "pb.scheduled_date AS scheduledDate, pb.start_time AS startTime, pb.end_time AS endTime ";
+
+    List<Pitch> findByBranchIdAndIsActiveTrueOrderByNameAsc(UUID branchId);
+
+    @Query(value = "SELECT " + PITCH_BOOKING_COLUMNS +
+        "FROM pitch_bookings pb " +
+        "WHERE pb.branch_id = :branchId AND pb.scheduled_date IN (:dates)", nativeQuery = true)
+    List<PitchBookingSlot> findBookingsByBranchAndDates(@Param("branchId") UUID branchId, @Param("dates") Collection<LocalDate> dates);
+
+    @Query(value = "SELECT " + PITCH_BOOKING_COLUMNS +
+        "FROM pitch_bookings pb WHERE pb.room_id = :roomId", nativeQuery = true)
+    Optional<PitchBookingSlot> findBookingByRoomId(@Param("roomId") UUID roomId);
+
+    /**
+     * Occupies a pitch for a room.
+     *
+     * @throws org.springframework.dao.DataIntegrityViolationException if the pitch is already booked
+     *                                                                  for an overlapping time
+     */
+    @Modifying
+    @Query(value = "INSERT INTO pitch_bookings (room_id, room_type, pitch_id, branch_id, scheduled_date, start_time, end_time) " +
+        "VALUES (:roomId, :roomType, :pitchId, :branchId, :date, :startTime, :endTime)", nativeQuery = true)
+    int insertBooking(
+        @Param("roomId") UUID roomId,
+        @Param("roomType") String roomType,
+        @Param("pitchId") UUID pitchId,
+        @Param("branchId") UUID branchId,
+        @Param("date") LocalDate date,
+        @Param("startTime") LocalTime startTime,
+        @Param("endTime") LocalTime endTime
+    );
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO pitch_bookings (room_id, room_type, pitch_id, branch_id, scheduled_date, start_time, end_time) " +
+        "SELECT r.id, 'INDIVIDUAL', r.pitch_id, r.branch_id, r.scheduled_date, r.start_time, r.end_time " +
+        "FROM individual_rooms r WHERE r.series_id = :seriesId", nativeQuery = true)
+    int insertIndividualSeriesBookings(@Param("seriesId") UUID seriesId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO pitch_bookings (room_id, room_type, pitch_id, branch_id, scheduled_date, start_time, end_time) " +
+        "SELECT r.id, 'TEAM', r.pitch_id, r.branch_id, r.scheduled_date, r.start_time, r.end_time " +
+        "FROM team_rooms r WHERE r.series_id = :seriesId", nativeQuery = true)
+    int insertTeamSeriesBookings(@Param("seriesId") UUID seriesId);
+
+    @Modifying
+    @Query(value = "DELETE FROM pitch_bookings WHERE room_id = :roomId", nativeQuery = true)
+    int deleteBookingByRoomId(@Param("roomId") UUID roomId);
+}
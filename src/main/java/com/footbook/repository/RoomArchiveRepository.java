@@ -0,0 +1,52 @@
+package com.footbook.repository;
+
+import com.footbook.domain.IndividualRoom;
+import com.footbook.repository.projection.ArchivedRoom;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.RepositoryDefinition;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves finished rooms into the monthly partitioned archive tables. The archive has no entities
+ * of its own; every operation is a database function defined by the V17 and V19 migrations.
+ */
+@Repository
+@RepositoryDefinition(domainClass = IndividualRoom.class, idClass = UUID.class)
+public interface RoomArchiveRepository {
+    /**
+     * Marks rooms scheduled before {@code cutoff} as archived for the booking timeline, which
+     * stops projecting them before they are moved.
+     */
+    @Modifying
+    @Query(value = "UPDATE room_archive_state SET archived_before = :cutoff WHERE archived_before < :cutoff", nativeQuery = true)
+    int advanceArchivedBefore(@Param("cutoff") LocalDate cutoff);
+
+    /**
+     * Creates any missing archive partitions from the month of the oldest live room up to {@code cutoff}.
+     *
+     * @return number of partitions created
+     */
+    @Query(value = "SELECT create_room_archive_partitions(COALESCE(LEAST(" +
+        "(SELECT min(scheduled_date) FROM individual_rooms), " +
+        "(SELECT min(scheduled_date) FROM team_rooms)" +
+        "), :cutoff), :cutoff)", nativeQuery = true)
+    int createArchivePartitions(@Param("cutoff") LocalDate cutoff);
+
+    /**
+     * @return the rooms moved, at most {@code maxRooms} of each kind
+     */
+    @Query(value = "SELECT room_type AS roomType, room_id AS roomId FROM archive_rooms_before(:cutoff, :maxRooms)", nativeQuery = true)
+    List<ArchivedRoom> archiveRoomsBefore(@Param("cutoff") LocalDate cutoff, @Param("maxRooms") int maxRooms);
+
+    /**
+     * @return number of partitions detached
+     */
+    @Query(value = "SELECT detach_room_archive_partitions(:beforeMonth)", nativeQuery = true)
+    int detachArchivePartitions(@Param("beforeMonth") LocalDate beforeMonth);
+}
@@ -1,9 +1,13 @@
 package com.footbook.repository;
 
 import com.footbook.domain.Team;
+import com.footbook.repository.projection.SearchHit;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -18,8 +22,17 @@ public interface TeamRepository extends JpaRepository<Team, UUID> {
         "AND (:name IS NULL OR LOWER(t.name) LIKE LOWER(CONCAT('%', :name, '%')))")
     Page<Team> findActiveTeams(@Param("name") String name, Pageable pageable);
 
+    /**
+     * Same as {@link #findActiveTeams} without the count query, for callers that only page forward.
+     */
+    @Query("SELECT t FROM Team t WHERE t.status = 'ACTIVE' " +
+        "AND (:name IS NULL OR LOWER(t.name) LIKE LOWER(CONCAT('%', :name, '%')))")
+    Slice<Team> findActiveTeamsSlice(@Param("name") String name, Pageable pageable);
+
     Optional<Team> findByIdAndStatus(UUID id, Team.TeamStatus status);
 
+    List<Team> findByStatusAndIdGreaterThanOrderByIdAsc(Team.TeamStatus status, UUID afterId, Limit limit);
+
     List<Team> findByCaptainIdAndStatusOrderByCreatedAtDesc(UUID captainId, Team.TeamStatus status);
 
     @Query("SELECT t FROM Team t " +
@@ -29,4 +42,74 @@ public interface TeamRepository extends JpaRepository<Team, UUID> {
     List<Team> findTeamsByMember(@Param("userId") UUID userId);
 
     boolean existsByIdAndStatus(UUID id, Team.TeamStatus status);
+
+    /**
+     * Counts one more member in an active team that still has room on its roster.
+     *
+     * @return 1 if the member was counted, 0 if the team is full or not active
+     */
+    @Modifying
+    @Query(value = "UPDATE teams SET member_count = member_count + 1, updated_at = now() " +
+        "WHERE id = :teamId AND status = 'ACTIVE' AND member_count < roster_size", nativeQuery = true)
+    int incrementMemberCount(@Param("teamId") UUID teamId);
+
+    @Modifying
+    @Query(value = "UPDATE teams SET member_count = member_count - 1, updated_at = now() " +
+        "WHERE id = :teamId", nativeQuery = true)
+    int decrementMemberCount(@Param("teamId") UUID teamId);
+
+    /**
+     * Resets every member count that differs from the actual number of members.
+     *
+     * @return number of teams corrected
+     */
+    @Modifying
+    @Query(value = "UPDATE teams t SET member_count = c.members " +
+        "FROM (SELECT t2.id, count(m.id) AS members FROM teams t2 " +
+        "LEFT JOIN team_members m ON m.team_id = t2.id GROUP BY t2.id) c " +
+        "WHERE c.id = t.id AND t.member_count <> c.members", nativeQuery = true)
+    int reconcileMemberCounts();
+
+    /**
+     * Ranks at most {@code maxCandidates} matches, taken in ID order, so a deep page does not score
+     * every match again.
+     */
+    @Query(value = "WITH candidates AS MATERIALIZED (" +
+        "SELECT t.id FROM teams t " +
+        "WHERE t.status = 'ACTIVE' AND t.search_vector @@ to_tsquery('simple', :tsQuery) " +
+        "ORDER BY t.id LIMIT :maxCandidates" +
+        ") " +
+        "SELECT h.id AS id, h.score AS score FROM (" +
+        "SELECT t.id, ts_rank(t.search_vector, q) AS score " +
+        "FROM candidates c JOIN teams t ON t.id = c.id, to_tsquery('simple', :tsQuery) q" +
+        ") h " +
+        "WHERE h.score < :afterScore OR (h.score = :afterScore AND h.id > :afterId) " +
+        "ORDER BY h.score DESC, h.id ASC " +
+        "LIMIT :limit", nativeQuery = true)
+    List<SearchHit> searchActiveByText(
+        @Param("tsQuery") String tsQuery, @Param("afterScore") float afterScore,
+        @Param("afterId") UUID afterId, @Param("limit") int limit,
+        @Param("maxCandidates") int maxCandidates
+    );
+
+    /**
+     * Like {@link #searchActiveByText}, ranks at most {@code maxCandidates} matches.
+     */
+    @Query(value = "WITH candidates AS MATERIALIZED (" +
+        "SELECT t.id FROM teams t " +
+        "WHERE t.status = 'ACTIVE' AND t.name % :term " +
+        "ORDER BY t.id LIMIT :maxCandidates" +
+        ") " +
+        "SELECT h.id AS id, h.score AS score FROM (" +
+        "SELECT t.id, similarity(t.name, :term) AS score " +
+        "FROM candidates c JOIN teams t ON t.id = c.id" +
+        ") h " +
+        "WHERE h.score < :afterScore OR (h.score = :afterScore AND h.id > :afterId) " +
+        "ORDER BY h.score DESC, h.id ASC " +
+        "LIMIT :limit", nativeQuery = true)
+    List<SearchHit> searchActiveBySimilarity(
+        @Param("term") String term, @Param("afterScore") float afterScore,
+        @Param("afterId") UUID afterId, @Param("limit") int limit,
+        @Param("maxCandidates") int maxCandidates
+    );
 }
@@ -1,15 +1,22 @@
 package com.footbook.repository;
 
 import com.footbook.domain.TeamRoom;
+import com.footbook.repository.projection.BusySlot;
+import com.footbook.repository.projection.MemberConflict;
+import com.footbook.repository.projection.SearchHit;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -32,47 +39,237 @@ public interface TeamRoomRepository extends JpaRepository<TeamRoom, UUID> {
         Pageable pageable
     );
 
-    @Query("SELECT CASE WHEN COUNT(r) > 0 THEN true ELSE false END " +
-        "FROM TeamRoom r " +
-        "WHERE (r.creatorTeamId = :teamId OR r.opponentTeamId = :teamId) " +
-        "AND r.scheduledDate = :date " +
-        "AND r.status <> 'CANCELLED' " +
-        "AND NOT (r.endTime <= :startTime OR r.startTime >= :endTime)")
-    boolean hasTeamConflict(
+    /**
+     * Rooms of the given branches starting within {@code [from, to)}, for nearby lookups.
+     * Served by the {@code (branch_id, starts_at)} index.
+     */
+    @Query("SELECT r FROM TeamRoom r WHERE " +
+        "r.branchId IN :branchIds AND " +
+        "r.startsAt >= :from AND r.startsAt < :to AND " +
+        "(:teamSize IS NULL OR r.requiredTeamSize = :teamSize) AND " +
+        "(:status IS NULL OR r.status = :status) AND " +
+        "r.status <> 'CANCELLED' " +
+        "ORDER BY r.startsAt ASC, r.id ASC")
+    List<TeamRoom> findRoomsNear(
+        @Param("branchIds") Collection<UUID> branchIds,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to,
+        @Param("teamSize") Integer teamSize,
+        @Param("status") TeamRoom.TeamRoomStatus status
+    );
+
+    /**
+     * Occupies the team's time for a room. The exclusion constraint on {@code team_bookings}
+     * turns an overlapping booking into a skipped insert rather than an error.
+     *
+     * @return 1 if the time was free, 0 if the team already plays another room at an overlapping time
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO team_bookings (team_id, room_id, scheduled_date, start_time, end_time) " +
+        "VALUES (:teamId, :roomId, :date, :startTime, :endTime) " +
+        "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertTeamBookingIfFree(
         @Param("teamId") UUID teamId,
+        @Param("roomId") UUID roomId,
         @Param("date") LocalDate date,
         @Param("startTime") LocalTime startTime,
         @Param("endTime") LocalTime endTime
     );
 
-    @Query("SELECT CASE WHEN COUNT(r) > 0 THEN true ELSE false END " +
-        "FROM IndividualRoom r " +
-        "JOIN IndividualRoomParticipant p ON r.id = p.roomId " +
-        "WHERE p.userId IN :userIds " +
-        "AND r.scheduledDate = :date " +
-        "AND r.status <> 'CANCELLED' " +
-        "AND NOT (r.endTime <= :startTime OR r.startTime >= :endTime)")
-    boolean hasTeamMembersIndividualConflict(
-        @Param("userIds") List<UUID> userIds,
-        @Param("date") LocalDate date,
+    /**
+     * Occupies the creator team's time for every room of the series.
+     *
+     * @return number of rooms occupied; fewer than the series has rooms means a conflict
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO team_bookings (team_id, room_id, scheduled_date, start_time, end_time) " +
+        "SELECT r.creator_team_id, r.id, r.scheduled_date, r.start_time, r.end_time " +
+        "FROM team_rooms r WHERE r.series_id = :seriesId " +
+        "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertSeriesTeamBookings(@Param("seriesId") UUID seriesId);
+
+    List<TeamRoom> findByStatusAndStartsAtGreaterThanEqual(TeamRoom.TeamRoomStatus status, LocalDateTime startsAt);
+
+    // Members of the given teams, and every team any of them plays for
+    String MEMBERS_CTE = "WITH members AS (SELECT DISTINCT m.user_id FROM team_members m WHERE m.team_id IN (:teamIds)), " +
+        "member_teams AS (SELECT DISTINCT tm.user_id, tm.team_id FROM members mb JOIN team_members tm ON tm.user_id = mb.user_id) ";
+
+    /**
+     * Times within {@code [fromDate, toDate]} at which any member of the team already plays an
+     * individual room, or a team room with this or another of their teams.
+     */
+    @Query(value = MEMBERS_CTE +
+        "SELECT tb.scheduled_date AS scheduledDate, tb.start_time AS startTime, tb.end_time AS endTime " +
+        "FROM team_bookings tb " +
+        "WHERE tb.team_id IN (SELECT team_id FROM member_teams) AND tb.scheduled_date BETWEEN :fromDate AND :toDate " +
+        "UNION ALL " +
+        "SELECT ub.scheduled_date, ub.start_time, ub.end_time FROM members mb " +
+        "JOIN user_bookings ub ON ub.user_id = mb.user_id " +
+        "WHERE ub.scheduled_date BETWEEN :fromDate AND :toDate", nativeQuery = true)
+    List<BusySlot> findTeamBusySlots(
+        @Param("teamIds") Collection<UUID> teamIds,
+        @Param("fromDate") LocalDate fromDate,
+        @Param("toDate") LocalDate toDate
+    );
+
+    /**
+     * Every booking overlapping {@code [startTime, endTime)} on any of {@code dates} held by a
+     * member of the given teams: individual rooms, and team rooms of any team the member plays
+     * for, including the given teams themselves. Answers a whole create or join check in one
+     * round trip.
+     */
+    @Query(value = MEMBERS_CTE +
+        "SELECT c.user_id AS userId, u.first_name || ' ' || u.last_name AS memberName, c.team_id AS teamId, " +
+        "c.room_id AS roomId, c.room_type AS roomType, to_char(c.scheduled_date, 'YYYY-MM-DD') AS scheduledDate " +
+        "FROM (" +
+        "SELECT ub.user_id, CAST(NULL AS UUID) AS team_id, ub.room_id, 'INDIVIDUAL' AS room_type, ub.scheduled_date " +
+        "FROM members mb JOIN user_bookings ub ON ub.user_id = mb.user_id " +
+        "WHERE ub.scheduled_date IN (:dates) AND ub.start_time < :endTime AND ub.end_time > :startTime " +
+        "UNION ALL " +
+        "SELECT mt.user_id, tb.team_id, tb.room_id, 'TEAM', tb.scheduled_date " +
+        "FROM member_teams mt JOIN team_bookings tb ON tb.team_id = mt.team_id " +
+        "WHERE tb.scheduled_date IN (:dates) AND tb.start_time < :endTime AND tb.end_time > :startTime" +
+        ") c " +
+        "JOIN users u ON u.id = c.user_id " +
+        "ORDER BY c.scheduled_date, u.last_name, u.first_name, c.room_id", nativeQuery = true)
+    List<MemberConflict> findMemberConflicts(
+        @Param("teamIds") Collection<UUID> teamIds,
+        @Param("dates") Collection<LocalDate> dates,
         @Param("startTime") LocalTime startTime,
         @Param("endTime") LocalTime endTime
     );
 
+    /**
+     * Matches the team against an open room. Concurrent claims of the same room queue on its row
+     * lock, and only the first one finds the room still open.
+     *
+     * @return 1 if the room was claimed, 0 if it is missing, cancelled or already matched
+     */
+    @Modifying
+    @Query(value = "UPDATE team_rooms SET opponent_team_id = :teamId, status = 'MATCHED', updated_at = now() " +
+        "WHERE id = :roomId AND status = 'OPEN' AND opponent_team_id IS NULL", nativeQuery = true)
+    int claimRoom(@Param("roomId") UUID roomId, @Param("teamId") UUID teamId);
+
+    /**
+     * Cancels the room unless it already is, without overwriting an opponent that claimed it concurrently.
+     *
+     * @return 1 if the room was cancelled, 0 if it is missing or already cancelled
+     */
+    @Modifying
+    @Query(value = "UPDATE team_rooms SET status = 'CANCELLED', updated_at = now() " +
+        "WHERE id = :roomId AND status <> 'CANCELLED'", nativeQuery = true)
+    int cancelRoom(@Param("roomId") UUID roomId);
+
+    @Modifying
+    @Query(value = "DELETE FROM team_bookings WHERE room_id = :roomId", nativeQuery = true)
+    int releaseTeamBookings(@Param("roomId") UUID roomId);
+
     Optional<TeamRoom> findByIdAndStatusNot(UUID id, TeamRoom.TeamRoomStatus status);
 
-    List<TeamRoom> findByCreatorTeamIdOrderByScheduledDateDescStartTimeDesc(UUID teamId);
+    List<TeamRoom> findByStatusNotAndIdGreaterThanOrderByIdAsc(TeamRoom.TeamRoomStatus status, UUID afterId, Limit limit);
 
-    List<TeamRoom> findByOpponentTeamIdOrderByScheduledDateDescStartTimeDesc(UUID teamId);
+    // Creator and opponent lookups are separate branches so each can use its own (team, starts_at) index
+    String TEAM_SET_ROOMS_FROM = "FROM (" +
+        "SELECT r.* FROM team_rooms r WHERE r.creator_team_id IN (:teamIds) AND r.status <> 'CANCELLED' " +
+        "UNION " +
+        "SELECT r.* FROM team_rooms r WHERE r.opponent_team_id IN (:teamIds) AND r.status <> 'CANCELLED'" +
+        ") r ";
 
-    @Query("SELECT r FROM TeamRoom r WHERE " +
-        "(r.creatorTeamId = :teamId OR r.opponentTeamId = :teamId) " +
-        "AND r.status <> 'CANCELLED' " +
-        "AND (r.scheduledDate > :today OR (r.scheduledDate = :today AND r.startTime >= :currentTime)) " +
-        "ORDER BY r.scheduledDate ASC, r.startTime ASC")
-    List<TeamRoom> findUpcomingRoomsByTeam(
-        @Param("teamId") UUID teamId,
-        @Param("today") LocalDate today,
-        @Param("currentTime") LocalTime currentTime
+    @Query(value = "SELECT r.* " + TEAM_SET_ROOMS_FROM +
+        "ORDER BY r.starts_at DESC, r.id DESC", nativeQuery = true)
+    List<TeamRoom> findActiveRoomsByTeams(@Param("teamIds") Collection<UUID> teamIds);
+
+    /**
+     * IDs of the teams' rooms starting from {@code now}, cancelled ones included.
+     */
+    @Query(value = "SELECT id FROM team_rooms WHERE creator_team_id IN (:teamIds) AND starts_at >= :now " +
+        "UNION SELECT id FROM team_rooms WHERE opponent_team_id IN (:teamIds) AND starts_at >= :now", nativeQuery = true)
+    List<UUID> findUpcomingRoomIdsByTeams(@Param("teamIds") Collection<UUID> teamIds, @Param("now") LocalDateTime now);
+
+    // Latest-starting rooms of one matching branch or team, its share of the ranked candidates
+    String LATEST_ROOMS_OF_BRANCH = "SELECT r.id, r.starts_at, r.branch_id, r.creator_team_id, r.opponent_team_id FROM team_rooms r " +
+        "WHERE r.branch_id = mb.id AND r.status <> 'CANCELLED' " +
+        "ORDER BY r.starts_at DESC, r.id DESC LIMIT (SELECT n FROM share)";
+    String LATEST_ROOMS_OF_CREATOR_TEAM = "SELECT r.id, r.starts_at, r.branch_id, r.creator_team_id, r.opponent_team_id FROM team_rooms r " +
+        "WHERE r.creator_team_id = mt.id AND r.status <> 'CANCELLED' " +
+        "ORDER BY r.starts_at DESC, r.id DESC LIMIT (SELECT n FROM share)";
+    String LATEST_ROOMS_OF_OPPONENT_TEAM = "SELECT r.id, r.starts_at, r.branch_id, r.creator_team_id, r.opponent_team_id FROM team_rooms r " +
+        "WHERE r.opponent_team_id = mt.id AND r.status <> 'CANCELLED' " +
+        "ORDER BY r.starts_at DESC, r.id DESC LIMIT (SELECT n FROM share)";
+    // Given the matching branches mb and teams mt, splits maxCandidates evenly across their room lists.
+    // Candidates carry their branch and team IDs, so ranking them never joins back to team_rooms.
+    String CANDIDATE_ROOMS = "share AS (" +
+        "SELECT greatest(1, :maxCandidates / greatest(1, (SELECT count(*) FROM mb) + 2 * (SELECT count(*) FROM mt))) AS n" +
+        "), " +
+        "candidates AS MATERIALIZED (" +
+        "SELECT c.* FROM mb CROSS JOIN LATERAL (" + LATEST_ROOMS_OF_BRANCH + ") c " +
+        "UNION " +
+        "SELECT c.* FROM mt CROSS JOIN LATERAL (" + LATEST_ROOMS_OF_CREATOR_TEAM + ") c " +
+        "UNION " +
+        "SELECT c.* FROM mt CROSS JOIN LATERAL (" + LATEST_ROOMS_OF_OPPONENT_TEAM + ") c " +
+        "ORDER BY starts_at DESC, id DESC LIMIT :maxCandidates" +
+        ") ";
+
+    /**
+     * Each table is probed through its own search vector index and the matching room IDs are
+     * merged before ranking, since a match condition ORed across the joined tables could only be
+     * answered by scanning the whole join.
+     * <p>
+     * At most {@code maxCandidates} rooms are ranked, so a deep page costs the same as the first.
+     * Each matching branch and team contributes an even share of them, its latest-starting rooms
+     * read from its (parent, starts_at) index, rather than every room it ever hosted.
+     */
+    @Query(value = "WITH mb AS (" +
+        "SELECT b.id FROM branches b WHERE b.search_vector @@ to_tsquery('simple', :tsQuery) " +
+        "ORDER BY b.id LIMIT :maxCandidates" +
+        "), " +
+        "mt AS (" +
+        "SELECT t.id FROM teams t WHERE t.search_vector @@ to_tsquery('simple', :tsQuery) " +
+        "ORDER BY t.id LIMIT :maxCandidates" +
+        "), " +
+        CANDIDATE_ROOMS +
+        "SELECT h.id AS id, h.score AS score FROM (" +
+        "SELECT m.id, ts_rank(b.search_vector || ct.search_vector || coalesce(ot.search_vector, ''), q) AS score " +
+        "FROM candidates m " +
+        "JOIN branches b ON b.id = m.branch_id " +
+        "JOIN teams ct ON ct.id = m.creator_team_id " +
+        "LEFT JOIN teams ot ON ot.id = m.opponent_team_id, " +
+        "to_tsquery('simple', :tsQuery) q" +
+        ") h " +
+        "WHERE h.score < :afterScore OR (h.score = :afterScore AND h.id > :afterId) " +
+        "ORDER BY h.score DESC, h.id ASC " +
+        "LIMIT :limit", nativeQuery = true)
+    List<SearchHit> searchByText(
+        @Param("tsQuery") String tsQuery, @Param("afterScore") float afterScore,
+        @Param("afterId") UUID afterId, @Param("limit") int limit,
+        @Param("maxCandidates") int maxCandidates
+    );
+
+    /**
+     * Like {@link #searchByText}, each table is probed through its own trigram index and at most
+     * {@code maxCandidates} rooms, shared evenly across the matches, are ranked.
+     */
+    @Query(value = "WITH mb AS (" +
+        "SELECT b.id FROM branches b WHERE b.name % :term ORDER BY b.id LIMIT :maxCandidates" +
+        "), " +
+        "mt AS (" +
+        "SELECT t.id FROM teams t WHERE t.name % :term ORDER BY t.id LIMIT :maxCandidates" +
+        "), " +
+        CANDIDATE_ROOMS +
+        "SELECT h.id AS id, h.score AS score FROM (" +
+        "SELECT m.id, greatest(similarity(b.name, :term), similarity(ct.name, :term), " +
+        "coalesce(similarity(ot.name, :term), 0)) AS score " +
+        "FROM candidates m " +
+        "JOIN branches b ON b.id = m.branch_id " +
+        "JOIN teams ct ON ct.id = m.creator_team_id " +
+        "LEFT JOIN teams ot ON ot.id = m.opponent_team_id" +
+        ") h " +
+        "WHERE h.score < :afterScore OR (h.score = :afterScore AND h.id > :afterId) " +
+        "ORDER BY h.score DESC, h.id ASC " +
+        "LIMIT :limit", nativeQuery = true)
+    List<SearchHit> searchBySimilarity(
+        @Param("term") String term, @Param("afterScore") float afterScore,
+        @Param("afterId") UUID afterId, @Param("limit") int limit,
+        @Param("maxCandidates") int maxCandidates
     );
 }
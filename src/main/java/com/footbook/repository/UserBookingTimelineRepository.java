@@ -0,0 +1,125 @@
+package com.footbook.repository;
+
+import com.footbook.domain.UserBookingTimelineEntry;
+import com.footbook.repository.projection.BookingRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface UserBookingTimelineRepository extends JpaRepository<UserBookingTimelineEntry, UserBookingTimelineEntry.Key> {
+    String BOOKING_ROW_COLUMNS = "t.room_id AS id, t.booking_type AS bookingType, " +
+        "t.scheduled_date AS scheduledDate, t.start_time AS startTime, t.end_time AS endTime, " +
+        "t.status AS status, t.room_created_at AS createdAt, " +
+        "t.total_slots AS totalSlots, t.filled_slots AS filledSlots, t.owner_name AS ownerName, " +
+        "t.creator_team_name AS creatorTeamName, t.opponent_team_name AS opponentTeamName, " +
+        "t.required_team_size AS requiredTeamSize, " +
+        "t.branch_id AS branchId, t.branch_name AS branchName, t.branch_address AS branchAddress, " +
+        "t.branch_google_maps_url AS branchGoogleMapsUrl, " +
+        "t.branch_operating_hours_start AS branchOperatingHoursStart, t.branch_operating_hours_end AS branchOperatingHoursEnd, " +
+        "t.branch_contact_phone AS branchContactPhone, t.branch_contact_email AS branchContactEmail, " +
+        "t.branch_latitude AS branchLatitude, t.branch_longitude AS branchLongitude, t.branch_is_active AS branchIsActive, " +
+        "t.branch_created_at AS branchCreatedAt, t.branch_updated_at AS branchUpdatedAt ";
+
+    /**
+     * Rows of archived rooms are kept as booking history but are no longer backed by the live
+     * view, so every write and consistency check is limited to rows not yet archived.
+     */
+    String NOT_ARCHIVED = "scheduled_date >= (SELECT archived_before FROM room_archive_state) ";
+
+    /**
+     * Every column but the key, for upserts of live view rows.
+     */
+    String UPSERT_COLUMNS =
+        "booking_type = EXCLUDED.booking_type, scheduled_date = EXCLUDED.scheduled_date, start_time = EXCLUDED.start_time, " +
+        "end_time = EXCLUDED.end_time, status = EXCLUDED.status, room_created_at = EXCLUDED.room_created_at, " +
+        "total_slots = EXCLUDED.total_slots, filled_slots = EXCLUDED.filled_slots, owner_name = EXCLUDED.owner_name, " +
+        "creator_team_name = EXCLUDED.creator_team_name, opponent_team_name = EXCLUDED.opponent_team_name, required_team_size = EXCLUDED.required_team_size, " +
+        "branch_id = EXCLUDED.branch_id, branch_name = EXCLUDED.branch_name, branch_address = EXCLUDED.branch_address, " +
+        "branch_google_maps_url = EXCLUDED.branch_google_maps_url, branch_operating_hours_start = EXCLUDED.branch_operating_hours_start, branch_operating_hours_end = EXCLUDED.branch_operating_hours_end, " +
+        "branch_contact_phone = EXCLUDED.branch_contact_phone, branch_contact_email = EXCLUDED.branch_contact_email, branch_latitude = EXCLUDED.branch_latitude, " +
+        "branch_longitude = EXCLUDED.branch_longitude, branch_is_active = EXCLUDED.branch_is_active, branch_created_at = EXCLUDED.branch_created_at, " +
+        "branch_updated_at = EXCLUDED.branch_updated_at ";
+
+    @Query(value = "SELECT " + BOOKING_ROW_COLUMNS +
+        "FROM user_booking_timeline t " +
+        "WHERE t.user_id = :userId " +
+        "AND (t.scheduled_date, t.start_time, t.room_id) < (:beforeDate, :beforeTime, :beforeId) " +
+        "ORDER BY t.scheduled_date DESC, t.start_time DESC, t.room_id DESC " +
+        "LIMIT :limit", nativeQuery = true)
+    List<BookingRow> findBookingsByUserBefore(
+        @Param("userId") UUID userId,
+        @Param("beforeDate") LocalDate beforeDate,
+        @Param("beforeTime") LocalTime beforeTime,
+        @Param("beforeId") UUID beforeId,
+        @Param("limit") int limit
+    );
+
+    @Query(value = "SELECT " + BOOKING_ROW_COLUMNS +
+        "FROM user_booking_timeline t " +
+        "WHERE t.user_id = :userId " +
+        "AND t.status <> 'CANCELLED' " +
+        "AND (t.scheduled_date, t.start_time, t.room_id) > (:afterDate, :afterTime, :afterId) " +
+        "ORDER BY t.scheduled_date ASC, t.start_time ASC, t.room_id ASC " +
+        "LIMIT :limit", nativeQuery = true)
+    List<BookingRow> findBookingsByUserAfter(
+        @Param("userId") UUID userId,
+        @Param("afterDate") LocalDate afterDate,
+        @Param("afterTime") LocalTime afterTime,
+        @Param("afterId") UUID afterId,
+        @Param("limit") int limit
+    );
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM user_booking_timeline WHERE room_id IN (:roomIds) AND " + NOT_ARCHIVED, nativeQuery = true)
+    int deleteByRoomIds(@Param("roomIds") Collection<UUID> roomIds);
+
+    /**
+     * Writes the live rows of the given rooms. A row that a concurrent refresh of the same room
+     * has just written is overwritten rather than colliding on the primary key.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO user_booking_timeline " +
+        "SELECT * FROM user_booking_live WHERE room_id IN (:roomIds) AND " + NOT_ARCHIVED +
+        "ON CONFLICT (user_id, room_id) DO UPDATE SET " + UPSERT_COLUMNS, nativeQuery = true)
+    int upsertLiveByRoomIds(@Param("roomIds") Collection<UUID> roomIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM user_booking_timeline WHERE " + NOT_ARCHIVED, nativeQuery = true)
+    int deleteNotArchivedRows();
+
+    @Modifying
+    @Query(value = "INSERT INTO user_booking_timeline SELECT * FROM user_booking_live WHERE " + NOT_ARCHIVED +
+        "ON CONFLICT (user_id, room_id) DO UPDATE SET " + UPSERT_COLUMNS, nativeQuery = true)
+    int upsertAllLive();
+
+    @Query(value = "SELECT id FROM individual_rooms WHERE owner_id = :ownerId", nativeQuery = true)
+    List<UUID> findRoomIdsByOwner(@Param("ownerId") UUID ownerId);
+
+    @Query(value = "SELECT id FROM individual_rooms WHERE branch_id = :branchId AND starts_at >= :now " +
+        "UNION ALL SELECT id FROM team_rooms WHERE branch_id = :branchId AND starts_at >= :now", nativeQuery = true)
+    List<UUID> findUpcomingRoomIdsByBranch(@Param("branchId") UUID branchId, @Param("now") LocalDateTime now);
+
+    /**
+     * Rooms scheduled on or after {@code from} whose timeline rows differ from what the live view
+     * produces: missing, stale or orphaned. Older rows are not compared, so the check does not
+     * grow with the booking history.
+     */
+    @Query(value = "SELECT DISTINCT d.room_id FROM (" +
+        "(SELECT * FROM user_booking_live WHERE scheduled_date >= :from AND " + NOT_ARCHIVED +
+        "EXCEPT SELECT * FROM user_booking_timeline WHERE scheduled_date >= :from AND " + NOT_ARCHIVED + ") " +
+        "UNION ALL " +
+        "(SELECT * FROM user_booking_timeline WHERE scheduled_date >= :from AND " + NOT_ARCHIVED +
+        "EXCEPT SELECT * FROM user_booking_live WHERE scheduled_date >= :from AND " + NOT_ARCHIVED + ")" +
+        ") d LIMIT :limit", nativeQuery = true)
+    List<UUID> findDriftedRoomIdsFrom(@Param("from") LocalDate from, @Param("limit") int limit);
+}
@@ -1,10 +1,12 @@
 package com.footbook.repository;
 
 import com.footbook.domain.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,4 +15,8 @@ public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificat
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    List<User> findByIsActiveTrueAndIsVerifiedTrueAndIdGreaterThanOrderByIdAsc(UUID afterId, Limit limit);
+
+    Optional<User> findByIdAndIsActiveTrueAndIsVerifiedTrue(UUID id);
 }
@@ -0,0 +1,15 @@
+package com.footbook.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * A room just moved to the archive, as returned by the archiving function.
+ */
+public interface ArchivedRoom {
+    /**
+     * @return {@code INDIVIDUAL_ROOM} or {@code TEAM_ROOM}
+     */
+    String getRoomType();
+
+    UUID getRoomId();
+}
@@ -0,0 +1,65 @@
+package com.footbook.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * One booking of a user, individual or team, flattened together with its branch.
+ * Individual-only columns are null on team rows and vice versa.
+ */
+public interface BookingRow {
+    UUID getId();
+
+    String getBookingType();
+
+    LocalDate getScheduledDate();
+
+    LocalTime getStartTime();
+
+    LocalTime getEndTime();
+
+    String getStatus();
+
+    LocalDateTime getCreatedAt();
+
+    Integer getTotalSlots();
+
+    Integer getFilledSlots();
+
+    String getOwnerName();
+
+    String getCreatorTeamName();
+
+    String getOpponentTeamName();
+
+    Integer getRequiredTeamSize();
+
+    UUID getBranchId();
+
+    String getBranchName();
+
+    String getBranchAddress();
+
+    String getBranchGoogleMapsUrl();
+
+    LocalTime getBranchOperatingHoursStart();
+
+    LocalTime getBranchOperatingHoursEnd();
+
+    String getBranchContactPhone();
+
+    String getBranchContactEmail();
+
+    BigDecimal getBranchLatitude();
+
+    BigDecimal getBranchLongitude();
+
+    Boolean getBranchIsActive();
+
+    LocalDateTime getBranchCreatedAt();
+
+    LocalDateTime getBranchUpdatedAt();
+}
@@ -0,0 +1,15 @@
+package com.footbook.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * A time a team or one of its members is already booked.
+ */
+public interface BusySlot {
+    LocalDate getScheduledDate();
+
+    LocalTime getStartTime();
+
+    LocalTime getEndTime();
+}
@@ -0,0 +1,29 @@
+package com.footbook.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * A booking that keeps a team member from playing at a requested time.
+ */
+public interface MemberConflict {
+    UUID getUserId();
+
+    String getMemberName();
+
+    /**
+     * Team whose room the member is booked into, or null for an individual room.
+     */
+    UUID getTeamId();
+
+    UUID getRoomId();
+
+    /**
+     * INDIVIDUAL or TEAM.
+     */
+    String getRoomType();
+
+    /**
+     * Date of the booking, formatted as yyyy-MM-dd.
+     */
+    String getScheduledDate();
+}
@@ -0,0 +1,22 @@
+package com.footbook.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * The time a room occupies one pitch.
+ */
+public interface PitchBookingSlot {
+    UUID getRoomId();
+
+    UUID getPitchId();
+
+    UUID getBranchId();
+
+    LocalDate getScheduledDate();
+
+    LocalTime getStartTime();
+
+    LocalTime getEndTime();
+}
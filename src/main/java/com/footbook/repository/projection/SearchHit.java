@@ -0,0 +1,12 @@
+package com.footbook.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * A ranked search match: the entity ID and the relevance score it was ordered by.
+ */
+public interface SearchHit {
+    UUID getId();
+
+    Float getScore();
+}
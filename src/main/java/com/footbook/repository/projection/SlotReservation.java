@@ -0,0 +1,17 @@
+package com.footbook.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * The room a slot was just reserved in, as returned by the reserving statement.
+ */
+public interface SlotReservation {
+    LocalDate getScheduledDate();
+
+    LocalTime getStartTime();
+
+    LocalTime getEndTime();
+
+    String getStatus();
+}
@@ -1,32 +1,39 @@
 package com.footbook.service;
 
-import com.footbook.dto.response.booking.BookingResponse;
-
-import java.util.List;
+import com.footbook.dto.response.booking.BookingPageResponse;
 
 /**
  * Service interface for booking management operations.
  */
 public interface BookingService {
     /**
-     * Get all bookings for the current user (upcoming and past)
+     * Get all bookings for the current user (upcoming and past), latest first
      * Includes both individual rooms and team rooms
      *
-     * @return list of all bookings
+     * @param cursor optional next-page cursor from a previous page
+     * @param size   maximum number of bookings in the page
+     * @return page of bookings
+     * @throws IllegalArgumentException if the cursor is invalid
      */
-    List<BookingResponse> getMyBookings();
+    BookingPageResponse getMyBookings(String cursor, int size);
 
     /**
-     * Get upcoming bookings for the current user
+     * Get upcoming bookings for the current user, soonest first
      *
-     * @return list of upcoming bookings
+     * @param cursor optional next-page cursor from a previous page
+     * @param size   maximum number of bookings in the page
+     * @return page of upcoming bookings
+     * @throws IllegalArgumentException if the cursor is invalid
      */
-    List<BookingResponse> getMyUpcomingBookings();
+    BookingPageResponse getMyUpcomingBookings(String cursor, int size);
 
     /**
-     * Get past bookings for the current user
+     * Get past bookings for the current user, latest first
      *
-     * @return list of past bookings
+     * @param cursor optional next-page cursor from a previous page
+     * @param size   maximum number of bookings in the page
+     * @return page of past bookings
+     * @throws IllegalArgumentException if the cursor is invalid
      */
-    List<BookingResponse> getMyPastBookings();
+    BookingPageResponse getMyPastBookings(String cursor, int size);
 }
@@ -3,6 +3,7 @@ package com.footbook.service;
 import com.footbook.dto.request.branch.CreateBranchRequest;
 import com.footbook.dto.request.branch.UpdateBranchRequest;
 import com.footbook.dto.response.branch.BranchResponse;
+import com.footbook.dto.response.branch.NearbyBranchResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -30,6 +31,16 @@ public interface BranchService {
      */
     List<BranchResponse> getAllActiveBranches();
 
+    /**
+     * Get active branches within a radius of a location
+     *
+     * @param latitude  latitude of the location
+     * @param longitude longitude of the location
+     * @param radiusKm  optional search radius in kilometres
+     * @return branches within the radius, nearest first
+     */
+    List<NearbyBranchResponse> getNearbyBranches(double latitude, double longitude, Double radiusKm);
+
     /**
      * Get branch by ID
      *
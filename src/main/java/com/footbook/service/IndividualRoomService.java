@@ -1,8 +1,11 @@
 package com.footbook.service;
 
 import com.footbook.dto.request.room.CreateIndividualRoomRequest;
+import com.footbook.dto.request.room.CreateIndividualRoomSeriesRequest;
 import com.footbook.dto.response.room.IndividualRoomDetailResponse;
 import com.footbook.dto.response.room.IndividualRoomResponse;
+import com.footbook.dto.response.room.IndividualRoomSeriesResponse;
+import com.footbook.dto.response.room.SlotHoldResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -22,17 +25,28 @@ public interface IndividualRoomService {
      */
     IndividualRoomResponse createRoom(CreateIndividualRoomRequest request);
 
+    /**
+     * Create a weekly or biweekly series of rooms with the same details
+     *
+     * @param request room details, recurrence and number of occurrences
+     * @return the series ID and every created room
+     * @throws IllegalArgumentException if branch not found, invalid time range or recurrence, or any occurrence conflicts
+     */
+    IndividualRoomSeriesResponse createRoomSeries(CreateIndividualRoomSeriesRequest request);
+
     /**
      * Get all rooms with filters
      *
      * @param branchId  optional branch filter
+     * @param near      optional location filter as latitude,longitude; rooms are then ordered by branch distance
+     * @param radiusKm  optional radius of the location filter in kilometres
      * @param startDate optional start date filter
      * @param endDate   optional end date filter
      * @param statusStr optional status filter
      * @param pageable  pagination information
      * @return paginated list of rooms
      */
-    Page<IndividualRoomResponse> getAllRooms(UUID branchId, LocalDate startDate, LocalDate endDate, String statusStr, Pageable pageable);
+    Page<IndividualRoomResponse> getAllRooms(UUID branchId, String near, Double radiusKm, LocalDate startDate, LocalDate endDate, String statusStr, Pageable pageable);
 
     /**
      * Get room details by ID
@@ -44,12 +58,24 @@ public interface IndividualRoomService {
     IndividualRoomDetailResponse getRoomById(UUID id);
 
     /**
-     * Join a room as a participant
+     * Hold a slot of a room for a short time, to be confirmed by joining
+     *
+     * @param roomId room ID
+     * @return the hold and when it expires
+     * @throws java.util.NoSuchElementException              if room not found or cancelled
+     * @throws IllegalStateException                         if room is full or user already joined
+     * @throws com.footbook.exception.SlotUnavailableException if every free slot is held by other players
+     */
+    SlotHoldResponse holdSlot(UUID roomId);
+
+    /**
+     * Join a room as a participant, confirming the user's hold if they have one
      *
      * @param roomId room ID
      * @throws java.util.NoSuchElementException if room not found
      * @throws IllegalStateException            if room is full or user already joined
      * @throws IllegalArgumentException         if user has time conflict
+     * @throws com.footbook.exception.SlotUnavailableException if the user holds no slot and every free slot is held
      */
     void joinRoom(UUID roomId);
 
@@ -9,9 +9,16 @@ public interface SearchService {
     /**
      * Search across all entities (branches, rooms, teams)
      *
-     * @param query search query string
-     * @param type  optional filter by type (branches, rooms, teams, individual_rooms, team_rooms)
-     * @return search results
+     * @param query  search query string
+     * @param type   optional filter by type (branches, rooms, teams, individual_rooms, team_rooms)
+     * @param mode   optional matching mode: fulltext (default) or fuzzy (typo-tolerant, ranked by similarity)
+     * @param cursor optional next-page cursor from a previous response; restricts the search to that cursor's type and mode.
+     *               Database searches rank at most {@code app.search.max-candidates} matches of a type, so the last
+     *               page ends at that depth
+     * @param size   maximum number of results per type
+     * @return search results with a next-page cursor per type; types whose sub-search missed its
+     * deadline are empty and listed in {@code missingTypes}
+     * @throws IllegalArgumentException if mode is not recognised or the cursor is invalid
      */
-    SearchResponse search(String query, String type);
+    SearchResponse search(String query, String type, String mode, String cursor, int size);
 }
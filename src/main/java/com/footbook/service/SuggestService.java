@@ -0,0 +1,20 @@
+package com.footbook.service;
+
+import com.footbook.dto.response.search.SuggestionResponse;
+
+import java.util.List;
+
+/**
+ * Service interface for search-box autocomplete.
+ */
+public interface SuggestService {
+    /**
+     * Suggest branch, team and player names starting with the given prefix.
+     * Served from memory without touching the database.
+     *
+     * @param prefix typed text; case, accents and punctuation are ignored
+     * @param limit  maximum number of suggestions
+     * @return suggestions, shortest names first
+     */
+    List<SuggestionResponse> suggest(String prefix, int limit);
+}
@@ -1,13 +1,16 @@
 package com.footbook.service;
 
 import com.footbook.dto.request.room.CreateTeamRoomRequest;
+import com.footbook.dto.request.room.CreateTeamRoomSeriesRequest;
 import com.footbook.dto.request.room.JoinTeamRoomRequest;
 import com.footbook.dto.response.room.TeamRoomDetailResponse;
 import com.footbook.dto.response.room.TeamRoomResponse;
+import com.footbook.dto.response.room.TeamRoomSeriesResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -24,10 +27,22 @@ public interface TeamRoomService {
      */
     TeamRoomResponse createRoom(CreateTeamRoomRequest request);
 
+    /**
+     * Create a weekly or biweekly series of team rooms with the same details (captain only)
+     *
+     * @param request room details, recurrence and number of occurrences
+     * @return the series ID and every created room
+     * @throws IllegalArgumentException if branch not found, invalid time range or recurrence, or any occurrence conflicts
+     * @throws IllegalStateException    if not captain or team doesn't have enough members
+     */
+    TeamRoomSeriesResponse createRoomSeries(CreateTeamRoomSeriesRequest request);
+
     /**
      * Get all team rooms with filters
      *
      * @param branchId  optional branch filter
+     * @param near      optional location filter as latitude,longitude; rooms are then ordered by branch distance
+     * @param radiusKm  optional radius of the location filter in kilometres
      * @param startDate optional start date filter
      * @param endDate   optional end date filter
      * @param teamSize  optional team size filter
@@ -35,7 +50,7 @@ public interface TeamRoomService {
      * @param pageable  pagination information
      * @return paginated list of rooms
      */
-    Page<TeamRoomResponse> getAllRooms(UUID branchId, LocalDate startDate, LocalDate endDate, Integer teamSize, String statusStr, Pageable pageable);
+    Page<TeamRoomResponse> getAllRooms(UUID branchId, String near, Double radiusKm, LocalDate startDate, LocalDate endDate, Integer teamSize, String statusStr, Pageable pageable);
 
     /**
      * Get room details by ID
@@ -46,6 +61,20 @@ public interface TeamRoomService {
      */
     TeamRoomDetailResponse getRoomById(UUID id);
 
+    /**
+     * Find the earliest open team room the team can join as opponent (captain only)
+     *
+     * @param teamId    team looking for an opponent
+     * @param branchIds optional branches to play at; any branch if empty
+     * @param startDate optional first date to play on, today by default
+     * @param endDate   optional last date to play on
+     * @return the earliest room of the team's size at which neither the team nor its members are busy
+     * @throws java.util.NoSuchElementException if the team is not found or no room matches
+     * @throws IllegalStateException            if not captain or team doesn't have enough members
+     * @throws IllegalArgumentException         if the date range is too long
+     */
+    TeamRoomResponse findMatch(UUID teamId, List<UUID> branchIds, LocalDate startDate, LocalDate endDate);
+
     /**
      * Join a team room as opponent (captain only)
      *
@@ -8,6 +8,7 @@ import com.footbook.dto.response.team.TeamDetailResponse;
 import com.footbook.dto.response.team.TeamResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.UUID;
@@ -33,6 +34,15 @@ public interface TeamService {
      */
     Page<TeamResponse> getAllTeams(String name, Pageable pageable);
 
+    /**
+     * Get active teams with filtering, without counting the total number of matches
+     *
+     * @param name     optional name filter
+     * @param pageable pagination information
+     * @return one page of teams and whether another follows
+     */
+    Slice<TeamResponse> getActiveTeamsSlice(String name, Pageable pageable);
+
     /**
      * Get team details by ID
      *
@@ -0,0 +1,36 @@
+package com.footbook.service.booking;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static com.footbook.util.ErrorMessages.INVALID_BOOKING_CURSOR;
+
+/**
+ * Opaque continuation token for booking history: the (scheduled date, start time, id) of the
+ * last booking returned, which is also the key the bookings are ordered by.
+ */
+public record BookingCursor(LocalDate scheduledDate, LocalTime startTime, UUID id) {
+    public String encode() {
+        String raw = String.join("|", scheduledDate.toString(), startTime.toString(), id.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the value was not produced by {@link #encode()}
+     */
+    public static BookingCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException(INVALID_BOOKING_CURSOR);
+            }
+            return new BookingCursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(INVALID_BOOKING_CURSOR);
+        }
+    }
+}
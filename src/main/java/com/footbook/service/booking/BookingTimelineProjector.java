@@ -0,0 +1,95 @@
+package com.footbook.service.booking;
+
+import com.footbook.event.EntityChangedEvent;
+import com.footbook.repository.TeamRoomRepository;
+import com.footbook.repository.UserBookingTimelineRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keeps {@code user_booking_timeline} in step with the rooms, teams, branches and users it is
+ * derived from.
+ * <p>
+ * A change is projected by replacing every timeline row of the affected rooms with what the
+ * {@code user_booking_live} view currently returns for them. This runs just before the writing
+ * transaction commits, inside it, so a user who books a room sees it in their bookings on the
+ * very next request and a failed write never leaves the timeline ahead of the source tables.
+ * <p>
+ * Two transactions may refresh the same room at once, for example a team member change and a
+ * join of one of the team's rooms. Rows are therefore upserted, so the later commit wins instead
+ * of failing on the primary key; a row the later one no longer produces is left to
+ * {@code BookingTimelineConsistencyScheduler}.
+ * <p>
+ * Team and branch changes only refresh the upcoming rooms of that team or branch, so renaming a
+ * branch does not rewrite its whole booking history inside the admin's request. Rows of rooms
+ * already played keep the names they were recorded with; the scheduler repairs recent ones and
+ * {@link #rebuild()} rewrites all of them.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingTimelineProjector {
+    private static final int BATCH_SIZE = 500;
+
+    private final UserBookingTimelineRepository timelineRepository;
+    private final TeamRoomRepository teamRoomRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onEntityChanged(EntityChangedEvent event) {
+        UUID id = event.entityId();
+        switch (event.entityType()) {
+            case INDIVIDUAL_ROOM, TEAM_ROOM -> project(List.of(id));
+            case TEAM -> project(teamRoomRepository.findUpcomingRoomIdsByTeams(List.of(id), LocalDateTime.now()));
+            case BRANCH -> project(timelineRepository.findUpcomingRoomIdsByBranch(id, LocalDateTime.now()));
+            case USER -> project(timelineRepository.findRoomIdsByOwner(id));
+        }
+    }
+
+    /**
+     * Rewrites the timeline rows of the given rooms from the live view.
+     *
+     * @return number of rows written
+     */
+    @Transactional
+    public int refreshRooms(Collection<UUID> roomIds) {
+        return project(roomIds);
+    }
+
+    /**
+     * Rewrites the timeline rows of the given rooms within the current transaction.
+     * Event listeners call this directly, as a self-invocation would bypass {@link #refreshRooms}'s proxy.
+     */
+    private int project(Collection<UUID> roomIds) {
+        List<UUID> ids = List.copyOf(roomIds);
+        int written = 0;
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<UUID> batch = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+            timelineRepository.deleteByRoomIds(batch);
+            written += timelineRepository.upsertLiveByRoomIds(batch);
+        }
+        return written;
+    }
+
+    /**
+     * Discards the timeline, except the history of archived rooms, and fills it again from the live view.
+     *
+     * @return number of rows written
+     */
+    @Transactional
+    public int rebuild() {
+        long start = System.currentTimeMillis();
+        timelineRepository.deleteNotArchivedRows();
+        int written = timelineRepository.upsertAllLive();
+        log.info("Rebuilt booking timeline: {} rows in {} ms", written, System.currentTimeMillis() - start);
+        return written;
+    }
+}
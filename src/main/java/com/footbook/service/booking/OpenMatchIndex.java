@@ -0,0 +1,157 @@
+package com.footbook.service.booking;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * In-memory view of the OPEN team rooms waiting for an opponent, for automatic matchmaking.
+ * <p>
+ * Rooms are grouped by required team size, date and branch, with the groups held in a sorted
+ * map and each group sorted by start time. Finding the rooms a team can join on one day is
+ * therefore an O(log n) range lookup over that day's branches, followed by a walk from the
+ * earliest acceptable start time that stops at the first room the team is free for.
+ * <p>
+ * The index only proposes rooms; the caller re-reads a proposed room before offering it, and
+ * joining it is settled by the database as usual.
+ */
+public final class OpenMatchIndex {
+    private static final UUID MIN_UUID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+    private static final UUID MAX_UUID = new UUID(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    private static final Comparator<Room> BY_START = Comparator
+        .comparing(Room::startTime)
+        .thenComparing(Room::id);
+
+    private final NavigableMap<Key, NavigableSet<Room>> groups = new TreeMap<>();
+    private final Map<UUID, Room> rooms = new HashMap<>();
+
+    private record Key(int teamSize, LocalDate date, UUID branchId) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key other) {
+            int bySize = Integer.compare(teamSize, other.teamSize);
+            if (bySize != 0) {
+                return bySize;
+            }
+            int byDate = date.compareTo(other.date);
+            return byDate != 0 ? byDate : branchId.compareTo(other.branchId);
+        }
+    }
+
+    public record Room(UUID id, UUID branchId, UUID creatorTeamId, int teamSize,
+                       LocalDate date, LocalTime startTime, LocalTime endTime) {
+    }
+
+    /**
+     * A time the matching team is already busy, from its own rooms or its members' individual rooms.
+     */
+    public record Busy(LocalDate date, LocalTime startTime, LocalTime endTime) {
+    }
+
+    public synchronized void put(Room room) {
+        remove(room.id());
+        groups.computeIfAbsent(new Key(room.teamSize(), room.date(), room.branchId()), key -> new TreeSet<>(BY_START)).add(room);
+        rooms.put(room.id(), room);
+    }
+
+    public synchronized void remove(UUID roomId) {
+        Room room = rooms.remove(roomId);
+        if (room == null) {
+            return;
+        }
+        Key key = new Key(room.teamSize(), room.date(), room.branchId());
+        NavigableSet<Room> group = groups.get(key);
+        group.remove(room);
+        if (group.isEmpty()) {
+            groups.remove(key);
+        }
+    }
+
+    /**
+     * Replaces every room in the index.
+     */
+    public synchronized void replaceAll(Collection<Room> source) {
+        groups.clear();
+        rooms.clear();
+        source.forEach(this::put);
+    }
+
+    /**
+     * Drops the rooms of days before the given one.
+     */
+    public synchronized void evictBefore(LocalDate date) {
+        rooms.values().removeIf(room -> room.date().isBefore(date));
+        groups.keySet().removeIf(key -> key.date().isBefore(date));
+    }
+
+    public synchronized int size() {
+        return rooms.size();
+    }
+
+    /**
+     * Finds the earliest room the team can join.
+     *
+     * @param branchIds branches to play at, or empty for any branch
+     * @param notBefore rooms starting earlier are skipped
+     * @param busy      times the team is unavailable
+     * @param excluded  rooms to skip, such as ones already found to be taken
+     * @return the room with the earliest start within {@code [fromDate, toDate]}, ties broken by room ID
+     */
+    public synchronized Optional<Room> findEarliest(int teamSize, UUID teamId, Collection<UUID> branchIds,
+                                                    LocalDate fromDate, LocalDate toDate, LocalDateTime notBefore,
+                                                    Collection<Busy> busy, Set<UUID> excluded) {
+        for (LocalDate date = fromDate; !date.isAfter(toDate); date = date.plusDays(1)) {
+            if (date.isBefore(notBefore.toLocalDate())) {
+                continue;
+            }
+            LocalTime from = date.equals(notBefore.toLocalDate()) ? notBefore.toLocalTime() : LocalTime.MIN;
+            List<Busy> busyThatDay = new ArrayList<>();
+            for (Busy slot : busy) {
+                if (slot.date().equals(date)) {
+                    busyThatDay.add(slot);
+                }
+            }
+
+            Room earliest = null;
+            for (NavigableSet<Room> group : groupsOn(teamSize, date, branchIds)) {
+                for (Room room : group.tailSet(new Room(MIN_UUID, null, null, teamSize, date, from, from), true)) {
+                    if (earliest != null && BY_START.compare(room, earliest) >= 0) {
+                        break;
+                    }
+                    if (!room.creatorTeamId().equals(teamId) && !excluded.contains(room.id()) && isFree(room, busyThatDay)) {
+                        earliest = room;
+                        break;
+                    }
+                }
+            }
+            if (earliest != null) {
+                return Optional.of(earliest);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private List<NavigableSet<Room>> groupsOn(int teamSize, LocalDate date, Collection<UUID> branchIds) {
+        if (branchIds.isEmpty()) {
+            return List.copyOf(groups.subMap(new Key(teamSize, date, MIN_UUID), true, new Key(teamSize, date, MAX_UUID), true).values());
+        }
+        List<NavigableSet<Room>> result = new ArrayList<>(branchIds.size());
+        for (UUID branchId : branchIds) {
+            NavigableSet<Room> group = groups.get(new Key(teamSize, date, branchId));
+            if (group != null) {
+                result.add(group);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isFree(Room room, List<Busy> busy) {
+        for (Busy slot : busy) {
+            if (slot.startTime().isBefore(room.endTime()) && slot.endTime().isAfter(room.startTime())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,92 @@
+package com.footbook.service.booking;
+
+import com.footbook.domain.TeamRoom;
+import com.footbook.event.EntityChangedEvent;
+import com.footbook.repository.TeamRoomRepository;
+import com.footbook.service.booking.OpenMatchIndex.Busy;
+import com.footbook.service.booking.OpenMatchIndex.Room;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Proposes OPEN team rooms for a team looking for an opponent, from an {@link OpenMatchIndex}.
+ * <p>
+ * The index is loaded once the application is ready and brought up to date after each team room
+ * change commits, so creating, joining and cancelling a room is reflected at once. It is also
+ * reloaded every {@code app.booking.match-index-refresh-ms} to pick up rooms changed by other
+ * application instances.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OpenMatchmaker {
+    private final TeamRoomRepository teamRoomRepository;
+    private final OpenMatchIndex index = new OpenMatchIndex();
+
+    /**
+     * @return the earliest upcoming OPEN room of the team's size that the team is free for and did not create
+     */
+    public Optional<Room> findEarliest(int teamSize, UUID teamId, Collection<UUID> branchIds, LocalDate fromDate,
+                                       LocalDate toDate, Collection<Busy> busy, Set<UUID> excluded) {
+        return index.findEarliest(teamSize, teamId, branchIds, fromDate, toDate, LocalDateTime.now(), busy, excluded);
+    }
+
+    /**
+     * Drops a proposed room found to be no longer open.
+     */
+    public void discard(UUID roomId) {
+        index.remove(roomId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.booking.match-index-refresh-ms:60000}",
+        fixedDelayString = "${app.booking.match-index-refresh-ms:60000}")
+    public void loadOpenRooms() {
+        index.replaceAll(teamRoomRepository
+            .findByStatusAndStartsAtGreaterThanEqual(TeamRoom.TeamRoomStatus.OPEN, LocalDateTime.now())
+            .stream()
+            .map(this::toRoom)
+            .toList());
+        log.debug("Loaded {} open team rooms for matchmaking", index.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.entityType() != EntityChangedEvent.EntityType.TEAM_ROOM) {
+            return;
+        }
+        Optional<TeamRoom> room = teamRoomRepository.findById(event.entityId())
+            .filter(r -> r.getStatus() == TeamRoom.TeamRoomStatus.OPEN);
+        if (room.isPresent()) {
+            index.put(toRoom(room.get()));
+        } else {
+            index.remove(event.entityId());
+        }
+    }
+
+    @Scheduled(cron = "0 5 0 * * *")
+    public void evictPastDays() {
+        index.evictBefore(LocalDate.now());
+    }
+
+    private Room toRoom(TeamRoom room) {
+        return new Room(room.getId(), room.getBranchId(), room.getCreatorTeamId(), room.getRequiredTeamSize(),
+            room.getScheduledDate(), room.getStartTime(), room.getEndTime());
+    }
+}
@@ -0,0 +1,177 @@
+package com.footbook.service.booking;
+
+import com.footbook.domain.Pitch;
+import com.footbook.event.EntityChangedEvent;
+import com.footbook.exception.SlotUnavailableException;
+import com.footbook.repository.PitchRepository;
+import com.footbook.repository.projection.PitchBookingSlot;
+import com.footbook.service.booking.PitchAvailabilityIndex.Booking;
+import com.footbook.service.booking.PitchAvailabilityIndex.DayKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.footbook.util.ErrorMessages.NO_PITCH_AVAILABLE;
+import static com.footbook.util.ErrorMessages.PITCH_BOOKING_CONFLICT;
+
+/**
+ * Assigns rooms to pitches so that no pitch is ever booked twice at the same time.
+ * <p>
+ * A free pitch is chosen from the in-memory {@link PitchAvailabilityIndex}, then occupied by
+ * inserting into {@code pitch_bookings}, whose exclusion constraint rejects the insert if
+ * another transaction or application instance took the pitch in the meantime. The index is
+ * brought up to date after each room change commits.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PitchAllocator {
+    private final PitchRepository pitchRepository;
+    private final PitchAvailabilityIndex index = new PitchAvailabilityIndex();
+
+    public enum RoomType {
+        INDIVIDUAL,
+        TEAM
+    }
+
+    /**
+     * @return the first active pitch of the branch that is free for the whole of {@code [start, end)}
+     * @throws SlotUnavailableException if every pitch is taken
+     */
+    public UUID findFreePitch(UUID branchId, LocalDate date, LocalTime start, LocalTime end) {
+        return findFreePitches(branchId, List.of(date), start, end).get(date);
+    }
+
+    /**
+     * Chooses a pitch for each date at the same times, as for the rooms of a series. Days not in
+     * the index are read together, with one query for the branch's pitches and one for the
+     * bookings on those days.
+     *
+     * @return the first active pitch of the branch free for the whole of {@code [start, end)}, by date
+     * @throws SlotUnavailableException if every pitch is taken on any of the dates
+     */
+    public Map<LocalDate, UUID> findFreePitches(UUID branchId, Collection<LocalDate> dates, LocalTime start, LocalTime end) {
+        load(branchId, dates.stream().filter(date -> !index.isLoaded(new DayKey(branchId, date))).toList());
+        Map<LocalDate, UUID> pitchIds = new LinkedHashMap<>();
+        List<LocalDate> unavailable = findFreePitches(branchId, dates, start, end, pitchIds);
+        if (!unavailable.isEmpty()) {
+            // A cancellation may have committed while the days were being loaded, so confirm before refusing
+            load(branchId, unavailable);
+            unavailable = findFreePitches(branchId, unavailable, start, end, pitchIds);
+        }
+        if (!unavailable.isEmpty()) {
+            throw new SlotUnavailableException(String.format("%s (%s)", NO_PITCH_AVAILABLE,
+                unavailable.stream().map(LocalDate::toString).collect(Collectors.joining(", "))));
+        }
+        return pitchIds;
+    }
+
+    /**
+     * Occupies the pitch for the room within the current transaction.
+     *
+     * @throws SlotUnavailableException if the pitch was booked for an overlapping time since it was chosen
+     */
+    public void reserve(UUID roomId, RoomType roomType, UUID pitchId, UUID branchId,
+                        LocalDate date, LocalTime start, LocalTime end) {
+        try {
+            pitchRepository.insertBooking(roomId, roomType.name(), pitchId, branchId, date, start, end);
+        } catch (DataIntegrityViolationException e) {
+            log.info("Pitch {} was taken concurrently for {} {}-{}", pitchId, date, start, end);
+            index.invalidate(new DayKey(branchId, date));
+            throw new SlotUnavailableException(PITCH_BOOKING_CONFLICT);
+        }
+    }
+
+    /**
+     * Occupies the pitches already assigned to every room of a series, in one statement.
+     *
+     * @param dates dates of the series, whose cached availability is dropped on a conflict
+     * @throws SlotUnavailableException if any of the pitches was booked for an overlapping time since it was chosen
+     */
+    public void reserveSeries(UUID seriesId, RoomType roomType, UUID branchId, Collection<LocalDate> dates) {
+        try {
+            if (roomType == RoomType.INDIVIDUAL) {
+                pitchRepository.insertIndividualSeriesBookings(seriesId);
+            } else {
+                pitchRepository.insertTeamSeriesBookings(seriesId);
+            }
+        } catch (DataIntegrityViolationException e) {
+            log.info("A pitch of series {} was taken concurrently", seriesId);
+            dates.forEach(date -> index.invalidate(new DayKey(branchId, date)));
+            throw new SlotUnavailableException(PITCH_BOOKING_CONFLICT);
+        }
+    }
+
+    /**
+     * Frees the pitch held by the room, if any, within the current transaction.
+     */
+    public void release(UUID roomId) {
+        pitchRepository.deleteBookingByRoomId(roomId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        UUID id = event.entityId();
+        switch (event.entityType()) {
+            case INDIVIDUAL_ROOM, TEAM_ROOM -> {
+                index.remove(id);
+                pitchRepository.findBookingByRoomId(id)
+                    .ifPresent(slot -> index.add(new DayKey(slot.getBranchId(), slot.getScheduledDate()), toBooking(slot)));
+            }
+            case BRANCH -> index.invalidateBranch(id);
+            default -> {
+            }
+        }
+    }
+
+    @Scheduled(cron = "0 5 0 * * *")
+    public void evictPastDays() {
+        index.evictBefore(LocalDate.now());
+    }
+
+    /**
+     * Adds the free pitch of each date to {@code pitchIds}.
+     *
+     * @return the dates on which every pitch is taken
+     */
+    private List<LocalDate> findFreePitches(UUID branchId, Collection<LocalDate> dates, LocalTime start, LocalTime end,
+                                            Map<LocalDate, UUID> pitchIds) {
+        List<LocalDate> unavailable = new ArrayList<>();
+        for (LocalDate date : dates) {
+            index.findFreePitch(new DayKey(branchId, date), start, end)
+                .ifPresentOrElse(pitchId -> pitchIds.put(date, pitchId), () -> unavailable.add(date));
+        }
+        return unavailable;
+    }
+
+    private void load(UUID branchId, Collection<LocalDate> dates) {
+        if (dates.isEmpty()) {
+            return;
+        }
+        List<UUID> pitchIds = pitchRepository.findByBranchIdAndIsActiveTrueOrderByNameAsc(branchId).stream()
+            .map(Pitch::getId)
+            .toList();
+        Map<LocalDate, List<Booking>> bookingsByDate = pitchRepository.findBookingsByBranchAndDates(branchId, dates).stream()
+            .collect(Collectors.groupingBy(PitchBookingSlot::getScheduledDate,
+                Collectors.mapping(this::toBooking, Collectors.toList())));
+        for (LocalDate date : dates) {
+            index.load(new DayKey(branchId, date), pitchIds, bookingsByDate.getOrDefault(date, List.of()));
+        }
+    }
+
+    private Booking toBooking(PitchBookingSlot slot) {
+        return new Booking(slot.getRoomId(), slot.getPitchId(), slot.getStartTime(), slot.getEndTime());
+    }
+}
@@ -0,0 +1,126 @@
+package com.footbook.service.booking;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory view of which pitches are booked when, kept per branch and day.
+ * <p>
+ * The bookings of one pitch never overlap, so they are held in a map sorted by start time and
+ * the only booking that can overlap a requested {@code [start, end)} is the last one starting
+ * before {@code end}. Checking a pitch is therefore one {@link TreeMap#lowerEntry} lookup, and
+ * finding a free pitch at a branch costs O(p log n) for p pitches with n bookings each.
+ * <p>
+ * Days are loaded on demand by the caller. The index only speeds up choosing a pitch; the
+ * exclusion constraint on {@code pitch_bookings} remains the authority on double bookings.
+ */
+public final class PitchAvailabilityIndex {
+    private final Map<DayKey, Day> days = new ConcurrentHashMap<>();
+    private final Map<UUID, DayKey> roomDays = new ConcurrentHashMap<>();
+
+    public record DayKey(UUID branchId, LocalDate date) {
+    }
+
+    public record Booking(UUID roomId, UUID pitchId, LocalTime startTime, LocalTime endTime) {
+    }
+
+    private static final class Day {
+        private final List<UUID> activePitchIds;
+        private final Map<UUID, TreeMap<LocalTime, Booking>> bookingsByPitch = new HashMap<>();
+        private final Map<UUID, Booking> bookingsByRoom = new HashMap<>();
+
+        private Day(List<UUID> activePitchIds) {
+            this.activePitchIds = List.copyOf(activePitchIds);
+        }
+
+        private synchronized void add(Booking booking) {
+            remove(booking.roomId());
+            bookingsByPitch.computeIfAbsent(booking.pitchId(), pitch -> new TreeMap<>()).put(booking.startTime(), booking);
+            bookingsByRoom.put(booking.roomId(), booking);
+        }
+
+        private synchronized void remove(UUID roomId) {
+            Booking booking = bookingsByRoom.remove(roomId);
+            if (booking != null) {
+                bookingsByPitch.get(booking.pitchId()).remove(booking.startTime(), booking);
+            }
+        }
+
+        private synchronized Optional<UUID> findFreePitch(LocalTime start, LocalTime end) {
+            for (UUID pitchId : activePitchIds) {
+                TreeMap<LocalTime, Booking> bookings = bookingsByPitch.get(pitchId);
+                Map.Entry<LocalTime, Booking> last = bookings != null ? bookings.lowerEntry(end) : null;
+                if (last == null || !last.getValue().endTime().isAfter(start)) {
+                    return Optional.of(pitchId);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    public boolean isLoaded(DayKey key) {
+        return days.containsKey(key);
+    }
+
+    /**
+     * Replaces everything known about a day.
+     *
+     * @param activePitchIds pitches that may be offered, in order of preference
+     * @param bookings       every booking of the branch on that day, on active pitches or not
+     */
+    public void load(DayKey key, List<UUID> activePitchIds, Collection<Booking> bookings) {
+        Day day = new Day(activePitchIds);
+        for (Booking booking : bookings) {
+            day.add(booking);
+            roomDays.put(booking.roomId(), key);
+        }
+        days.put(key, day);
+    }
+
+    /**
+     * @return the first active pitch free for the whole of {@code [start, end)}, or empty if every
+     * pitch is taken or the day is not loaded
+     */
+    public Optional<UUID> findFreePitch(DayKey key, LocalTime start, LocalTime end) {
+        Day day = days.get(key);
+        return day != null ? day.findFreePitch(start, end) : Optional.empty();
+    }
+
+    /**
+     * Records a booking, moving it if the room was booked elsewhere. Ignored if its day is not loaded.
+     */
+    public void add(DayKey key, Booking booking) {
+        remove(booking.roomId());
+        Day day = days.get(key);
+        if (day != null) {
+            day.add(booking);
+            roomDays.put(booking.roomId(), key);
+        }
+    }
+
+    public void remove(UUID roomId) {
+        DayKey key = roomDays.remove(roomId);
+        Day day = key != null ? days.get(key) : null;
+        if (day != null) {
+            day.remove(roomId);
+        }
+    }
+
+    public void invalidate(DayKey key) {
+        days.remove(key);
+    }
+
+    public void invalidateBranch(UUID branchId) {
+        days.keySet().removeIf(key -> key.branchId().equals(branchId));
+    }
+
+    /**
+     * Forgets every day before the given date; past days can no longer be booked.
+     */
+    public void evictBefore(LocalDate date) {
+        days.keySet().removeIf(key -> key.date().isBefore(date));
+        roomDays.values().removeIf(key -> key.date().isBefore(date));
+    }
+}
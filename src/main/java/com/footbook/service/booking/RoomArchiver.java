@@ -0,0 +1,54 @@
+package com.footbook.service.booking;
+
+import com.footbook.event.EntityChangedEvent;
+import com.footbook.repository.RoomArchiveRepository;
+import com.footbook.repository.projection.ArchivedRoom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Transaction boundaries of archiving. Each step commits on its own, so rooms are moved in
+ * short batches instead of one long transaction holding locks on the live tables.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomArchiver {
+    private final RoomArchiveRepository archiveRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Prepares archiving of rooms scheduled before {@code cutoff}: the booking timeline stops
+     * projecting them, and the archive partitions they go into are created.
+     *
+     * @return number of partitions created
+     */
+    @Transactional
+    public int prepare(LocalDate cutoff) {
+        archiveRepository.advanceArchivedBefore(cutoff);
+        return archiveRepository.createArchivePartitions(cutoff);
+    }
+
+    /**
+     * Moves a batch of rooms and announces each as changed, so the search index and caches drop
+     * them once the batch commits.
+     *
+     * @return number of rooms moved; 0 once no room before {@code cutoff} is left
+     */
+    @Transactional
+    public int archiveBatch(LocalDate cutoff, int maxRooms) {
+        List<ArchivedRoom> rooms = archiveRepository.archiveRoomsBefore(cutoff, maxRooms);
+        rooms.forEach(room -> eventPublisher.publishEvent(new EntityChangedEvent(
+            EntityChangedEvent.EntityType.valueOf(room.getRoomType()), room.getRoomId())));
+        return rooms.size();
+    }
+
+    @Transactional
+    public int detachPartitionsBefore(LocalDate month) {
+        return archiveRepository.detachArchivePartitions(month);
+    }
+}
@@ -0,0 +1,41 @@
+package com.footbook.service.booking;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static com.footbook.util.ErrorMessages.INVALID_RECURRENCE;
+
+/**
+ * Dates on which the rooms of a recurring series take place.
+ */
+public enum RoomSeriesSchedule {
+    WEEKLY(1),
+    BIWEEKLY(2);
+
+    private final int weeksBetween;
+
+    RoomSeriesSchedule(int weeksBetween) {
+        this.weeksBetween = weeksBetween;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the recurrence is not WEEKLY or BIWEEKLY
+     */
+    public static RoomSeriesSchedule parse(String recurrence) {
+        try {
+            return valueOf(recurrence.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(INVALID_RECURRENCE);
+        }
+    }
+
+    public List<LocalDate> dates(LocalDate first, int occurrences) {
+        List<LocalDate> dates = new ArrayList<>(occurrences);
+        for (int i = 0; i < occurrences; i++) {
+            dates.add(first.plusWeeks((long) i * weeksBetween));
+        }
+        return dates;
+    }
+}
@@ -0,0 +1,216 @@
+package com.footbook.service.booking;
+
+import com.footbook.config.booking.BookingProperties;
+import com.footbook.event.EntityChangedEvent;
+import com.footbook.exception.SlotUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.function.IntSupplier;
+
+import static com.footbook.util.ErrorMessages.ROOM_FULL;
+import static com.footbook.util.ErrorMessages.SLOTS_HELD;
+
+/**
+ * Short-lived holds on individual room slots, so a burst of players joining the same room is
+ * settled in memory before any of them reaches the database.
+ * <p>
+ * A player first holds a slot and then confirms it by joining. Holds are granted while the room's
+ * free slot count, as last read from the database, exceeds the number of live holds; everyone
+ * else is refused at once with {@link SlotUnavailableException}. The free slot count is re-read
+ * after a change to the room commits, and at least once per hold TTL so that changes made by
+ * other application instances are picked up. Expired holds are reaped by a {@link TimingWheel}.
+ * <p>
+ * Holds are keyed by the authenticated principal name rather than the user ID, so refusing one
+ * needs no user lookup either. They are per instance and only ration access to the database;
+ * the slot reservation in {@code individual_rooms} remains the authority on capacity.
+ */
+@Component
+@Slf4j
+public class SlotHoldRegistry {
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_BUCKETS = 512;
+
+    private final long ttlMillis;
+    private final Map<UUID, RoomHolds> rooms = new HashMap<>();
+    private final TimingWheel<Hold> wheel;
+
+    public record Hold(UUID roomId, String holder, long expiresAtMillis) {
+        public LocalDateTime expiresAt() {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAtMillis), ZoneId.systemDefault());
+        }
+
+        private boolean isLive(long nowMillis) {
+            return expiresAtMillis > nowMillis;
+        }
+    }
+
+    private static final class RoomHolds {
+        private final Map<String, Hold> byHolder = new HashMap<>();
+        // Null until read, and again once a committed change has made it stale
+        private Integer freeSlots;
+        private long freeSlotsReadAt;
+
+        private int liveHoldsExcept(String holder, long nowMillis) {
+            int count = 0;
+            for (Hold hold : byHolder.values()) {
+                if (hold.isLive(nowMillis) && !hold.holder().equals(holder)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    public SlotHoldRegistry(BookingProperties properties) {
+        this.ttlMillis = properties.getHoldTtl().toMillis();
+        this.wheel = new TimingWheel<>(TICK_MILLIS, WHEEL_BUCKETS, System.currentTimeMillis());
+    }
+
+    /**
+     * Holds one slot of the room for the player, or returns their live hold if they already have one.
+     *
+     * @param freeSlots reads the room's free slot count from the database; only called when no fresh count is known
+     * @throws SlotUnavailableException if the room is full or every free slot is held by other players
+     */
+    public Hold hold(UUID roomId, String holder, IntSupplier freeSlots) {
+        int free = freeSlots(roomId, freeSlots);
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            RoomHolds room = rooms.computeIfAbsent(roomId, id -> new RoomHolds());
+            Hold existing = room.byHolder.get(holder);
+            if (existing != null && existing.isLive(now)) {
+                return existing;
+            }
+            if (free <= 0) {
+                throw new SlotUnavailableException(ROOM_FULL);
+            }
+            if (room.liveHoldsExcept(holder, now) >= free) {
+                throw new SlotUnavailableException(SLOTS_HELD);
+            }
+            Hold hold = new Hold(roomId, holder, now + ttlMillis);
+            room.byHolder.put(holder, hold);
+            wheel.schedule(hold, hold.expiresAtMillis());
+            return hold;
+        }
+    }
+
+    /**
+     * Checks that a player joining without a hold would not take a slot held by someone else.
+     * A full room is left for the slot reservation to report.
+     *
+     * @throws SlotUnavailableException if every free slot is held by other players
+     */
+    public void checkUnheldSlot(UUID roomId, String holder, IntSupplier freeSlots) {
+        int free = freeSlots(roomId, freeSlots);
+        synchronized (this) {
+            RoomHolds room = rooms.get(roomId);
+            if (free > 0 && room != null && room.liveHoldsExcept(holder, System.currentTimeMillis()) >= free) {
+                throw new SlotUnavailableException(SLOTS_HELD);
+            }
+        }
+    }
+
+    public synchronized Optional<Hold> findHold(UUID roomId, String holder) {
+        RoomHolds room = rooms.get(roomId);
+        if (room == null) {
+            return Optional.empty();
+        }
+        Hold hold = room.byHolder.get(holder);
+        return hold != null && hold.isLive(System.currentTimeMillis()) ? Optional.of(hold) : Optional.empty();
+    }
+
+    public synchronized int heldSlots(UUID roomId) {
+        RoomHolds room = rooms.get(roomId);
+        return room != null ? room.liveHoldsExcept(null, System.currentTimeMillis()) : 0;
+    }
+
+    /**
+     * Drops the player's hold once it has been confirmed or is no longer wanted.
+     */
+    public synchronized void release(UUID roomId, String holder) {
+        RoomHolds room = rooms.get(roomId);
+        if (room != null) {
+            room.byHolder.remove(holder);
+        }
+    }
+
+    /**
+     * Drops the player's hold once the current transaction has committed, so a join that fails
+     * at commit leaves the player holding their slot. Without a transaction the hold is dropped at once.
+     */
+    public void releaseAfterCommit(UUID roomId, String holder) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(roomId, holder);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                release(roomId, holder);
+            }
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.entityType() == EntityChangedEvent.EntityType.INDIVIDUAL_ROOM) {
+            synchronized (this) {
+                RoomHolds room = rooms.get(event.entityId());
+                if (room != null) {
+                    room.freeSlots = null;
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelay = TICK_MILLIS)
+    public synchronized void reapExpiredHolds() {
+        long now = System.currentTimeMillis();
+        int reaped = 0;
+        for (Hold hold : wheel.advance(now)) {
+            RoomHolds room = rooms.get(hold.roomId());
+            // A confirmed or renewed hold leaves its old wheel entry behind; only the current one counts
+            if (room != null && room.byHolder.get(hold.holder()) == hold) {
+                room.byHolder.remove(hold.holder());
+                reaped++;
+            }
+        }
+        rooms.values().removeIf(room -> room.byHolder.isEmpty() && !hasFreshCount(room, now));
+        if (reaped > 0) {
+            log.debug("Released {} expired slot holds", reaped);
+        }
+    }
+
+    /**
+     * Returns the room's free slot count, reading it outside the lock when none is fresh.
+     */
+    private int freeSlots(UUID roomId, IntSupplier loader) {
+        synchronized (this) {
+            RoomHolds room = rooms.get(roomId);
+            if (room != null && hasFreshCount(room, System.currentTimeMillis())) {
+                return room.freeSlots;
+            }
+        }
+        int free = loader.getAsInt();
+        synchronized (this) {
+            RoomHolds room = rooms.computeIfAbsent(roomId, id -> new RoomHolds());
+            room.freeSlots = free;
+            room.freeSlotsReadAt = System.currentTimeMillis();
+        }
+        return free;
+    }
+
+    private boolean hasFreshCount(RoomHolds room, long nowMillis) {
+        return room.freeSlots != null && nowMillis - room.freeSlotsReadAt < ttlMillis;
+    }
+}
@@ -0,0 +1,76 @@
+package com.footbook.service.booking;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Hashed timing wheel for expiring items at a coarse tick.
+ * <p>
+ * Each item is dropped into the bucket of the tick it expires on, and advancing the wheel only
+ * walks the buckets of the ticks that passed. Scheduling is O(1) and expiring costs O(1) per item,
+ * however many items are pending. Items due more than one revolution ahead share a bucket with
+ * nearer ones and are skipped until their tick comes round.
+ * <p>
+ * Not thread-safe; callers synchronize.
+ */
+public final class TimingWheel<T> {
+    private final long tickMillis;
+    private final List<List<Timeout<T>>> buckets;
+    private long currentTick;
+    private int size;
+
+    private record Timeout<T>(T item, long deadlineTick) {
+    }
+
+    public TimingWheel(long tickMillis, int bucketCount, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.buckets = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Schedules an item to expire at the first tick at or after {@code deadlineMillis}.
+     */
+    public void schedule(T item, long deadlineMillis) {
+        long deadlineTick = Math.max((deadlineMillis + tickMillis - 1) / tickMillis, currentTick + 1);
+        bucketOf(deadlineTick).add(new Timeout<>(item, deadlineTick));
+        size++;
+    }
+
+    /**
+     * Moves the wheel to {@code nowMillis}.
+     *
+     * @return items whose deadline has passed, in no particular order
+     */
+    public List<T> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<T> expired = new ArrayList<>();
+        // After a long pause every bucket is due, but each only needs to be walked once
+        long steps = Math.min(targetTick - currentTick, buckets.size());
+        for (long step = 1; step <= steps; step++) {
+            Iterator<Timeout<T>> iterator = bucketOf(currentTick + step).iterator();
+            while (iterator.hasNext()) {
+                Timeout<T> timeout = iterator.next();
+                if (timeout.deadlineTick() <= targetTick) {
+                    iterator.remove();
+                    expired.add(timeout.item());
+                }
+            }
+        }
+        currentTick = Math.max(currentTick, targetTick);
+        size -= expired.size();
+        return expired;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private List<Timeout<T>> bucketOf(long tick) {
+        return buckets.get((int) (tick % buckets.size()));
+    }
+}
@@ -9,6 +9,7 @@ import com.footbook.domain.User;
 import com.footbook.dto.request.auth.*;
 import com.footbook.dto.response.auth.AuthResponse;
 import com.footbook.dto.response.auth.MeResponse;
+import com.footbook.event.EntityChangedEvent;
 import com.footbook.exception.EmailSendException;
 import com.footbook.repository.RefreshTokenRepository;
 import com.footbook.repository.RevokedTokenRepository;
@@ -22,6 +23,7 @@ import com.footbook.util.TokenGenerator;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
@@ -60,6 +62,7 @@ public class AuthServiceImpl implements AuthService {
     private final EmailProperties emailProperties;
     private final EmailService emailService;
     private final EmailTemplateService emailTemplateService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public void signup(@Valid SignupRequest request) {
@@ -138,6 +141,7 @@ public class AuthServiceImpl implements AuthService {
         user.setVerificationAttempts(0);
         user.setVerificationLockedUntil(null);
         userRepository.save(user);
+        eventPublisher.publishEvent(new EntityChangedEvent(EntityChangedEvent.EntityType.USER, user.getId()));
 
         return createAuthResponse(user);
     }
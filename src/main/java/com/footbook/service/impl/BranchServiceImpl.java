@@ -1,13 +1,21 @@
 package com.footbook.service.impl;
 
 import com.footbook.domain.Branch;
+import com.footbook.domain.Pitch;
 import com.footbook.dto.request.branch.CreateBranchRequest;
 import com.footbook.dto.request.branch.UpdateBranchRequest;
 import com.footbook.dto.response.branch.BranchResponse;
+import com.footbook.dto.response.branch.NearbyBranchResponse;
+import com.footbook.event.EntityChangedEvent;
 import com.footbook.repository.BranchRepository;
+import com.footbook.repository.PitchRepository;
 import com.footbook.service.BranchService;
+import com.footbook.service.reference.ReferenceLoader;
+import com.footbook.service.search.BranchGeoIndex;
+import com.footbook.service.search.NearbyBranchLocator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -16,9 +24,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.footbook.util.ErrorMessages.*;
 
@@ -27,13 +35,16 @@ import static com.footbook.util.ErrorMessages.*;
 @Slf4j
 public class BranchServiceImpl implements BranchService {
     private final BranchRepository branchRepository;
+    private final PitchRepository pitchRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NearbyBranchLocator nearbyBranchLocator;
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
 
     @Override
     @Transactional(readOnly = true)
     public Page<BranchResponse> getAllBranches(String name, Pageable pageable) {
         return branchRepository.findActiveBranches(name, pageable)
-            .map(this::mapToResponse);
+            .map(ReferenceLoader::toBranchResponse);
     }
 
     @Override
@@ -41,7 +52,25 @@ public class BranchServiceImpl implements BranchService {
     public List<BranchResponse> getAllActiveBranches() {
         return branchRepository.findByIsActiveTrueOrderByNameAsc()
             .stream()
-            .map(this::mapToResponse)
+            .map(ReferenceLoader::toBranchResponse)
+            .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<NearbyBranchResponse> getNearbyBranches(double latitude, double longitude, Double radiusKm) {
+        List<BranchGeoIndex.Match> matches = nearbyBranchLocator.findNearby(
+            nearbyBranchLocator.toLocation(latitude, longitude), radiusKm);
+
+        // The index is updated after commit, so a branch deactivated just now may still be listed
+        Map<UUID, Branch> branches = branchRepository.findAllById(matches.stream().map(BranchGeoIndex.Match::id).toList())
+            .stream()
+            .filter(branch -> Boolean.TRUE.equals(branch.getIsActive()))
+            .collect(Collectors.toMap(Branch::getId, Function.identity()));
+
+        return matches.stream()
+            .filter(match -> branches.containsKey(match.id()))
+            .map(match -> new NearbyBranchResponse(ReferenceLoader.toBranchResponse(branches.get(match.id())), match.distanceKm()))
             .toList();
     }
 
@@ -50,7 +79,7 @@ public class BranchServiceImpl implements BranchService {
     public BranchResponse getBranchById(UUID id) {
         Branch branch = branchRepository.findByIdAndIsActiveTrue(id)
             .orElseThrow(() -> new NoSuchElementException(BRANCH_NOT_FOUND + " with ID: " + id));
-        return mapToResponse(branch);
+        return ReferenceLoader.toBranchResponse(branch);
     }
 
     @Override
@@ -77,9 +106,22 @@ public class BranchServiceImpl implements BranchService {
             .build();
 
         branch = branchRepository.save(branch);
-        log.info("Created new branch: {} with ID: {}", branch.getName(), branch.getId());
 
-        return mapToResponse(branch);
+        int pitchCount = request.pitchCount() != null ? request.pitchCount() : 1;
+        List<Pitch> pitches = new ArrayList<>(pitchCount);
+        for (int i = 1; i <= pitchCount; i++) {
+            pitches.add(Pitch.builder()
+                .branchId(branch.getId())
+                .name("Pitch " + i)
+                .isActive(true)
+                .build());
+        }
+        pitchRepository.saveAll(pitches);
+
+        log.info("Created new branch: {} with ID: {} and {} pitches", branch.getName(), branch.getId(), pitchCount);
+        eventPublisher.publishEvent(new EntityChangedEvent(EntityChangedEvent.EntityType.BRANCH, branch.getId()));
+
+        return ReferenceLoader.toBranchResponse(branch);
     }
 
     @Override
@@ -127,8 +169,9 @@ public class BranchServiceImpl implements BranchService {
 
         branch = branchRepository.save(branch);
         log.info("Updated branch: {} with ID: {}", branch.getName(), branch.getId());
+        eventPublisher.publishEvent(new EntityChangedEvent(EntityChangedEvent.EntityType.BRANCH, branch.getId()));
 
-        return mapToResponse(branch);
+        return ReferenceLoader.toBranchResponse(branch);
     }
 
     @Override
@@ -140,24 +183,7 @@ public class BranchServiceImpl implements BranchService {
         branch.setIsActive(false);
         branchRepository.save(branch);
         log.info("Soft deleted branch with ID: {}", id);
-    }
-
-    private BranchResponse mapToResponse(Branch branch) {
-        return new BranchResponse(
-            branch.getId(),
-            branch.getName(),
-            branch.getAddress(),
-            branch.getGoogleMapsUrl(),
-            branch.getOperatingHoursStart().format(TIME_FORMATTER),
-            branch.getOperatingHoursEnd().format(TIME_FORMATTER),
-            branch.getContactPhone(),
-            branch.getContactEmail(),
-            branch.getLatitude(),
-            branch.getLongitude(),
-            branch.getIsActive(),
-            branch.getCreatedAt(),
-            branch.getUpdatedAt()
-        );
+        eventPublisher.publishEvent(new EntityChangedEvent(EntityChangedEvent.EntityType.BRANCH, id));
     }
 
     private LocalTime parseTime(String timeStr, String fieldName) {
@@ -0,0 +1,158 @@
+package com.footbook.service.impl;
+
+import com.footbook.config.search.SearchProperties;
+import com.footbook.domain.Branch;
+import com.footbook.domain.IndividualRoom;
+import com.footbook.domain.Team;
+import com.footbook.domain.TeamRoom;
+import com.footbook.dto.response.search.SearchResponse;
+import com.footbook.event.EntityChangedEvent;
+import com.footbook.repository.*;
+import com.footbook.service.SearchService;
+import com.footbook.service.search.SearchResultCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.footbook.service.impl.SearchServiceImpl.TYPE_BRANCHES;
+import static com.footbook.service.impl.SearchServiceImpl.TYPE_INDIVIDUAL_ROOMS;
+import static com.footbook.service.impl.SearchServiceImpl.TYPE_TEAMS;
+import static com.footbook.service.impl.SearchServiceImpl.TYPE_TEAM_ROOMS;
+
+/**
+ * Serves repeated global searches from a {@link SearchResultCache} in front of the configured
+ * search engine, and evicts affected entries after every committed write.
+ */
+@Service
+@Primary
+@RequiredArgsConstructor
+@Slf4j
+public class CachingSearchServiceImpl implements SearchService {
+    private final SearchServiceImpl databaseSearchService;
+    private final ObjectProvider<InMemorySearchServiceImpl> inMemorySearchService;
+    private final BranchRepository branchRepository;
+    private final TeamRepository teamRepository;
+    private final UserRepository userRepository;
+    private final IndividualRoomRepository individualRoomRepository;
+    private final TeamRoomRepository teamRoomRepository;
+    private final SearchProperties searchProperties;
+    private final MeterRegistry meterRegistry;
+
+    private static final String METRIC_PREFIX = "footbook.search.cache";
+
+    private SearchResultCache cache;
+
+    @PostConstruct
+    void initCache() {
+        cache = new SearchResultCache(searchProperties.getCacheMaxEntries(), searchProperties.getCacheTtl());
+
+        Gauge.builder(METRIC_PREFIX + ".size", cache, SearchResultCache::size).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".hit.ratio", cache, SearchResultCache::hitRatio).register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", cache, SearchResultCache::hits)
+            .tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", cache, SearchResultCache::misses)
+            .tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", cache, SearchResultCache::sizeEvictions)
+            .tag("cause", "size").register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", cache, SearchResultCache::expiredEvictions)
+            .tag("cause", "expired").register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", cache, SearchResultCache::invalidatedEvictions)
+            .tag("cause", "invalidated").register(meterRegistry);
+    }
+
+    @Override
+    public SearchResponse search(String query, String type, String mode, String cursor, int size) {
+        SearchService inMemory = inMemorySearchService.getIfAvailable();
+        SearchService engine = inMemory != null ? inMemory : databaseSearchService;
+        String normalizedQuery = SearchResultCache.normalizeQuery(query);
+        if (searchProperties.getCacheMaxEntries() == 0 || normalizedQuery.isEmpty()) {
+            return engine.search(query, type, mode, cursor, size);
+        }
+
+        SearchResultCache.Key key = new SearchResultCache.Key(
+            normalizedQuery,
+            type != null ? type.toLowerCase() : "",
+            mode != null && !mode.isEmpty() ? mode.toLowerCase() : "fulltext",
+            cursor != null && !cursor.isEmpty() ? cursor : null,
+            size
+        );
+
+        SearchResponse cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = cache.generation();
+        SearchResponse response = engine.search(query, type, mode, cursor, size);
+        if (response.missingTypes().isEmpty()) {
+            cache.put(key, response, generation);
+        }
+        return response;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        UUID id = event.entityId();
+        switch (event.entityType()) {
+            case BRANCH -> cache.invalidate(id, Set.of(TYPE_BRANCHES, TYPE_INDIVIDUAL_ROOMS, TYPE_TEAM_ROOMS),
+                branchRepository.findByIdAndIsActiveTrue(id).map(this::branchText).orElse(null));
+            case TEAM -> cache.invalidate(id, Set.of(TYPE_TEAMS, TYPE_TEAM_ROOMS),
+                teamRepository.findByIdAndStatus(id, Team.TeamStatus.ACTIVE).map(this::teamText).orElse(null));
+            case USER -> cache.invalidate(id, Set.of(TYPE_INDIVIDUAL_ROOMS),
+                userRepository.findById(id).map(user -> join(user.getFirstName(), user.getLastName())).orElse(null));
+            case INDIVIDUAL_ROOM -> cache.invalidate(id, Set.of(TYPE_INDIVIDUAL_ROOMS),
+                individualRoomRepository.findByIdAndStatusNot(id, IndividualRoom.RoomStatus.CANCELLED)
+                    .map(this::individualRoomText).orElse(null));
+            case TEAM_ROOM -> cache.invalidate(id, Set.of(TYPE_TEAM_ROOMS),
+                teamRoomRepository.findByIdAndStatusNot(id, TeamRoom.TeamRoomStatus.CANCELLED)
+                    .map(this::teamRoomText).orElse(null));
+        }
+    }
+
+    private String branchText(Branch branch) {
+        return join(branch.getName(), branch.getAddress());
+    }
+
+    private String teamText(Team team) {
+        return join(team.getName(), team.getDescription());
+    }
+
+    private String individualRoomText(IndividualRoom room) {
+        return join(
+            room.getNotes(),
+            branchRepository.findById(room.getBranchId()).map(this::branchText).orElse(null),
+            userRepository.findById(room.getOwnerId()).map(user -> join(user.getFirstName(), user.getLastName())).orElse(null)
+        );
+    }
+
+    private String teamRoomText(TeamRoom room) {
+        Set<UUID> teamIds = Stream.of(room.getCreatorTeamId(), room.getOpponentTeamId())
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        return join(
+            branchRepository.findById(room.getBranchId()).map(this::branchText).orElse(null),
+            teamRepository.findAllById(teamIds).stream().map(this::teamText).collect(Collectors.joining(" "))
+        );
+    }
+
+    private String join(String... parts) {
+        return Arrays.stream(parts)
+            .filter(Objects::nonNull)
+            .collect(Collectors.joining(" "));
+    }
+}
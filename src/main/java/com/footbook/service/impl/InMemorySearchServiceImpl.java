@@ -0,0 +1,330 @@
+package com.footbook.service.impl;
+
+import com.footbook.config.search.SearchProperties;
+import com.footbook.domain.Branch;
+import com.footbook.domain.IndividualRoom;
+import com.footbook.domain.Team;
+import com.footbook.domain.TeamRoom;
+import com.footbook.dto.response.branch.BranchResponse;
+import com.footbook.dto.response.room.IndividualRoomResponse;
+import com.footbook.dto.response.room.TeamRoomResponse;
+import com.footbook.dto.response.search.SearchResponse;
+import com.footbook.dto.response.team.TeamResponse;
+import com.footbook.event.EntityChangedEvent;
+import com.footbook.repository.BranchRepository;
+import com.footbook.repository.IndividualRoomRepository;
+import com.footbook.repository.TeamRepository;
+import com.footbook.repository.TeamRoomRepository;
+import com.footbook.service.SearchService;
+import com.footbook.service.search.BatchLoader;
+import com.footbook.service.search.InMemorySearchIndex;
+import com.footbook.service.search.InMemorySearchIndex.DocType;
+import com.footbook.service.search.SearchCursor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.function.BooleanSupplier;
+
+import static com.footbook.util.ErrorMessages.INVALID_SEARCH_CURSOR;
+
+/**
+ * Search engine answering full-text queries from an in-process inverted index.
+ * <p>
+ * The index is built once the application is ready and patched after every committed write
+ * reported through {@link EntityChangedEvent}. Fuzzy queries, queries with a prefix too broad to
+ * expand, and any query arriving before the index is built or while it is over its memory budget,
+ * are delegated to {@link SearchServiceImpl}. An index over budget is rebuilt every
+ * {@code app.search.index-rebuild-ms} and swapped in once complete, so the fallback lasts only
+ * until enough documents have been removed for the index to fit again.
+ * <p>
+ * Changes committed during a rebuild are applied to the index being served and queued for the new
+ * one. The queue is drained and the new index published under the same lock the listener takes to
+ * queue, so no change can be queued after the last drain.
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.search", name = "engine", havingValue = "memory")
+@RequiredArgsConstructor
+@Slf4j
+public class InMemorySearchServiceImpl implements SearchService {
+    private final SearchServiceImpl databaseSearchService;
+    private final SearchResultAssembler searchResultAssembler;
+    private final BranchRepository branchRepository;
+    private final TeamRepository teamRepository;
+    private final IndividualRoomRepository individualRoomRepository;
+    private final TeamRoomRepository teamRoomRepository;
+    private final SearchProperties searchProperties;
+    private final MeterRegistry meterRegistry;
+
+    private static final UUID FIRST_PAGE_ID = new UUID(0L, 0L);
+    private static final String METRIC_PREFIX = "footbook.search.index";
+
+    private final Object rebuildLock = new Object();
+    private final Queue<EntityChangedEvent> pendingChanges = new ArrayDeque<>();
+    private volatile InMemorySearchIndex index;
+    private boolean rebuilding;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder(METRIC_PREFIX + ".over.budget", this, service -> {
+            InMemorySearchIndex current = service.index;
+            return current != null && current.isOverBudget() ? 1 : 0;
+        }).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".documents", this, service -> {
+            InMemorySearchIndex current = service.index;
+            return current != null ? current.size() : 0;
+        }).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".bytes", this, service -> {
+            InMemorySearchIndex current = service.index;
+            return current != null ? current.estimatedBytes() : 0;
+        }).baseUnit("bytes").register(meterRegistry);
+    }
+
+    @Override
+    public SearchResponse search(String query, String type, String mode, String cursorStr, int size) {
+        SearchCursor cursor = cursorStr == null || cursorStr.isEmpty() ? null : SearchCursor.decode(cursorStr);
+        if (cursor != null && !SearchCursor.MEMORY.equals(cursor.engine())) {
+            return databaseSearchService.search(query, type, mode, cursorStr, size);
+        }
+
+        InMemorySearchIndex current = index;
+        if (current == null || current.isOverBudget() || (mode != null && !mode.isEmpty() && !mode.equalsIgnoreCase("fulltext"))) {
+            if (cursor != null) {
+                // Index scores cannot be continued by the database engine
+                throw new IllegalArgumentException(INVALID_SEARCH_CURSOR);
+            }
+            return databaseSearchService.search(query, type, mode, null, size);
+        }
+
+        if (query == null || query.trim().isEmpty()) {
+            return new SearchResponse(List.of(), List.of(), List.of(), List.of(), 0,
+                new SearchResponse.NextCursors(null, null, null, null), List.of());
+        }
+
+        Set<DocType> types = cursor != null ? requestedTypes(cursor.type()) : requestedTypes(type);
+        float afterScore = cursor != null ? cursor.score() : Float.POSITIVE_INFINITY;
+        UUID afterId = cursor != null ? cursor.id() : FIRST_PAGE_ID;
+        InMemorySearchIndex.Result result = current.search(query, types, size + 1, afterScore, afterId);
+        if (!result.complete()) {
+            if (cursor != null) {
+                throw new IllegalArgumentException(INVALID_SEARCH_CURSOR);
+            }
+            return databaseSearchService.search(query, type, mode, null, size);
+        }
+        Map<DocType, List<InMemorySearchIndex.Hit>> hits = result.hits();
+
+        List<BranchResponse> branches = payloads(hits, DocType.BRANCH, size, BranchResponse.class);
+        List<IndividualRoomResponse> individualRooms = payloads(hits, DocType.INDIVIDUAL_ROOM, size, IndividualRoomResponse.class);
+        List<TeamRoomResponse> teamRooms = payloads(hits, DocType.TEAM_ROOM, size, TeamRoomResponse.class);
+        List<TeamResponse> teams = payloads(hits, DocType.TEAM, size, TeamResponse.class);
+
+        int totalResults = branches.size() + individualRooms.size() + teamRooms.size() + teams.size();
+
+        return new SearchResponse(
+            branches,
+            individualRooms,
+            teamRooms,
+            teams,
+            totalResults,
+            new SearchResponse.NextCursors(
+                nextCursor(hits, DocType.BRANCH, size),
+                nextCursor(hits, DocType.INDIVIDUAL_ROOM, size),
+                nextCursor(hits, DocType.TEAM_ROOM, size),
+                nextCursor(hits, DocType.TEAM, size)
+            ),
+            List.of()
+        );
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        synchronized (rebuildLock) {
+            if (rebuilding) {
+                return;
+            }
+            rebuilding = true;
+        }
+
+        InMemorySearchIndex fresh = null;
+        try {
+            long start = System.currentTimeMillis();
+            fresh = buildIndex();
+            log.info("Built in-memory search index: {} documents, ~{} KB in {} ms{}",
+                fresh.size(), fresh.estimatedBytes() / 1024, System.currentTimeMillis() - start,
+                fresh.isOverBudget() ? " (over budget, falling back to database search)" : "");
+        } finally {
+            synchronized (rebuildLock) {
+                if (fresh != null) {
+                    EntityChangedEvent change;
+                    while ((change = pendingChanges.poll()) != null) {
+                        applyChange(fresh, change);
+                    }
+                    index = fresh;
+                }
+                pendingChanges.clear();
+                rebuilding = false;
+            }
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.search.index-rebuild-ms:600000}",
+        fixedDelayString = "${app.search.index-rebuild-ms:600000}")
+    public void rebuildIfOverBudget() {
+        InMemorySearchIndex current = index;
+        if (current != null && current.isOverBudget()) {
+            log.info("In-memory search index is over its budget; rebuilding");
+            rebuildIndex();
+        }
+    }
+
+    private InMemorySearchIndex buildIndex() {
+        InMemorySearchIndex fresh = new InMemorySearchIndex(searchProperties.getIndexMemoryBudgetMb() * 1024 * 1024);
+        // Once a document is rejected the index falls back to the database anyway, so stop reading
+        BooleanSupplier overBudget = fresh::isOverBudget;
+
+        indexBranches(fresh, branchRepository.findByIsActiveTrueOrderByNameAsc());
+        BatchLoader.forEachBatch((afterId, limit) -> teamRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+            Team.TeamStatus.ACTIVE, afterId, limit), Team::getId, teams -> indexTeams(fresh, teams), overBudget);
+        BatchLoader.forEachBatch((afterId, limit) -> individualRoomRepository.findByStatusNotAndIdGreaterThanOrderByIdAsc(
+            IndividualRoom.RoomStatus.CANCELLED, afterId, limit), IndividualRoom::getId, rooms -> indexIndividualRooms(fresh, rooms), overBudget);
+        BatchLoader.forEachBatch((afterId, limit) -> teamRoomRepository.findByStatusNotAndIdGreaterThanOrderByIdAsc(
+            TeamRoom.TeamRoomStatus.CANCELLED, afterId, limit), TeamRoom::getId, rooms -> indexTeamRooms(fresh, rooms), overBudget);
+        return fresh;
+    }
+
+    // Patch the index before the result cache evicts, so evicted entries are recomputed from fresh data
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        InMemorySearchIndex current;
+        synchronized (rebuildLock) {
+            current = index;
+            if (rebuilding) {
+                pendingChanges.add(event);
+            }
+        }
+        if (current != null) {
+            applyChange(current, event);
+        }
+    }
+
+    private void applyChange(InMemorySearchIndex target, EntityChangedEvent event) {
+        UUID id = event.entityId();
+        switch (event.entityType()) {
+            case BRANCH -> {
+                Optional<Branch> branch = branchRepository.findByIdAndIsActiveTrue(id);
+                if (branch.isPresent()) {
+                    indexBranches(target, List.of(branch.get()));
+                } else {
+                    target.remove(id);
+                }
+                indexIndividualRooms(target, individualRoomRepository
+                    .findRoomsWithFilters(id, null, null, null, Pageable.unpaged()).getContent());
+                indexTeamRooms(target, teamRoomRepository
+                    .findRoomsWithFilters(id, null, null, null, null, Pageable.unpaged()).getContent());
+            }
+            case TEAM -> {
+                Optional<Team> team = teamRepository.findByIdAndStatus(id, Team.TeamStatus.ACTIVE);
+                if (team.isPresent()) {
+                    indexTeams(target, List.of(team.get()));
+                } else {
+                    target.remove(id);
+                }
+                indexTeamRooms(target, teamRoomRepository.findActiveRoomsByTeams(List.of(id)));
+            }
+            case INDIVIDUAL_ROOM -> individualRoomRepository.findByIdAndStatusNot(id, IndividualRoom.RoomStatus.CANCELLED)
+                .ifPresentOrElse(room -> indexIndividualRooms(target, List.of(room)), () -> target.remove(id));
+            case TEAM_ROOM -> teamRoomRepository.findByIdAndStatusNot(id, TeamRoom.TeamRoomStatus.CANCELLED)
+                .ifPresentOrElse(room -> indexTeamRooms(target, List.of(room)), () -> target.remove(id));
+            case USER -> indexIndividualRooms(target, individualRoomRepository.findByOwnerIdOrderByStartsAtDesc(id)
+                .stream()
+                .filter(r -> r.getStatus() != IndividualRoom.RoomStatus.CANCELLED)
+                .toList());
+        }
+    }
+
+    private void indexBranches(InMemorySearchIndex target, List<Branch> branches) {
+        searchResultAssembler.toBranchResponses(branches).forEach(branch ->
+            put(target, branch.id(), DocType.BRANCH, branch, branch.name(), branch.address()));
+    }
+
+    private void indexTeams(InMemorySearchIndex target, List<Team> teams) {
+        searchResultAssembler.toTeamResponses(teams).forEach(team ->
+            put(target, team.id(), DocType.TEAM, team, team.name(), team.description()));
+    }
+
+    private void indexIndividualRooms(InMemorySearchIndex target, List<IndividualRoom> rooms) {
+        searchResultAssembler.toIndividualRoomResponses(rooms).forEach(room ->
+            put(target, room.id(), DocType.INDIVIDUAL_ROOM, room,
+                room.branch().name(), room.owner().firstName(), room.owner().lastName(), room.notes()));
+    }
+
+    private void indexTeamRooms(InMemorySearchIndex target, List<TeamRoom> rooms) {
+        searchResultAssembler.toTeamRoomResponses(rooms).forEach(room ->
+            put(target, room.id(), DocType.TEAM_ROOM, room,
+                room.branch().name(), room.creatorTeam().name(),
+                room.opponentTeam() != null ? room.opponentTeam().name() : null));
+    }
+
+    private void put(InMemorySearchIndex target, UUID id, DocType type, Object payload, String... fields) {
+        if (!target.put(id, type, payload, fields)) {
+            log.warn("In-memory search index is over its {} MB budget; {} {} not indexed, falling back to database search",
+                searchProperties.getIndexMemoryBudgetMb(), type, id);
+        }
+    }
+
+    private Set<DocType> requestedTypes(String type) {
+        if (type == null || type.isEmpty()) {
+            return EnumSet.allOf(DocType.class);
+        }
+        return switch (type.toLowerCase()) {
+            case SearchServiceImpl.TYPE_BRANCHES -> EnumSet.of(DocType.BRANCH);
+            case "rooms" -> EnumSet.of(DocType.INDIVIDUAL_ROOM, DocType.TEAM_ROOM);
+            case SearchServiceImpl.TYPE_INDIVIDUAL_ROOMS -> EnumSet.of(DocType.INDIVIDUAL_ROOM);
+            case SearchServiceImpl.TYPE_TEAM_ROOMS -> EnumSet.of(DocType.TEAM_ROOM);
+            case SearchServiceImpl.TYPE_TEAMS -> EnumSet.of(DocType.TEAM);
+            default -> EnumSet.noneOf(DocType.class);
+        };
+    }
+
+    private <T> List<T> payloads(Map<DocType, List<InMemorySearchIndex.Hit>> hits, DocType type, int size, Class<T> payloadType) {
+        return hits.getOrDefault(type, List.of()).stream()
+            .limit(size)
+            .map(hit -> payloadType.cast(hit.payload()))
+            .toList();
+    }
+
+    private String nextCursor(Map<DocType, List<InMemorySearchIndex.Hit>> hits, DocType type, int size) {
+        List<InMemorySearchIndex.Hit> hitsOfType = hits.getOrDefault(type, List.of());
+        if (hitsOfType.size() <= size) {
+            return null;
+        }
+        InMemorySearchIndex.Hit last = hitsOfType.get(size - 1);
+        return new SearchCursor(SearchCursor.MEMORY, "FULLTEXT", typeName(type), last.score(), last.id()).encode();
+    }
+
+    private String typeName(DocType type) {
+        return switch (type) {
+            case BRANCH -> SearchServiceImpl.TYPE_BRANCHES;
+            case INDIVIDUAL_ROOM -> SearchServiceImpl.TYPE_INDIVIDUAL_ROOMS;
+            case TEAM_ROOM -> SearchServiceImpl.TYPE_TEAM_ROOMS;
+            case TEAM -> SearchServiceImpl.TYPE_TEAMS;
+        };
+    }
+}
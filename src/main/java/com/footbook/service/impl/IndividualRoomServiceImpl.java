@@ -3,18 +3,32 @@ package com.footbook.service.impl;
 import com.footbook.domain.Branch;
 import com.footbook.domain.IndividualRoom;
 import com.footbook.domain.IndividualRoomParticipant;
-import com.footbook.domain.User;
 import com.footbook.dto.request.room.CreateIndividualRoomRequest;
+import com.footbook.dto.request.room.CreateIndividualRoomSeriesRequest;
 import com.footbook.dto.response.branch.BranchResponse;
 import com.footbook.dto.response.room.IndividualRoomDetailResponse;
 import com.footbook.dto.response.room.IndividualRoomResponse;
+import com.footbook.dto.response.room.IndividualRoomSeriesResponse;
+import com.footbook.dto.response.room.SlotHoldResponse;
+import com.footbook.event.EntityChangedEvent;
+import com.footbook.exception.SlotUnavailableException;
 import com.footbook.repository.BranchRepository;
 import com.footbook.repository.IndividualRoomParticipantRepository;
 import com.footbook.repository.IndividualRoomRepository;
 import com.footbook.repository.UserRepository;
+import com.footbook.repository.projection.SlotReservation;
 import com.footbook.service.IndividualRoomService;
+import com.footbook.service.booking.PitchAllocator;
+import com.footbook.service.booking.RoomSeriesSchedule;
+import com.footbook.service.booking.SlotHoldRegistry;
+import com.footbook.service.reference.ReferenceLoader;
+import com.footbook.service.reference.References;
+import com.footbook.service.reference.UserSummary;
+import com.footbook.service.search.BranchGeoIndex;
+import com.footbook.service.search.NearbyBranchLocator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -27,7 +41,6 @@ import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static com.footbook.util.ErrorMessages.*;
 
@@ -39,6 +52,11 @@ public class IndividualRoomServiceImpl implements IndividualRoomService {
     private final IndividualRoomParticipantRepository participantRepository;
     private final BranchRepository branchRepository;
     private final UserRepository userRepository;
+    private final ReferenceLoader referenceLoader;
+    private final PitchAllocator pitchAllocator;
+    private final NearbyBranchLocator nearbyBranchLocator;
+    private final SlotHoldRegistry slotHolds;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
@@ -54,61 +72,103 @@ public class IndividualRoomServiceImpl implements IndividualRoomService {
         LocalDate scheduledDate = parseDate(request.scheduledDate());
         LocalTime startTime = parseTime(request.startTime(), "Start time");
         LocalTime endTime = parseTime(request.endTime(), "End time");
+        validateSchedule(branch, scheduledDate, startTime, endTime);
 
-        if (!endTime.isAfter(startTime)) {
-            throw new IllegalArgumentException(END_TIME_BEFORE_START);
-        }
-
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime bookingDateTime = LocalDateTime.of(scheduledDate, startTime);
-        if (bookingDateTime.isBefore(now)) {
-            throw new IllegalArgumentException(BOOKING_IN_PAST);
-        }
-
-        if (startTime.isBefore(branch.getOperatingHoursStart()) || endTime.isAfter(branch.getOperatingHoursEnd())) {
-            throw new IllegalArgumentException(
-                String.format("%s (%s - %s)",
-                    OUTSIDE_OPERATING_HOURS,
-                    branch.getOperatingHoursStart().format(TIME_FORMATTER),
-                    branch.getOperatingHoursEnd().format(TIME_FORMATTER))
-            );
-        }
-
-        if (roomRepository.hasUserConflict(currentUserId, scheduledDate, startTime, endTime)) {
-            throw new IllegalArgumentException(TIME_CONFLICT);
-        }
+        UUID pitchId = pitchAllocator.findFreePitch(branch.getId(), scheduledDate, startTime, endTime);
 
         IndividualRoom room = IndividualRoom.builder()
             .branchId(request.branchId())
+            .pitchId(pitchId)
             .ownerId(currentUserId)
             .scheduledDate(scheduledDate)
             .startTime(startTime)
             .endTime(endTime)
             .totalSlots(request.totalSlots())
+            .filledSlots(1)
             .notes(request.notes())
-            .status(IndividualRoom.RoomStatus.OPEN)
+            .status(request.totalSlots() > 1 ? IndividualRoom.RoomStatus.OPEN : IndividualRoom.RoomStatus.FULL)
             .build();
 
         room = roomRepository.save(room);
+        pitchAllocator.reserve(room.getId(), PitchAllocator.RoomType.INDIVIDUAL, pitchId, branch.getId(),
+            scheduledDate, startTime, endTime);
 
-        IndividualRoomParticipant ownerParticipant = IndividualRoomParticipant.builder()
-            .roomId(room.getId())
-            .userId(currentUserId)
-            .joinedAt(LocalDateTime.now())
-            .build();
-
-        participantRepository.save(ownerParticipant);
+        if (participantRepository.insertIfFree(room.getId(), currentUserId, LocalDateTime.now(),
+            scheduledDate, startTime, endTime) == 0) {
+            throw new SlotUnavailableException(TIME_CONFLICT);
+        }
 
         log.info("Created individual room {} by user {}", room.getId(), currentUserId);
+        eventPublisher.publishEvent(new EntityChangedEvent(EntityChangedEvent.EntityType.INDIVIDUAL_ROOM, room.getId()));
 
-        checkAndAutoCloseRoom(room.getId());
+        return mapToResponse(room, ReferenceLoader.toBranchResponse(branch), referenceLoader.user(currentUserId));
+    }
 
-        return mapToResponse(room, branch, 1);
+    @Override
+    @Transactional
+    public IndividualRoomSeriesResponse createRoomSeries(CreateIndividualRoomSeriesRequest request) {
+        UUID currentUserId = getCurrentUserId();
+        CreateIndividualRoomRequest details = request.room();
+        RoomSeriesSchedule schedule = RoomSeriesSchedule.parse(request.recurrence());
+
+        Branch branch = branchRepository.findByIdAndIsActiveTrue(details.branchId())
+            .orElseThrow(() -> new NoSuchElementException(BRANCH_INACTIVE));
+
+        LocalDate firstDate = parseDate(details.scheduledDate());
+        LocalTime startTime = parseTime(details.startTime(), "Start time");
+        LocalTime endTime = parseTime(details.endTime(), "End time");
+        // Later occurrences have the same times on later dates, so checking the first covers them all
+        validateSchedule(branch, firstDate, startTime, endTime);
+
+        List<LocalDate> dates = schedule.dates(firstDate, request.occurrences());
+        List<String> conflicts = participantRepository.findConflictingDates(currentUserId, dates, startTime, endTime);
+        if (!conflicts.isEmpty()) {
+            throw new SlotUnavailableException(String.format("%s (%s)", TIME_CONFLICT, String.join(", ", conflicts)));
+        }
+
+        UUID seriesId = UUID.randomUUID();
+        Map<LocalDate, UUID> pitchIds = pitchAllocator.findFreePitches(branch.getId(), dates, startTime, endTime);
+        List<IndividualRoom> rooms = new ArrayList<>(dates.size());
+        for (LocalDate date : dates) {
+            rooms.add(IndividualRoom.builder()
+                .branchId(branch.getId())
+                .pitchId(pitchIds.get(date))
+                .seriesId(seriesId)
+                .ownerId(currentUserId)
+                .scheduledDate(date)
+                .startTime(startTime)
+                .endTime(endTime)
+                .totalSlots(details.totalSlots())
+                .filledSlots(1)
+                .notes(details.notes())
+                .status(details.totalSlots() > 1 ? IndividualRoom.RoomStatus.OPEN : IndividualRoom.RoomStatus.FULL)
+                .build());
+        }
+
+        // IDs are generated before the insert, so the rooms are written as JDBC batches
+        rooms = roomRepository.saveAll(rooms);
+        pitchAllocator.reserveSeries(seriesId, PitchAllocator.RoomType.INDIVIDUAL, branch.getId(), dates);
+
+        if (participantRepository.insertSeriesOwners(seriesId, LocalDateTime.now()) < rooms.size()) {
+            // Booked elsewhere since the conflict check
+            throw new SlotUnavailableException(TIME_CONFLICT);
+        }
+
+        log.info("Created individual room series {} with {} rooms by user {}", seriesId, rooms.size(), currentUserId);
+        rooms.forEach(room -> eventPublisher.publishEvent(
+            new EntityChangedEvent(EntityChangedEvent.EntityType.INDIVIDUAL_ROOM, room.getId())));
+
+        BranchResponse branchResponse = ReferenceLoader.toBranchResponse(branch);
+        UserSummary owner = referenceLoader.user(currentUserId);
+        List<IndividualRoomResponse> responses = rooms.stream()
+            .map(room -> mapToResponse(room, branchResponse, owner))
+            .toList();
+        return new IndividualRoomSeriesResponse(seriesId, schedule.name(), responses);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<IndividualRoomResponse> getAllRooms(UUID branchId, LocalDate startDate, LocalDate endDate, String statusStr, Pageable pageable) {
+    public Page<IndividualRoomResponse> getAllRooms(UUID branchId, String near, Double radiusKm, LocalDate startDate, LocalDate endDate, String statusStr, Pageable pageable) {
         IndividualRoom.RoomStatus status = null;
         if (statusStr != null && !statusStr.isEmpty()) {
             try {
@@ -118,22 +178,34 @@ public class IndividualRoomServiceImpl implements IndividualRoomService {
             }
         }
 
-        Page<IndividualRoom> rooms = roomRepository.findRoomsWithFilters(branchId, startDate, endDate, status, pageable);
+        Page<IndividualRoom> rooms = near != null && !near.isBlank()
+            ? findRoomsNear(branchId, near, radiusKm, startDate, endDate, status, pageable)
+            : roomRepository.findRoomsWithFilters(branchId, startDate, endDate, status, pageable);
+
+        ReferenceLoader.Batch batch = referenceLoader.batch();
+        rooms.forEach(room -> batch.branch(room.getBranchId()).user(room.getOwnerId()));
+        References references = batch.load();
 
-        List<UUID> roomIds = rooms.getContent().stream().map(IndividualRoom::getId).toList();
-        Map<UUID, Long> participantCounts = roomIds.isEmpty() ? new HashMap<>() :
-            participantRepository.findByRoomIdIn(roomIds).stream()
-                .collect(Collectors.groupingBy(IndividualRoomParticipant::getRoomId, Collectors.counting()));
+        return rooms.map(room -> mapToResponse(room, references.branch(room.getBranchId()), references.user(room.getOwnerId())));
+    }
 
-        Set<UUID> branchIds = rooms.getContent().stream().map(IndividualRoom::getBranchId).collect(Collectors.toSet());
-        Map<UUID, Branch> branches = branchRepository.findAllById(branchIds).stream()
-            .collect(Collectors.toMap(Branch::getId, b -> b));
+    /**
+     * Rooms of branches within the radius of the location, nearest branch first, then by start time.
+     */
+    private Page<IndividualRoom> findRoomsNear(UUID branchId, String near, Double radiusKm, LocalDate startDate, LocalDate endDate,
+                                               IndividualRoom.RoomStatus status, Pageable pageable) {
+        NearbyBranchLocator.Window window = nearbyBranchLocator.window(startDate, endDate);
+        List<BranchGeoIndex.Match> branches = nearbyBranchLocator.findNearby(nearbyBranchLocator.parseLocation(near), radiusKm)
+            .stream()
+            .filter(match -> branchId == null || match.id().equals(branchId))
+            .toList();
+        if (branches.isEmpty()) {
+            return Page.empty(pageable);
+        }
 
-        return rooms.map(room -> {
-            Long filledSlots = participantCounts.getOrDefault(room.getId(), 0L);
-            Branch branch = branches.get(room.getBranchId());
-            return mapToResponse(room, branch, filledSlots.intValue());
-        });
+        List<IndividualRoom> rooms = roomRepository.findRoomsNear(
+            branches.stream().map(BranchGeoIndex.Match::id).toList(), window.from(), window.to(), status);
+        return nearbyBranchLocator.pageByDistance(branches, rooms, IndividualRoom::getBranchId, pageable);
     }
 
     @Override
@@ -142,25 +214,27 @@ public class IndividualRoomServiceImpl implements IndividualRoomService {
         IndividualRoom room = roomRepository.findById(id)
             .orElseThrow(() -> new NoSuchElementException(ROOM_NOT_FOUND + " with ID: " + id));
 
-        Branch branch = branchRepository.findById(room.getBranchId())
-            .orElseThrow(() -> new NoSuchElementException(BRANCH_NOT_FOUND));
-
         List<IndividualRoomParticipant> participants = participantRepository.findByRoomIdOrderByJoinedAtAsc(id);
 
-        Set<UUID> userIds = participants.stream().map(IndividualRoomParticipant::getUserId).collect(Collectors.toSet());
-        userIds.add(room.getOwnerId());
-        Map<UUID, User> users = userRepository.findAllById(userIds).stream()
-            .collect(Collectors.toMap(User::getId, u -> u));
-
-        User owner = users.get(room.getOwnerId());
+        References references = referenceLoader.batch()
+            .branch(room.getBranchId())
+            .user(room.getOwnerId())
+            .users(participants.stream().map(IndividualRoomParticipant::getUserId).toList())
+            .load();
+
+        UserSummary owner = references.user(room.getOwnerId());
+        int heldSlots = slotHolds.heldSlots(id);
+        LocalDateTime holdExpiresAt = slotHolds.findHold(id, getCurrentPrincipal())
+            .map(SlotHoldRegistry.Hold::expiresAt)
+            .orElse(null);
         List<IndividualRoomDetailResponse.ParticipantInfo> participantInfos = participants.stream()
             .map(p -> {
-                User user = users.get(p.getUserId());
+                UserSummary user = references.user(p.getUserId());
                 return new IndividualRoomDetailResponse.ParticipantInfo(
-                    user.getId(),
-                    user.getFirstName(),
-                    user.getLastName(),
-                    user.getProfilePictureUrl(),
+                    user.id(),
+                    user.firstName(),
+                    user.lastName(),
+                    user.profilePictureUrl(),
                     p.getJoinedAt()
                 );
             })
@@ -168,12 +242,12 @@ public class IndividualRoomServiceImpl implements IndividualRoomService {
 
         return new IndividualRoomDetailResponse(
             room.getId(),
-            mapBranchToResponse(branch),
+            references.branch(room.getBranchId()),
             new IndividualRoomDetailResponse.ParticipantInfo(
-                owner.getId(),
-                owner.getFirstName(),
-                owner.getLastName(),
-                owner.getProfilePictureUrl(),
+                owner.id(),
+                owner.firstName(),
+                owner.lastName(),
+                owner.profilePictureUrl(),
                 null
             ),
             room.getScheduledDate().format(DATE_FORMATTER),
@@ -181,7 +255,9 @@ public class IndividualRoomServiceImpl implements IndividualRoomService {
             room.getEndTime().format(TIME_FORMATTER),
             room.getTotalSlots(),
             participants.size(),
-            room.getTotalSlots() - participants.size(),
+            Math.max(0, room.getTotalSlots() - participants.size() - heldSlots),
+            heldSlots,
+            holdExpiresAt,
             room.getNotes(),
             room.getStatus().name(),
             participantInfos,
@@ -191,40 +267,47 @@ public class IndividualRoomServiceImpl implements IndividualRoomService {
     }
 
     @Override
-    @Transactional
-    public void joinRoom(UUID roomId) {
-        UUID currentUserId = getCurrentUserId();
+    public SlotHoldResponse holdSlot(UUID roomId) {
+        String principal = getCurrentPrincipal();
+        // Players losing the race for the last slots are refused here, before a transaction or query
+        SlotHoldRegistry.Hold hold = slotHolds.hold(roomId, principal, () -> freeSlots(roomId));
 
-        IndividualRoom room = roomRepository.findByIdAndStatusNot(roomId, IndividualRoom.RoomStatus.CANCELLED)
-            .orElseThrow(() -> new NoSuchElementException(ROOM_CANCELLED));
-
-        if (room.getStatus() == IndividualRoom.RoomStatus.FULL) {
-            throw new IllegalStateException(ROOM_FULL);
-        }
-
-        if (participantRepository.existsByRoomIdAndUserId(roomId, currentUserId)) {
+        if (participantRepository.existsByRoomIdAndUserId(roomId, getCurrentUserId())) {
+            slotHolds.release(roomId, principal);
             throw new IllegalStateException(ALREADY_JOINED);
         }
 
-        if (roomRepository.hasUserConflict(currentUserId, room.getScheduledDate(), room.getStartTime(), room.getEndTime())) {
-            throw new IllegalArgumentException(TIME_CONFLICT);
-        }
+        log.debug("Slot of room {} held by {} until {}", roomId, principal, hold.expiresAt());
+        return new SlotHoldResponse(roomId, hold.expiresAt());
+    }
 
-        long currentParticipants = participantRepository.countByRoomId(roomId);
-        if (currentParticipants >= room.getTotalSlots()) {
-            throw new IllegalStateException(ROOM_FULL);
+    @Override
+    @Transactional
+    public void joinRoom(UUID roomId) {
+        String principal = getCurrentPrincipal();
+        if (slotHolds.findHold(roomId, principal).isEmpty()) {
+            slotHolds.checkUnheldSlot(roomId, principal, () -> freeSlots(roomId));
         }
+        UUID currentUserId = getCurrentUserId();
 
-        IndividualRoomParticipant participant = IndividualRoomParticipant.builder()
-            .roomId(roomId)
-            .userId(currentUserId)
-            .joinedAt(LocalDateTime.now())
-            .build();
+        SlotReservation reservation = roomRepository.reserveSlot(roomId)
+            .orElseThrow(() -> reservationFailure(roomId, currentUserId));
 
-        participantRepository.save(participant);
-        log.info("User {} joined room {}", currentUserId, roomId);
+        int added = participantRepository.insertIfFree(roomId, currentUserId, LocalDateTime.now(),
+            reservation.getScheduledDate(), reservation.getStartTime(), reservation.getEndTime());
+        if (added == 0) {
+            // Throwing rolls the slot reservation back as well
+            throw participantRepository.existsByRoomIdAndUserId(roomId, currentUserId)
+                ? new IllegalStateException(ALREADY_JOINED)
+                : new SlotUnavailableException(TIME_CONFLICT);
+        }
 
-        checkAndAutoCloseRoom(roomId);
+        slotHolds.releaseAfterCommit(roomId, principal);
+        log.info("User {} joined room {}", currentUserId, roomId);
+        if (IndividualRoom.RoomStatus.FULL.name().equals(reservation.getStatus())) {
+            log.info("Room {} auto-closed (full capacity)", roomId);
+        }
+        eventPublisher.publishEvent(new EntityChangedEvent(EntityChangedEvent.EntityType.INDIVIDUAL_ROOM, roomId));
     }
 
     @Override
@@ -239,18 +322,16 @@ public class IndividualRoomServiceImpl implements IndividualRoomService {
             throw new IllegalStateException(OWNER_CANNOT_LEAVE);
         }
 
-        if (!participantRepository.existsByRoomIdAndUserId(roomId, currentUserId)) {
+        if (participantRepository.deleteParticipation(roomId, currentUserId) == 0) {
             throw new NoSuchElementException(NOT_PARTICIPANT);
         }
 
-        participantRepository.deleteByRoomIdAndUserId(roomId, currentUserId);
+        roomRepository.releaseSlot(roomId);
         log.info("User {} left room {}", currentUserId, roomId);
-
         if (room.getStatus() == IndividualRoom.RoomStatus.FULL) {
-            room.setStatus(IndividualRoom.RoomStatus.OPEN);
-            roomRepository.save(room);
             log.info("Room {} reopened after participant left", roomId);
         }
+        eventPublisher.publishEvent(new EntityChangedEvent(EntityChangedEvent.EntityType.INDIVIDUAL_ROOM, roomId));
     }
 
     @Override
@@ -265,43 +346,76 @@ public class IndividualRoomServiceImpl implements IndividualRoomService {
             throw new IllegalStateException(NOT_OWNER);
         }
 
-        room.setStatus(IndividualRoom.RoomStatus.CANCELLED);
-        roomRepository.save(room);
+        // A full save would write back the slot count read above, undoing joins made since
+        if (roomRepository.cancelRoom(roomId) == 0) {
+            throw new NoSuchElementException(ROOM_CANCELLED);
+        }
+        participantRepository.releaseUserBookings(roomId);
+        pitchAllocator.release(roomId);
         log.info("Room {} cancelled by owner {}", roomId, currentUserId);
+        eventPublisher.publishEvent(new EntityChangedEvent(EntityChangedEvent.EntityType.INDIVIDUAL_ROOM, roomId));
     }
 
-    private void checkAndAutoCloseRoom(UUID roomId) {
-        IndividualRoom room = roomRepository.findById(roomId)
-            .orElseThrow(() -> new NoSuchElementException(ROOM_NOT_FOUND));
-
-        long currentParticipants = participantRepository.countByRoomId(roomId);
+    private int freeSlots(UUID roomId) {
+        IndividualRoom room = roomRepository.findByIdAndStatusNot(roomId, IndividualRoom.RoomStatus.CANCELLED)
+            .orElseThrow(() -> new NoSuchElementException(ROOM_CANCELLED));
+        return room.getStatus() == IndividualRoom.RoomStatus.OPEN ? room.getTotalSlots() - room.getFilledSlots() : 0;
+    }
 
-        if (currentParticipants >= room.getTotalSlots() && room.getStatus() == IndividualRoom.RoomStatus.OPEN) {
-            room.setStatus(IndividualRoom.RoomStatus.FULL);
-            roomRepository.save(room);
-            log.info("Room {} auto-closed (full capacity)", roomId);
+    /**
+     * Explains why no slot could be reserved; only runs when joining has already failed.
+     */
+    private RuntimeException reservationFailure(UUID roomId, UUID userId) {
+        if (roomRepository.findByIdAndStatusNot(roomId, IndividualRoom.RoomStatus.CANCELLED).isEmpty()) {
+            return new NoSuchElementException(ROOM_CANCELLED);
         }
+        if (participantRepository.existsByRoomIdAndUserId(roomId, userId)) {
+            return new IllegalStateException(ALREADY_JOINED);
+        }
+        // Another player took the last slot first
+        return new SlotUnavailableException(ROOM_FULL);
     }
 
-    private IndividualRoomResponse mapToResponse(IndividualRoom room, Branch branch, int filledSlots) {
-        User owner = userRepository.findById(room.getOwnerId())
-            .orElseThrow(() -> new NoSuchElementException(USER_NOT_FOUND));
+    /**
+     * Rooms never span midnight and must fit the branch's opening hours.
+     */
+    private void validateSchedule(Branch branch, LocalDate scheduledDate, LocalTime startTime, LocalTime endTime) {
+        if (!endTime.isAfter(startTime)) {
+            throw new IllegalArgumentException(END_TIME_BEFORE_START);
+        }
 
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime bookingDateTime = LocalDateTime.of(scheduledDate, startTime);
+        if (bookingDateTime.isBefore(now)) {
+            throw new IllegalArgumentException(BOOKING_IN_PAST);
+        }
+
+        if (startTime.isBefore(branch.getOperatingHoursStart()) || endTime.isAfter(branch.getOperatingHoursEnd())) {
+            throw new IllegalArgumentException(
+                String.format("%s (%s - %s)",
+                    OUTSIDE_OPERATING_HOURS,
+                    branch.getOperatingHoursStart().format(TIME_FORMATTER),
+                    branch.getOperatingHoursEnd().format(TIME_FORMATTER))
+            );
+        }
+    }
+
+    private IndividualRoomResponse mapToResponse(IndividualRoom room, BranchResponse branch, UserSummary owner) {
         return new IndividualRoomResponse(
             room.getId(),
-            mapBranchToResponse(branch),
+            branch,
             new IndividualRoomResponse.ParticipantSummary(
-                owner.getId(),
-                owner.getFirstName(),
-                owner.getLastName(),
-                owner.getProfilePictureUrl()
+                owner.id(),
+                owner.firstName(),
+                owner.lastName(),
+                owner.profilePictureUrl()
             ),
             room.getScheduledDate().format(DATE_FORMATTER),
             room.getStartTime().format(TIME_FORMATTER),
             room.getEndTime().format(TIME_FORMATTER),
             room.getTotalSlots(),
-            filledSlots,
-            room.getTotalSlots() - filledSlots,
+            room.getFilledSlots(),
+            room.getTotalSlots() - room.getFilledSlots(),
             room.getNotes(),
             room.getStatus().name(),
             room.getCreatedAt(),
@@ -309,24 +423,6 @@ public class IndividualRoomServiceImpl implements IndividualRoomService {
         );
     }
 
-    private BranchResponse mapBranchToResponse(Branch branch) {
-        return new BranchResponse(
-            branch.getId(),
-            branch.getName(),
-            branch.getAddress(),
-            branch.getGoogleMapsUrl(),
-            branch.getOperatingHoursStart().format(TIME_FORMATTER),
-            branch.getOperatingHoursEnd().format(TIME_FORMATTER),
-            branch.getContactPhone(),
-            branch.getContactEmail(),
-            branch.getLatitude(),
-            branch.getLongitude(),
-            branch.getIsActive(),
-            branch.getCreatedAt(),
-            branch.getUpdatedAt()
-        );
-    }
-
     private LocalDate parseDate(String dateStr) {
         try {
             return LocalDate.parse(dateStr, DATE_FORMATTER);
@@ -343,9 +439,12 @@ public class IndividualRoomServiceImpl implements IndividualRoomService {
         }
     }
 
+    private String getCurrentPrincipal() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
+    }
+
     private UUID getCurrentUserId() {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        return userRepository.findByEmail(email)
+        return userRepository.findByEmail(getCurrentPrincipal())
             .orElseThrow(() -> new NoSuchElementException(USER_NOT_FOUND))
             .getId();
     }
@@ -8,6 +8,7 @@ import com.footbook.dto.request.profile.ChangePasswordRequest;
 import com.footbook.dto.request.profile.UpdateProfileRequest;
 import com.footbook.dto.request.profile.VerifyEmailChangeRequest;
 import com.footbook.dto.response.profile.ProfileResponse;
+import com.footbook.event.EntityChangedEvent;
 import com.footbook.exception.EmailSendException;
 import com.footbook.repository.RoleRepository;
 import com.footbook.repository.UserRepository;
@@ -20,6 +21,7 @@ import com.footbook.util.TokenGenerator;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -50,6 +52,7 @@ public class ProfileServiceImpl implements ProfileService {
     private final EmailService emailService;
     private final EmailTemplateService emailTemplateService;
     private final ImageUploadService imageUploadService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -65,6 +68,7 @@ public class ProfileServiceImpl implements ProfileService {
         user.setFirstName(request.firstName());
         user.setLastName(request.lastName());
         userRepository.save(user);
+        eventPublisher.publishEvent(new EntityChangedEvent(EntityChangedEvent.EntityType.USER, user.getId()));
 
         return buildProfileResponse(user);
     }
@@ -0,0 +1,113 @@
+package com.footbook.service.impl;
+
+import com.footbook.domain.*;
+import com.footbook.dto.response.branch.BranchResponse;
+import com.footbook.dto.response.room.IndividualRoomResponse;
+import com.footbook.dto.response.room.TeamRoomResponse;
+import com.footbook.dto.response.team.TeamResponse;
+import com.footbook.service.reference.ReferenceLoader;
+import com.footbook.service.reference.References;
+import com.footbook.service.reference.TeamSummary;
+import com.footbook.service.reference.UserSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Builds search result responses for a batch of entities, loading the referenced branches, users
+ * and teams through the {@link ReferenceLoader} with one query per kind rather than one per row.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchResultAssembler {
+    private final ReferenceLoader referenceLoader;
+    private final TeamResponseAssembler teamResponseAssembler;
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    public List<BranchResponse> toBranchResponses(List<Branch> branches) {
+        return branches.stream()
+            .map(ReferenceLoader::toBranchResponse)
+            .toList();
+    }
+
+    public List<IndividualRoomResponse> toIndividualRoomResponses(List<IndividualRoom> rooms) {
+        if (rooms.isEmpty()) {
+            return List.of();
+        }
+
+        ReferenceLoader.Batch batch = referenceLoader.batch();
+        rooms.forEach(room -> batch.branch(room.getBranchId()).user(room.getOwnerId()));
+        References references = batch.load();
+
+        return rooms.stream()
+            .map(room -> {
+                UserSummary owner = references.user(room.getOwnerId());
+
+                return new IndividualRoomResponse(
+                    room.getId(),
+                    references.branch(room.getBranchId()),
+                    new IndividualRoomResponse.ParticipantSummary(
+                        owner.id(),
+                        owner.firstName(),
+                        owner.lastName(),
+                        owner.profilePictureUrl()
+                    ),
+                    room.getScheduledDate().format(DATE_FORMATTER),
+                    room.getStartTime().format(TIME_FORMATTER),
+                    room.getEndTime().format(TIME_FORMATTER),
+                    room.getTotalSlots(),
+                    room.getFilledSlots(),
+                    room.getTotalSlots() - room.getFilledSlots(),
+                    room.getNotes(),
+                    room.getStatus().name(),
+                    room.getCreatedAt(),
+                    room.getUpdatedAt()
+                );
+            })
+            .toList();
+    }
+
+    public List<TeamRoomResponse> toTeamRoomResponses(List<TeamRoom> rooms) {
+        if (rooms.isEmpty()) {
+            return List.of();
+        }
+
+        ReferenceLoader.Batch batch = referenceLoader.batch();
+        rooms.forEach(room -> batch.branch(room.getBranchId()).team(room.getCreatorTeamId()).team(room.getOpponentTeamId()));
+        References references = batch.load();
+
+        return rooms.stream()
+            .map(room -> new TeamRoomResponse(
+                room.getId(),
+                references.branch(room.getBranchId()),
+                toTeamSummary(references.team(room.getCreatorTeamId())),
+                room.getOpponentTeamId() != null ? toTeamSummary(references.team(room.getOpponentTeamId())) : null,
+                room.getScheduledDate().format(DATE_FORMATTER),
+                room.getStartTime().format(TIME_FORMATTER),
+                room.getEndTime().format(TIME_FORMATTER),
+                room.getRequiredTeamSize(),
+                room.getStatus().name(),
+                room.getCreatedAt(),
+                room.getUpdatedAt()
+            ))
+            .toList();
+    }
+
+    public List<TeamResponse> toTeamResponses(List<Team> teams) {
+        return teamResponseAssembler.toTeamResponses(teams);
+    }
+
+    private TeamRoomResponse.TeamSummary toTeamSummary(TeamSummary team) {
+        return new TeamRoomResponse.TeamSummary(
+            team.id(),
+            team.name(),
+            team.logoUrl(),
+            team.rosterSize(),
+            team.memberCount()
+        );
+    }
+}
@@ -1,22 +1,48 @@
 package com.footbook.service.impl;
 
-import com.footbook.domain.*;
+import com.footbook.config.search.SearchProperties;
+import com.footbook.domain.Branch;
+import com.footbook.domain.IndividualRoom;
+import com.footbook.domain.Team;
+import com.footbook.domain.TeamRoom;
 import com.footbook.dto.response.branch.BranchResponse;
 import com.footbook.dto.response.room.IndividualRoomResponse;
 import com.footbook.dto.response.room.TeamRoomResponse;
 import com.footbook.dto.response.search.SearchResponse;
 import com.footbook.dto.response.team.TeamResponse;
-import com.footbook.repository.*;
+import com.footbook.repository.BranchRepository;
+import com.footbook.repository.IndividualRoomRepository;
+import com.footbook.repository.TeamRepository;
+import com.footbook.repository.TeamRoomRepository;
+import com.footbook.repository.projection.SearchHit;
 import com.footbook.service.SearchService;
+import com.footbook.service.search.SearchCursor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.time.format.DateTimeFormatter;
-import java.util.*;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import static com.footbook.util.ErrorMessages.INVALID_SEARCH_CURSOR;
+import static com.footbook.util.ErrorMessages.INVALID_SEARCH_MODE;
+import static com.footbook.util.ErrorMessages.SEARCH_INTERRUPTED;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -25,249 +51,291 @@ public class SearchServiceImpl implements SearchService {
     private final IndividualRoomRepository individualRoomRepository;
     private final TeamRoomRepository teamRoomRepository;
     private final TeamRepository teamRepository;
-    private final IndividualRoomParticipantRepository participantRepository;
-    private final TeamMemberRepository teamMemberRepository;
-    private final UserRepository userRepository;
-
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    private final SearchResultAssembler searchResultAssembler;
+    private final SearchProperties searchProperties;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final UUID FIRST_PAGE_ID = new UUID(0L, 0L);
+    private static final String SUB_SEARCH_TIMER = "footbook.search.subsearch";
+    private static final String SUB_SEARCH_TIMEOUT_COUNTER = "footbook.search.subsearch.timeouts";
+    private static final SearchResponse EMPTY_RESPONSE = new SearchResponse(
+        List.of(), List.of(), List.of(), List.of(), 0, new SearchResponse.NextCursors(null, null, null, null), List.of());
+
+    private final ExecutorService searchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    // Each running sub-search holds a pooled connection, so their number is bounded across all searches
+    private Semaphore subSearchPermits;
+
+    static final String TYPE_BRANCHES = "branches";
+    static final String TYPE_INDIVIDUAL_ROOMS = "individual_rooms";
+    static final String TYPE_TEAM_ROOMS = "team_rooms";
+    static final String TYPE_TEAMS = "teams";
 
     @Override
-    @Transactional(readOnly = true)
-    public SearchResponse search(String query, String type) {
+    public SearchResponse search(String query, String type, String modeStr, String cursorStr, int size) {
         if (query == null || query.trim().isEmpty()) {
-            return new SearchResponse(List.of(), List.of(), List.of(), List.of(), 0);
+            return EMPTY_RESPONSE;
         }
 
-        String searchQuery = query.trim().toLowerCase();
+        SearchCursor cursor = null;
+        if (cursorStr != null && !cursorStr.isEmpty()) {
+            cursor = SearchCursor.decode(cursorStr);
+            if (!SearchCursor.DATABASE.equals(cursor.engine())) {
+                throw new IllegalArgumentException(INVALID_SEARCH_CURSOR);
+            }
+            type = cursor.type();
+            modeStr = cursor.mode();
+        }
 
-        List<BranchResponse> branches = List.of();
-        List<IndividualRoomResponse> individualRooms = List.of();
-        List<TeamRoomResponse> teamRooms = List.of();
-        List<TeamResponse> teams = List.of();
+        SearchMode mode = parseMode(modeStr);
+        String searchQuery = mode == SearchMode.FUZZY ? query.trim() : toPrefixTsQuery(query);
+        if (searchQuery.isEmpty()) {
+            return EMPTY_RESPONSE;
+        }
 
-        if (type == null || type.isEmpty() || type.equalsIgnoreCase("branches")) {
-            branches = searchBranches(searchQuery);
+        SearchCursor after = cursor;
+        long startedAt = System.nanoTime();
+        Future<ResultPage<BranchResponse>> branchesFuture = null;
+        Future<ResultPage<IndividualRoomResponse>> individualRoomsFuture = null;
+        Future<ResultPage<TeamRoomResponse>> teamRoomsFuture = null;
+        Future<ResultPage<TeamResponse>> teamsFuture = null;
+
+        if (type == null || type.isEmpty() || type.equalsIgnoreCase(TYPE_BRANCHES)) {
+            branchesFuture = submit(TYPE_BRANCHES, mode, () -> searchBranches(searchQuery, mode, after, size));
         }
 
-        if (type == null || type.isEmpty() || type.equalsIgnoreCase("rooms") || type.equalsIgnoreCase("individual_rooms")) {
-            individualRooms = searchIndividualRooms(searchQuery);
+        if (type == null || type.isEmpty() || type.equalsIgnoreCase("rooms") || type.equalsIgnoreCase(TYPE_INDIVIDUAL_ROOMS)) {
+            individualRoomsFuture = submit(TYPE_INDIVIDUAL_ROOMS, mode, () -> searchIndividualRooms(searchQuery, mode, after, size));
         }
 
-        if (type == null || type.isEmpty() || type.equalsIgnoreCase("rooms") || type.equalsIgnoreCase("team_rooms")) {
-            teamRooms = searchTeamRooms(searchQuery);
+        if (type == null || type.isEmpty() || type.equalsIgnoreCase("rooms") || type.equalsIgnoreCase(TYPE_TEAM_ROOMS)) {
+            teamRoomsFuture = submit(TYPE_TEAM_ROOMS, mode, () -> searchTeamRooms(searchQuery, mode, after, size));
         }
 
-        if (type == null || type.isEmpty() || type.equalsIgnoreCase("teams")) {
-            teams = searchTeams(searchQuery);
+        if (type == null || type.isEmpty() || type.equalsIgnoreCase(TYPE_TEAMS)) {
+            teamsFuture = submit(TYPE_TEAMS, mode, () -> searchTeams(searchQuery, mode, after, size));
         }
 
-        int totalResults = branches.size() + individualRooms.size() + teamRooms.size() + teams.size();
+        List<String> missingTypes = new ArrayList<>();
+        ResultPage<BranchResponse> branches = await(TYPE_BRANCHES, branchesFuture, startedAt, missingTypes);
+        ResultPage<IndividualRoomResponse> individualRooms = await(TYPE_INDIVIDUAL_ROOMS, individualRoomsFuture, startedAt, missingTypes);
+        ResultPage<TeamRoomResponse> teamRooms = await(TYPE_TEAM_ROOMS, teamRoomsFuture, startedAt, missingTypes);
+        ResultPage<TeamResponse> teams = await(TYPE_TEAMS, teamsFuture, startedAt, missingTypes);
+
+        int totalResults = branches.results().size() + individualRooms.results().size()
+            + teamRooms.results().size() + teams.results().size();
+
+        return new SearchResponse(
+            branches.results(),
+            individualRooms.results(),
+            teamRooms.results(),
+            teams.results(),
+            totalResults,
+            new SearchResponse.NextCursors(
+                branches.nextCursor(),
+                individualRooms.nextCursor(),
+                teamRooms.nextCursor(),
+                teams.nextCursor()
+            ),
+            missingTypes
+        );
+    }
 
-        return new SearchResponse(branches, individualRooms, teamRooms, teams, totalResults);
+    @PostConstruct
+    void initSubSearchPermits() {
+        subSearchPermits = new Semaphore(searchProperties.getMaxConcurrentSubSearches(), true);
     }
 
-    private List<BranchResponse> searchBranches(String query) {
-        List<Branch> branches = branchRepository.findByIsActiveTrueOrderByNameAsc().stream()
-            .filter(b -> b.getName().toLowerCase().contains(query) ||
-                (b.getAddress() != null && b.getAddress().toLowerCase().contains(query)))
-            .limit(10)
-            .toList();
+    @PreDestroy
+    void shutdownSearchExecutor() {
+        searchExecutor.shutdownNow();
+    }
 
-        return branches.stream()
-            .map(this::mapBranchToResponse)
-            .toList();
+    /**
+     * Runs one sub-search on its own virtual thread. Each runs in its own read-only transaction,
+     * because the trigram threshold and statement timeout are transaction-local settings and
+     * the caller's transaction is not visible from another thread.
+     * <p>
+     * A sub-search waits for one of {@code app.search.max-concurrent-sub-searches} permits before
+     * taking a connection, so concurrent searches cannot drain the connection pool that every
+     * other endpoint shares. One still waiting at its deadline is cancelled like a slow one.
+     */
+    private <T> Future<ResultPage<T>> submit(String type, SearchMode mode, Supplier<ResultPage<T>> search) {
+        Duration timeout = searchProperties.timeoutFor(type);
+        return searchExecutor.submit(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "error";
+            boolean permitted = false;
+            try {
+                subSearchPermits.acquire();
+                permitted = true;
+                TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+                transaction.setReadOnly(true);
+                ResultPage<T> page = transaction.execute(status -> {
+                    branchRepository.setStatementTimeout(String.valueOf(timeout.toMillis()));
+                    if (mode == SearchMode.FUZZY) {
+                        branchRepository.setSimilarityThreshold(String.valueOf(searchProperties.getFuzzyThreshold()));
+                    }
+                    return search.get();
+                });
+                outcome = "success";
+                return page;
+            } catch (InterruptedException e) {
+                outcome = "cancelled";
+                throw e;
+            } finally {
+                if (permitted) {
+                    subSearchPermits.release();
+                }
+                sample.stop(meterRegistry.timer(SUB_SEARCH_TIMER, "type", type, "outcome", outcome));
+            }
+        });
     }
 
-    private List<IndividualRoomResponse> searchIndividualRooms(String query) {
-        List<IndividualRoom> rooms = individualRoomRepository.findAll().stream()
-            .filter(r -> r.getStatus() != IndividualRoom.RoomStatus.CANCELLED)
-            .limit(50)
-            .toList();
+    /**
+     * Waits for a sub-search until its own deadline, measured from the start of the request.
+     * A sub-search that misses it is cancelled and reported in {@code missingTypes}.
+     */
+    private <T> ResultPage<T> await(String type, Future<ResultPage<T>> future, long startedAt, List<String> missingTypes) {
+        if (future == null) {
+            return ResultPage.empty();
+        }
 
-        Set<UUID> branchIds = rooms.stream().map(IndividualRoom::getBranchId).collect(Collectors.toSet());
-        Map<UUID, Branch> branches = branchRepository.findAllById(branchIds).stream()
-            .collect(Collectors.toMap(Branch::getId, b -> b));
-
-        Set<UUID> ownerIds = rooms.stream().map(IndividualRoom::getOwnerId).collect(Collectors.toSet());
-        Map<UUID, User> owners = userRepository.findAllById(ownerIds).stream()
-            .collect(Collectors.toMap(User::getId, u -> u));
-
-        List<UUID> roomIds = rooms.stream().map(IndividualRoom::getId).toList();
-        Map<UUID, Long> participantCounts = roomIds.isEmpty() ? new HashMap<>() :
-            participantRepository.findByRoomIdIn(roomIds).stream()
-                .collect(Collectors.groupingBy(IndividualRoomParticipant::getRoomId, Collectors.counting()));
-
-        return rooms.stream()
-            .filter(r -> {
-                Branch branch = branches.get(r.getBranchId());
-                User owner = owners.get(r.getOwnerId());
-                String ownerName = owner.getFirstName() + " " + owner.getLastName();
-
-                return branch.getName().toLowerCase().contains(query) ||
-                    ownerName.toLowerCase().contains(query) ||
-                    (r.getNotes() != null && r.getNotes().toLowerCase().contains(query));
-            })
-            .limit(10)
-            .map(room -> {
-                Branch branch = branches.get(room.getBranchId());
-                User owner = owners.get(room.getOwnerId());
-                Long filledSlots = participantCounts.getOrDefault(room.getId(), 0L);
-
-                return new IndividualRoomResponse(
-                    room.getId(),
-                    mapBranchToResponse(branch),
-                    new IndividualRoomResponse.ParticipantSummary(
-                        owner.getId(),
-                        owner.getFirstName(),
-                        owner.getLastName(),
-                        owner.getProfilePictureUrl()
-                    ),
-                    room.getScheduledDate().format(DATE_FORMATTER),
-                    room.getStartTime().format(TIME_FORMATTER),
-                    room.getEndTime().format(TIME_FORMATTER),
-                    room.getTotalSlots(),
-                    filledSlots.intValue(),
-                    room.getTotalSlots() - filledSlots.intValue(),
-                    room.getNotes(),
-                    room.getStatus().name(),
-                    room.getCreatedAt(),
-                    room.getUpdatedAt()
-                );
-            })
-            .toList();
+        long remaining = startedAt + searchProperties.timeoutFor(type).toNanos() - System.nanoTime();
+        try {
+            return future.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            missingTypes.add(type);
+            meterRegistry.counter(SUB_SEARCH_TIMEOUT_COUNTER, "type", type).increment();
+            log.warn("Search for {} exceeded its {} ms deadline; returning partial results",
+                type, searchProperties.timeoutFor(type).toMillis());
+            return ResultPage.empty();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(SEARCH_INTERRUPTED, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
     }
 
-    private List<TeamRoomResponse> searchTeamRooms(String query) {
-        List<TeamRoom> rooms = teamRoomRepository.findAll().stream()
-            .filter(r -> r.getStatus() != TeamRoom.TeamRoomStatus.CANCELLED)
-            .limit(50)
-            .toList();
+    private ResultPage<BranchResponse> searchBranches(String query, SearchMode mode, SearchCursor cursor, int size) {
+        int maxCandidates = searchProperties.getMaxCandidates();
+        return page(TYPE_BRANCHES, mode, cursor, size,
+            (afterScore, afterId, limit) -> mode == SearchMode.FUZZY
+                ? branchRepository.searchActiveBySimilarity(query, afterScore, afterId, limit, maxCandidates)
+                : branchRepository.searchActiveByText(query, afterScore, afterId, limit, maxCandidates),
+            branchRepository::findAllById, Branch::getId, searchResultAssembler::toBranchResponses);
+    }
 
-        Set<UUID> branchIds = rooms.stream().map(TeamRoom::getBranchId).collect(Collectors.toSet());
-        Map<UUID, Branch> branches = branchRepository.findAllById(branchIds).stream()
-            .collect(Collectors.toMap(Branch::getId, b -> b));
+    private ResultPage<IndividualRoomResponse> searchIndividualRooms(String query, SearchMode mode, SearchCursor cursor, int size) {
+        int maxCandidates = searchProperties.getMaxCandidates();
+        return page(TYPE_INDIVIDUAL_ROOMS, mode, cursor, size,
+            (afterScore, afterId, limit) -> mode == SearchMode.FUZZY
+                ? individualRoomRepository.searchBySimilarity(query, afterScore, afterId, limit, maxCandidates)
+                : individualRoomRepository.searchByText(query, afterScore, afterId, limit, maxCandidates),
+            individualRoomRepository::findAllById, IndividualRoom::getId, searchResultAssembler::toIndividualRoomResponses);
+    }
 
-        Set<UUID> teamIds = new HashSet<>();
-        rooms.forEach(r -> {
-            teamIds.add(r.getCreatorTeamId());
-            if (r.getOpponentTeamId() != null) {
-                teamIds.add(r.getOpponentTeamId());
-            }
-        });
-        Map<UUID, Team> teams = teamRepository.findAllById(teamIds).stream()
-            .collect(Collectors.toMap(Team::getId, t -> t));
-
-        Map<UUID, Long> memberCounts = teamIds.isEmpty() ? new HashMap<>() :
-            teamMemberRepository.findByTeamIdIn(new ArrayList<>(teamIds)).stream()
-                .collect(Collectors.groupingBy(TeamMember::getTeamId, Collectors.counting()));
-
-        return rooms.stream()
-            .filter(r -> {
-                Branch branch = branches.get(r.getBranchId());
-                Team creatorTeam = teams.get(r.getCreatorTeamId());
-                Team opponentTeam = r.getOpponentTeamId() != null ? teams.get(r.getOpponentTeamId()) : null;
-
-                return branch.getName().toLowerCase().contains(query) ||
-                    creatorTeam.getName().toLowerCase().contains(query) ||
-                    (opponentTeam != null && opponentTeam.getName().toLowerCase().contains(query));
-            })
-            .limit(10)
-            .map(room -> {
-                Branch branch = branches.get(room.getBranchId());
-                Team creatorTeam = teams.get(room.getCreatorTeamId());
-                Team opponentTeam = room.getOpponentTeamId() != null ? teams.get(room.getOpponentTeamId()) : null;
-                int creatorCount = memberCounts.getOrDefault(room.getCreatorTeamId(), 0L).intValue();
-                int opponentCount = opponentTeam != null ? memberCounts.getOrDefault(room.getOpponentTeamId(), 0L).intValue() : 0;
-
-                return new TeamRoomResponse(
-                    room.getId(),
-                    mapBranchToResponse(branch),
-                    new TeamRoomResponse.TeamSummary(
-                        creatorTeam.getId(),
-                        creatorTeam.getName(),
-                        creatorTeam.getLogoUrl(),
-                        creatorTeam.getRosterSize(),
-                        creatorCount
-                    ),
-                    opponentTeam != null ? new TeamRoomResponse.TeamSummary(
-                        opponentTeam.getId(),
-                        opponentTeam.getName(),
-                        opponentTeam.getLogoUrl(),
-                        opponentTeam.getRosterSize(),
-                        opponentCount
-                    ) : null,
-                    room.getScheduledDate().format(DATE_FORMATTER),
-                    room.getStartTime().format(TIME_FORMATTER),
-                    room.getEndTime().format(TIME_FORMATTER),
-                    room.getRequiredTeamSize(),
-                    room.getStatus().name(),
-                    room.getCreatedAt(),
-                    room.getUpdatedAt()
-                );
-            })
-            .toList();
+    private ResultPage<TeamRoomResponse> searchTeamRooms(String query, SearchMode mode, SearchCursor cursor, int size) {
+        int maxCandidates = searchProperties.getMaxCandidates();
+        return page(TYPE_TEAM_ROOMS, mode, cursor, size,
+            (afterScore, afterId, limit) -> mode == SearchMode.FUZZY
+                ? teamRoomRepository.searchBySimilarity(query, afterScore, afterId, limit, maxCandidates)
+                : teamRoomRepository.searchByText(query, afterScore, afterId, limit, maxCandidates),
+            teamRoomRepository::findAllById, TeamRoom::getId, searchResultAssembler::toTeamRoomResponses);
     }
 
-    private List<TeamResponse> searchTeams(String query) {
-        List<Team> teams = teamRepository.findAll().stream()
-            .filter(t -> t.getStatus() == Team.TeamStatus.ACTIVE)
-            .filter(t -> t.getName().toLowerCase().contains(query) ||
-                (t.getDescription() != null && t.getDescription().toLowerCase().contains(query)))
-            .limit(10)
-            .toList();
+    private ResultPage<TeamResponse> searchTeams(String query, SearchMode mode, SearchCursor cursor, int size) {
+        int maxCandidates = searchProperties.getMaxCandidates();
+        return page(TYPE_TEAMS, mode, cursor, size,
+            (afterScore, afterId, limit) -> mode == SearchMode.FUZZY
+                ? teamRepository.searchActiveBySimilarity(query, afterScore, afterId, limit, maxCandidates)
+                : teamRepository.searchActiveByText(query, afterScore, afterId, limit, maxCandidates),
+            teamRepository::findAllById, Team::getId, searchResultAssembler::toTeamResponses);
+    }
 
-        List<UUID> teamIds = teams.stream().map(Team::getId).toList();
-        Map<UUID, Long> memberCounts = teamIds.isEmpty() ? new HashMap<>() :
-            teamMemberRepository.findByTeamIdIn(teamIds).stream()
-                .collect(Collectors.groupingBy(TeamMember::getTeamId, Collectors.counting()));
-
-        Set<UUID> captainIds = teams.stream().map(Team::getCaptainId).collect(Collectors.toSet());
-        Map<UUID, User> captains = userRepository.findAllById(captainIds).stream()
-            .collect(Collectors.toMap(User::getId, u -> u));
-
-        return teams.stream()
-            .map(team -> {
-                User captain = captains.get(team.getCaptainId());
-                Long memberCount = memberCounts.getOrDefault(team.getId(), 0L);
-
-                return new TeamResponse(
-                    team.getId(),
-                    team.getName(),
-                    team.getDescription(),
-                    team.getLogoUrl(),
-                    new TeamResponse.CaptainSummary(
-                        captain.getId(),
-                        captain.getFirstName(),
-                        captain.getLastName(),
-                        captain.getProfilePictureUrl()
-                    ),
-                    team.getRosterSize(),
-                    memberCount.intValue(),
-                    team.getRosterSize() - memberCount.intValue(),
-                    team.getStatus().name(),
-                    team.getCreatedAt(),
-                    team.getUpdatedAt()
-                );
-            })
+    /**
+     * Fetches one page of ranked hits after the cursor, loads the matching entities and keeps them
+     * in rank order. One extra hit is requested to tell whether a next page exists.
+     */
+    private <E, R> ResultPage<R> page(
+        String type,
+        SearchMode mode,
+        SearchCursor cursor,
+        int size,
+        HitQuery hitQuery,
+        Function<List<UUID>, List<E>> loader,
+        Function<E, UUID> idOf,
+        Function<List<E>, List<R>> assembler
+    ) {
+        float afterScore = cursor != null ? cursor.score() : Float.POSITIVE_INFINITY;
+        UUID afterId = cursor != null ? cursor.id() : FIRST_PAGE_ID;
+
+        List<SearchHit> hits = hitQuery.find(afterScore, afterId, size + 1);
+        boolean hasMore = hits.size() > size;
+        List<SearchHit> pageHits = hasMore ? hits.subList(0, size) : hits;
+        if (pageHits.isEmpty()) {
+            return ResultPage.empty();
+        }
+
+        List<UUID> ids = pageHits.stream().map(SearchHit::getId).toList();
+        Map<UUID, E> entities = loader.apply(ids).stream()
+            .collect(Collectors.toMap(idOf, Function.identity()));
+        List<E> ordered = ids.stream()
+            .map(entities::get)
+            .filter(Objects::nonNull)
             .toList();
+
+        String nextCursor = null;
+        if (hasMore) {
+            SearchHit last = pageHits.get(pageHits.size() - 1);
+            nextCursor = new SearchCursor(SearchCursor.DATABASE, mode.name(), type, last.getScore(), last.getId()).encode();
+        }
+        return new ResultPage<>(assembler.apply(ordered), nextCursor);
     }
 
-    private BranchResponse mapBranchToResponse(Branch branch) {
-        return new BranchResponse(
-            branch.getId(),
-            branch.getName(),
-            branch.getAddress(),
-            branch.getGoogleMapsUrl(),
-            branch.getOperatingHoursStart().format(TIME_FORMATTER),
-            branch.getOperatingHoursEnd().format(TIME_FORMATTER),
-            branch.getContactPhone(),
-            branch.getContactEmail(),
-            branch.getLatitude(),
-            branch.getLongitude(),
-            branch.getIsActive(),
-            branch.getCreatedAt(),
-            branch.getUpdatedAt()
-        );
+    private SearchMode parseMode(String modeStr) {
+        if (modeStr == null || modeStr.isEmpty()) {
+            return SearchMode.FULLTEXT;
+        }
+        try {
+            return SearchMode.valueOf(modeStr.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(INVALID_SEARCH_MODE);
+        }
+    }
+
+    /**
+     * Turns free text into a prefix tsquery ("foot club" -> "foot:* & club:*"), so partially typed
+     * words still match. Everything except letters and digits is dropped, which keeps tsquery
+     * operators supplied by the user out of the expression.
+     */
+    private String toPrefixTsQuery(String query) {
+        return TOKEN_SEPARATOR.splitAsStream(query.toLowerCase())
+            .filter(token -> !token.isEmpty())
+            .map(token -> token + ":*")
+            .collect(Collectors.joining(" & "));
+    }
+
+    @FunctionalInterface
+    private interface HitQuery {
+        List<SearchHit> find(float afterScore, UUID afterId, int limit);
+    }
+
+    private record ResultPage<T>(List<T> results, String nextCursor) {
+        private static <T> ResultPage<T> empty() {
+            return new ResultPage<>(List.of(), null);
+        }
+    }
+
+    private enum SearchMode {
+        FULLTEXT,
+        FUZZY
     }
 }
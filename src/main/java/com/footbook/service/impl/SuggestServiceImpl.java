@@ -0,0 +1,106 @@
+package com.footbook.service.impl;
+
+import com.footbook.domain.Team;
+import com.footbook.domain.User;
+import com.footbook.dto.response.search.SuggestionResponse;
+import com.footbook.event.EntityChangedEvent;
+import com.footbook.repository.BranchRepository;
+import com.footbook.repository.TeamRepository;
+import com.footbook.repository.UserRepository;
+import com.footbook.service.SuggestService;
+import com.footbook.service.search.BatchLoader;
+import com.footbook.service.search.SuggestionTrie;
+import com.footbook.service.search.SuggestionTrie.Entry;
+import com.footbook.service.search.SuggestionTrie.Kind;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Serves autocomplete from an immutable {@link SuggestionTrie}.
+ * <p>
+ * Names are loaded once the application is ready and patched from {@link EntityChangedEvent}s
+ * after commit. Patches only mark the trie stale; a fresh trie is built and swapped in at most
+ * once per {@code app.search.suggest-refresh-ms}, so bursts of writes cost a single rebuild.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SuggestServiceImpl implements SuggestService {
+    private final BranchRepository branchRepository;
+    private final TeamRepository teamRepository;
+    private final UserRepository userRepository;
+
+    private static final int MAX_SUGGESTIONS = 10;
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean stale = new AtomicBoolean();
+    private volatile SuggestionTrie trie = SuggestionTrie.build(List.of(), MAX_SUGGESTIONS);
+
+    @Override
+    public List<SuggestionResponse> suggest(String prefix, int limit) {
+        return trie.suggest(prefix, Math.min(limit, MAX_SUGGESTIONS)).stream()
+            .map(entry -> new SuggestionResponse(entry.id(), entry.kind().name(), entry.name()))
+            .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSuggestions() {
+        branchRepository.findByIsActiveTrueOrderByNameAsc()
+            .forEach(branch -> entries.put(branch.getId(), new Entry(branch.getId(), Kind.BRANCH, branch.getName())));
+        BatchLoader.forEachBatch((afterId, limit) -> teamRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                Team.TeamStatus.ACTIVE, afterId, limit), Team::getId,
+            teams -> teams.forEach(team -> entries.put(team.getId(), new Entry(team.getId(), Kind.TEAM, team.getName()))));
+        BatchLoader.forEachBatch(userRepository::findByIsActiveTrueAndIsVerifiedTrueAndIdGreaterThanOrderByIdAsc, User::getId,
+            users -> users.forEach(user -> entries.put(user.getId(),
+                new Entry(user.getId(), Kind.PLAYER, user.getFirstName() + " " + user.getLastName()))));
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        UUID id = event.entityId();
+        Optional<Entry> current;
+        switch (event.entityType()) {
+            case BRANCH -> current = branchRepository.findByIdAndIsActiveTrue(id)
+                .map(branch -> new Entry(id, Kind.BRANCH, branch.getName()));
+            case TEAM -> current = teamRepository.findByIdAndStatus(id, Team.TeamStatus.ACTIVE)
+                .map(team -> new Entry(id, Kind.TEAM, team.getName()));
+            case USER -> current = userRepository.findByIdAndIsActiveTrueAndIsVerifiedTrue(id)
+                .map(user -> new Entry(id, Kind.PLAYER, user.getFirstName() + " " + user.getLastName()));
+            default -> {
+                return;
+            }
+        }
+
+        Entry previous = current.isPresent() ? entries.put(id, current.get()) : entries.remove(id);
+        if (!Objects.equals(previous, current.orElse(null))) {
+            stale.set(true);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.suggest-refresh-ms:1000}")
+    public void refreshSuggestions() {
+        if (stale.compareAndSet(true, false)) {
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+        long start = System.currentTimeMillis();
+        trie = SuggestionTrie.build(List.copyOf(entries.values()), MAX_SUGGESTIONS);
+        log.debug("Rebuilt suggestion trie: {} names in {} ms", trie.size(), System.currentTimeMillis() - start);
+    }
+}
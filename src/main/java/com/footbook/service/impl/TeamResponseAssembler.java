@@ -0,0 +1,135 @@
+package com.footbook.service.impl;
+
+import com.footbook.domain.Team;
+import com.footbook.domain.TeamMember;
+import com.footbook.dto.response.team.TeamDetailResponse;
+import com.footbook.dto.response.team.TeamResponse;
+import com.footbook.repository.TeamMemberRepository;
+import com.footbook.service.reference.ReferenceLoader;
+import com.footbook.service.reference.References;
+import com.footbook.service.reference.UserSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Builds team responses for a batch of teams in a fixed number of queries, however many teams are
+ * shown: captains are loaded through the {@link ReferenceLoader} with one query, and for detail
+ * responses the members of every team with one more. Member counts are kept on the team row and
+ * need no query.
+ */
+@Component
+@RequiredArgsConstructor
+public class TeamResponseAssembler {
+    private final TeamMemberRepository teamMemberRepository;
+    private final ReferenceLoader referenceLoader;
+
+    public TeamResponse toTeamResponse(Team team) {
+        return toTeamResponses(List.of(team)).get(0);
+    }
+
+    /**
+     * @return responses in the order of {@code teams}
+     */
+    public List<TeamResponse> toTeamResponses(List<Team> teams) {
+        if (teams.isEmpty()) {
+            return List.of();
+        }
+
+        References captains = referenceLoader.batch()
+            .users(teams.stream().map(Team::getCaptainId).toList())
+            .load();
+
+        return teams.stream()
+            .map(team -> {
+                UserSummary captain = captains.user(team.getCaptainId());
+
+                return new TeamResponse(
+                    team.getId(),
+                    team.getName(),
+                    team.getDescription(),
+                    team.getLogoUrl(),
+                    new TeamResponse.CaptainSummary(
+                        captain.id(),
+                        captain.firstName(),
+                        captain.lastName(),
+                        captain.profilePictureUrl()
+                    ),
+                    team.getRosterSize(),
+                    team.getMemberCount(),
+                    team.getRosterSize() - team.getMemberCount(),
+                    team.getStatus().name(),
+                    team.getCreatedAt(),
+                    team.getUpdatedAt()
+                );
+            })
+            .toList();
+    }
+
+    public TeamDetailResponse toTeamDetailResponse(Team team) {
+        return toTeamDetailResponses(List.of(team)).get(team.getId());
+    }
+
+    /**
+     * @return detail responses keyed by team ID
+     */
+    public Map<UUID, TeamDetailResponse> toTeamDetailResponses(Collection<Team> teams) {
+        if (teams.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<UUID> teamIds = teams.stream().map(Team::getId).collect(Collectors.toSet());
+        Map<UUID, List<TeamMember>> membersByTeam = teamMemberRepository.findByTeamIdInOrderByJoinedAtAsc(teamIds).stream()
+            .collect(Collectors.groupingBy(TeamMember::getTeamId));
+
+        ReferenceLoader.Batch batch = referenceLoader.batch();
+        teams.forEach(team -> batch.user(team.getCaptainId()));
+        membersByTeam.values().forEach(members -> members.forEach(m -> batch.user(m.getUserId())));
+        References users = batch.load();
+
+        Map<UUID, TeamDetailResponse> responses = new HashMap<>();
+        for (Team team : teams) {
+            responses.put(team.getId(), mapToDetailResponse(team, membersByTeam.getOrDefault(team.getId(), List.of()), users));
+        }
+        return responses;
+    }
+
+    private TeamDetailResponse mapToDetailResponse(Team team, List<TeamMember> members, References users) {
+        UserSummary captain = users.user(team.getCaptainId());
+        List<TeamDetailResponse.MemberInfo> memberInfos = members.stream()
+            .map(m -> {
+                UserSummary user = users.user(m.getUserId());
+                return new TeamDetailResponse.MemberInfo(
+                    user.id(),
+                    user.firstName(),
+                    user.lastName(),
+                    user.profilePictureUrl(),
+                    m.getJoinedAt()
+                );
+            })
+            .toList();
+
+        return new TeamDetailResponse(
+            team.getId(),
+            team.getName(),
+            team.getDescription(),
+            team.getLogoUrl(),
+            new TeamDetailResponse.CaptainInfo(
+                captain.id(),
+                captain.firstName(),
+                captain.lastName(),
+                captain.email(),
+                captain.profilePictureUrl()
+            ),
+            team.getRosterSize(),
+            members.size(),
+            team.getRosterSize() - members.size(),
+            team.getStatus().name(),
+            memberInfos,
+            team.getCreatedAt(),
+            team.getUpdatedAt()
+        );
+    }
+}
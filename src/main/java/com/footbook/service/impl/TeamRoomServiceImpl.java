@@ -1,20 +1,34 @@
 package com.footbook.service.impl;
 
+import com.footbook.config.booking.BookingProperties;
 import com.footbook.domain.Branch;
 import com.footbook.domain.Team;
-import com.footbook.domain.TeamMember;
 import com.footbook.domain.TeamRoom;
 import com.footbook.dto.request.room.CreateTeamRoomRequest;
+import com.footbook.dto.request.room.CreateTeamRoomSeriesRequest;
 import com.footbook.dto.request.room.JoinTeamRoomRequest;
 import com.footbook.dto.response.branch.BranchResponse;
 import com.footbook.dto.response.room.TeamRoomDetailResponse;
 import com.footbook.dto.response.room.TeamRoomResponse;
+import com.footbook.dto.response.room.TeamRoomSeriesResponse;
 import com.footbook.dto.response.team.TeamDetailResponse;
+import com.footbook.event.EntityChangedEvent;
+import com.footbook.exception.SlotUnavailableException;
 import com.footbook.repository.*;
+import com.footbook.repository.projection.MemberConflict;
 import com.footbook.service.TeamRoomService;
-import com.footbook.service.TeamService;
+import com.footbook.service.booking.OpenMatchIndex;
+import com.footbook.service.booking.OpenMatchmaker;
+import com.footbook.service.booking.PitchAllocator;
+import com.footbook.service.booking.RoomSeriesSchedule;
+import com.footbook.service.reference.ReferenceLoader;
+import com.footbook.service.reference.References;
+import com.footbook.service.reference.TeamSummary;
+import com.footbook.service.search.BranchGeoIndex;
+import com.footbook.service.search.NearbyBranchLocator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -38,10 +52,16 @@ public class TeamRoomServiceImpl implements TeamRoomService {
     private final TeamRoomRepository teamRoomRepository;
     private final BranchRepository branchRepository;
     private final TeamRepository teamRepository;
-    private final TeamMemberRepository teamMemberRepository;
     private final UserRepository userRepository;
-    private final TeamService teamService;
-
+    private final TeamResponseAssembler teamResponseAssembler;
+    private final ReferenceLoader referenceLoader;
+    private final PitchAllocator pitchAllocator;
+    private final NearbyBranchLocator nearbyBranchLocator;
+    private final OpenMatchmaker openMatchmaker;
+    private final BookingProperties bookingProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_MATCH_ATTEMPTS = 5;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
 
@@ -53,47 +73,20 @@ public class TeamRoomServiceImpl implements TeamRoomService {
         Branch branch = branchRepository.findByIdAndIsActiveTrue(request.branchId())
             .orElseThrow(() -> new NoSuchElementException(BRANCH_INACTIVE));
 
-        Team team = teamRepository.findByIdAndStatus(request.teamId(), Team.TeamStatus.ACTIVE)
-            .orElseThrow(() -> new NoSuchElementException(TEAM_DISBANDED));
-
-        if (!team.getCaptainId().equals(currentUserId)) {
-            throw new IllegalStateException(NOT_CAPTAIN);
-        }
-
-        long memberCount = teamMemberRepository.countByTeamId(request.teamId());
-        if (memberCount < team.getRosterSize()) {
-            throw new IllegalStateException(TEAM_NOT_FULL_ROSTER);
-        }
+        Team team = findTeamReadyToPlay(request.teamId(), currentUserId);
 
         LocalDate scheduledDate = parseDate(request.scheduledDate());
         LocalTime startTime = parseTime(request.startTime());
         LocalTime endTime = parseTime(request.endTime());
+        validateSchedule(branch, scheduledDate, startTime, endTime);
 
-        if (!endTime.isAfter(startTime)) {
-            throw new IllegalArgumentException(END_TIME_BEFORE_START);
-        }
+        checkConflicts(team.getId(), List.of(scheduledDate), startTime, endTime);
 
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime bookingDateTime = LocalDateTime.of(scheduledDate, startTime);
-        if (bookingDateTime.isBefore(now)) {
-            throw new IllegalArgumentException(BOOKING_IN_PAST);
-        }
-
-        if (startTime.isBefore(branch.getOperatingHoursStart()) || endTime.isAfter(branch.getOperatingHoursEnd())) {
-            throw new IllegalArgumentException(OUTSIDE_OPERATING_HOURS);
-        }
-
-        if (teamRoomRepository.hasTeamConflict(request.teamId(), scheduledDate, startTime, endTime)) {
-            throw new IllegalArgumentException(TEAM_CONFLICT);
-        }
-
-        List<UUID> teamMemberIds = teamMemberRepository.findUserIdsByTeamId(request.teamId());
-        if (teamRoomRepository.hasTeamMembersIndividualConflict(teamMemberIds, scheduledDate, startTime, endTime)) {
-            throw new IllegalArgumentException(TEAM_MEMBERS_CONFLICT);
-        }
+        UUID pitchId = pitchAllocator.findFreePitch(branch.getId(), scheduledDate, startTime, endTime);
 
         TeamRoom room = TeamRoom.builder()
             .branchId(request.branchId())
+            .pitchId(pitchId)
             .creatorTeamId(request.teamId())
             .scheduledDate(scheduledDate)
             .startTime(startTime)
@@ -103,14 +96,79 @@ public class TeamRoomServiceImpl implements TeamRoomService {
             .build();
 
         room = teamRoomRepository.save(room);
+        if (teamRoomRepository.insertTeamBookingIfFree(request.teamId(), room.getId(), scheduledDate, startTime, endTime) == 0) {
+            throw new SlotUnavailableException(TEAM_CONFLICT);
+        }
+        pitchAllocator.reserve(room.getId(), PitchAllocator.RoomType.TEAM, pitchId, branch.getId(),
+            scheduledDate, startTime, endTime);
         log.info("Created team room {} by team {} (captain: {})", room.getId(), request.teamId(), currentUserId);
+        eventPublisher.publishEvent(new EntityChangedEvent(EntityChangedEvent.EntityType.TEAM_ROOM, room.getId()));
 
-        return mapToResponse(room, branch, team, null, (int) memberCount, 0);
+        return mapToResponse(room, ReferenceLoader.toBranchResponse(branch), ReferenceLoader.toTeamSummary(team), null);
+    }
+
+    @Override
+    @Transactional
+    public TeamRoomSeriesResponse createRoomSeries(CreateTeamRoomSeriesRequest request) {
+        UUID currentUserId = getCurrentUserId();
+        CreateTeamRoomRequest details = request.room();
+        RoomSeriesSchedule schedule = RoomSeriesSchedule.parse(request.recurrence());
+
+        Branch branch = branchRepository.findByIdAndIsActiveTrue(details.branchId())
+            .orElseThrow(() -> new NoSuchElementException(BRANCH_INACTIVE));
+
+        Team team = findTeamReadyToPlay(details.teamId(), currentUserId);
+
+        LocalDate firstDate = parseDate(details.scheduledDate());
+        LocalTime startTime = parseTime(details.startTime());
+        LocalTime endTime = parseTime(details.endTime());
+        // Later occurrences have the same times on later dates, so checking the first covers them all
+        validateSchedule(branch, firstDate, startTime, endTime);
+
+        List<LocalDate> dates = schedule.dates(firstDate, request.occurrences());
+        checkConflicts(team.getId(), dates, startTime, endTime);
+
+        UUID seriesId = UUID.randomUUID();
+        Map<LocalDate, UUID> pitchIds = pitchAllocator.findFreePitches(branch.getId(), dates, startTime, endTime);
+        List<TeamRoom> rooms = new ArrayList<>(dates.size());
+        for (LocalDate date : dates) {
+            rooms.add(TeamRoom.builder()
+                .branchId(branch.getId())
+                .pitchId(pitchIds.get(date))
+                .seriesId(seriesId)
+                .creatorTeamId(team.getId())
+                .scheduledDate(date)
+                .startTime(startTime)
+                .endTime(endTime)
+                .requiredTeamSize(team.getRosterSize())
+                .status(TeamRoom.TeamRoomStatus.OPEN)
+                .build());
+        }
+
+        // IDs are generated before the insert, so the rooms are written as JDBC batches
+        rooms = teamRoomRepository.saveAll(rooms);
+        if (teamRoomRepository.insertSeriesTeamBookings(seriesId) < rooms.size()) {
+            // Booked elsewhere since the conflict check
+            throw new SlotUnavailableException(TEAM_CONFLICT);
+        }
+        pitchAllocator.reserveSeries(seriesId, PitchAllocator.RoomType.TEAM, branch.getId(), dates);
+
+        log.info("Created team room series {} with {} rooms by team {} (captain: {})",
+            seriesId, rooms.size(), team.getId(), currentUserId);
+        rooms.forEach(room -> eventPublisher.publishEvent(
+            new EntityChangedEvent(EntityChangedEvent.EntityType.TEAM_ROOM, room.getId())));
+
+        BranchResponse branchResponse = ReferenceLoader.toBranchResponse(branch);
+        TeamSummary teamSummary = ReferenceLoader.toTeamSummary(team);
+        List<TeamRoomResponse> responses = rooms.stream()
+            .map(room -> mapToResponse(room, branchResponse, teamSummary, null))
+            .toList();
+        return new TeamRoomSeriesResponse(seriesId, schedule.name(), responses);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<TeamRoomResponse> getAllRooms(UUID branchId, LocalDate startDate, LocalDate endDate, Integer teamSize, String statusStr, Pageable pageable) {
+    public Page<TeamRoomResponse> getAllRooms(UUID branchId, String near, Double radiusKm, LocalDate startDate, LocalDate endDate, Integer teamSize, String statusStr, Pageable pageable) {
         TeamRoom.TeamRoomStatus status = null;
         if (statusStr != null && !statusStr.isEmpty()) {
             try {
@@ -120,33 +178,34 @@ public class TeamRoomServiceImpl implements TeamRoomService {
             }
         }
 
-        Page<TeamRoom> rooms = teamRoomRepository.findRoomsWithFilters(branchId, startDate, endDate, teamSize, status, pageable);
+        Page<TeamRoom> rooms = near != null && !near.isBlank()
+            ? findRoomsNear(branchId, near, radiusKm, startDate, endDate, teamSize, status, pageable)
+            : teamRoomRepository.findRoomsWithFilters(branchId, startDate, endDate, teamSize, status, pageable);
 
-        Set<UUID> branchIds = rooms.getContent().stream().map(TeamRoom::getBranchId).collect(Collectors.toSet());
-        Map<UUID, Branch> branches = branchRepository.findAllById(branchIds).stream()
-            .collect(Collectors.toMap(Branch::getId, b -> b));
+        ReferenceLoader.Batch batch = referenceLoader.batch();
+        rooms.forEach(room -> batch.branch(room.getBranchId()).team(room.getCreatorTeamId()).team(room.getOpponentTeamId()));
+        References references = batch.load();
 
-        Set<UUID> teamIds = new HashSet<>();
-        rooms.getContent().forEach(r -> {
-            teamIds.add(r.getCreatorTeamId());
-            if (r.getOpponentTeamId() != null) {
-                teamIds.add(r.getOpponentTeamId());
-            }
-        });
-        Map<UUID, Team> teams = teamRepository.findAllById(teamIds).stream()
-            .collect(Collectors.toMap(Team::getId, t -> t));
-
-        Map<UUID, Long> memberCounts = teamMemberRepository.findByTeamIdIn(new ArrayList<>(teamIds)).stream()
-            .collect(Collectors.groupingBy(TeamMember::getTeamId, Collectors.counting()));
-
-        return rooms.map(room -> {
-            Branch branch = branches.get(room.getBranchId());
-            Team creatorTeam = teams.get(room.getCreatorTeamId());
-            Team opponentTeam = room.getOpponentTeamId() != null ? teams.get(room.getOpponentTeamId()) : null;
-            int creatorCount = memberCounts.getOrDefault(room.getCreatorTeamId(), 0L).intValue();
-            int opponentCount = opponentTeam != null ? memberCounts.getOrDefault(room.getOpponentTeamId(), 0L).intValue() : 0;
-            return mapToResponse(room, branch, creatorTeam, opponentTeam, creatorCount, opponentCount);
-        });
+        return rooms.map(room -> mapToResponse(room, references));
+    }
+
+    /**
+     * Rooms of branches within the radius of the location, nearest branch first, then by start time.
+     */
+    private Page<TeamRoom> findRoomsNear(UUID branchId, String near, Double radiusKm, LocalDate startDate, LocalDate endDate,
+                                         Integer teamSize, TeamRoom.TeamRoomStatus status, Pageable pageable) {
+        NearbyBranchLocator.Window window = nearbyBranchLocator.window(startDate, endDate);
+        List<BranchGeoIndex.Match> branches = nearbyBranchLocator.findNearby(nearbyBranchLocator.parseLocation(near), radiusKm)
+            .stream()
+            .filter(match -> branchId == null || match.id().equals(branchId))
+            .toList();
+        if (branches.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        List<TeamRoom> rooms = teamRoomRepository.findRoomsNear(
+            branches.stream().map(BranchGeoIndex.Match::id).toList(), window.from(), window.to(), teamSize, status);
+        return nearbyBranchLocator.pageByDistance(branches, rooms, TeamRoom::getBranchId, pageable);
     }
 
     @Override
@@ -155,17 +214,26 @@ public class TeamRoomServiceImpl implements TeamRoomService {
         TeamRoom room = teamRoomRepository.findById(id)
             .orElseThrow(() -> new NoSuchElementException(ROOM_NOT_FOUND + " with ID: " + id));
 
-        Branch branch = branchRepository.findById(room.getBranchId())
-            .orElseThrow(() -> new NoSuchElementException(BRANCH_NOT_FOUND + " with ID: " + room.getBranchId()));
+        BranchResponse branch = referenceLoader.branch(room.getBranchId());
+
+        Set<UUID> teamIds = new HashSet<>();
+        teamIds.add(room.getCreatorTeamId());
+        if (room.getOpponentTeamId() != null) {
+            teamIds.add(room.getOpponentTeamId());
+        }
+        List<Team> activeTeams = teamRepository.findAllById(teamIds).stream()
+            .filter(team -> team.getStatus() == Team.TeamStatus.ACTIVE)
+            .toList();
+        Map<UUID, TeamDetailResponse> teams = teamResponseAssembler.toTeamDetailResponses(activeTeams);
 
-        TeamDetailResponse creatorTeam = teamService.getTeamById(room.getCreatorTeamId());
+        TeamDetailResponse creatorTeam = findTeamDetail(teams, room.getCreatorTeamId());
         TeamDetailResponse opponentTeam = room.getOpponentTeamId() != null
-            ? teamService.getTeamById(room.getOpponentTeamId())
+            ? findTeamDetail(teams, room.getOpponentTeamId())
             : null;
 
         return new TeamRoomDetailResponse(
             room.getId(),
-            mapBranchToResponse(branch),
+            branch,
             creatorTeam,
             opponentTeam,
             room.getScheduledDate().format(DATE_FORMATTER),
@@ -178,6 +246,48 @@ public class TeamRoomServiceImpl implements TeamRoomService {
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public TeamRoomResponse findMatch(UUID teamId, List<UUID> branchIds, LocalDate startDate, LocalDate endDate) {
+        Team team = findTeamReadyToPlay(teamId, getCurrentUserId());
+
+        int windowDays = bookingProperties.getMatchWindowDays();
+        LocalDate today = LocalDate.now();
+        LocalDate fromDate = startDate != null && startDate.isAfter(today) ? startDate : today;
+        LocalDate toDate = endDate != null ? endDate : fromDate.plusDays(windowDays - 1);
+        if (toDate.isAfter(fromDate.plusDays(windowDays - 1))) {
+            throw new IllegalArgumentException(MATCH_WINDOW_TOO_LONG);
+        }
+
+        List<OpenMatchIndex.Busy> busy = teamRoomRepository.findTeamBusySlots(List.of(teamId), fromDate, toDate).stream()
+            .map(slot -> new OpenMatchIndex.Busy(slot.getScheduledDate(), slot.getStartTime(), slot.getEndTime()))
+            .toList();
+        Collection<UUID> branches = branchIds != null ? branchIds : List.of();
+
+        Set<UUID> taken = new HashSet<>();
+        for (int attempt = 0; attempt < MAX_MATCH_ATTEMPTS; attempt++) {
+            Optional<OpenMatchIndex.Room> candidate = openMatchmaker.findEarliest(
+                team.getRosterSize(), teamId, branches, fromDate, toDate, busy, taken);
+            if (candidate.isEmpty()) {
+                break;
+            }
+
+            // The index can lag behind a room joined or cancelled on another instance
+            Optional<TeamRoom> room = teamRoomRepository.findById(candidate.get().id())
+                .filter(r -> r.getStatus() == TeamRoom.TeamRoomStatus.OPEN);
+            if (room.isPresent()) {
+                References references = referenceLoader.batch()
+                    .branch(room.get().getBranchId())
+                    .team(room.get().getCreatorTeamId())
+                    .load();
+                return mapToResponse(room.get(), references);
+            }
+            openMatchmaker.discard(candidate.get().id());
+            taken.add(candidate.get().id());
+        }
+        throw new NoSuchElementException(NO_MATCH_FOUND);
+    }
+
     @Override
     @Transactional
     public void joinRoom(UUID roomId, JoinTeamRoomRequest request) {
@@ -187,7 +297,7 @@ public class TeamRoomServiceImpl implements TeamRoomService {
             .orElseThrow(() -> new NoSuchElementException(ROOM_CANCELLED));
 
         if (room.getStatus() == TeamRoom.TeamRoomStatus.MATCHED) {
-            throw new IllegalStateException(TEAM_ROOM_MATCHED);
+            throw new SlotUnavailableException(TEAM_ROOM_MATCHED);
         }
 
         Team opponentTeam = teamRepository.findByIdAndStatus(request.teamId(), Team.TeamStatus.ACTIVE)
@@ -205,25 +315,26 @@ public class TeamRoomServiceImpl implements TeamRoomService {
             throw new IllegalArgumentException(TEAM_SIZE_MISMATCH);
         }
 
-        long opponentMemberCount = teamMemberRepository.countByTeamId(request.teamId());
-        if (opponentMemberCount < opponentTeam.getRosterSize()) {
+        if (opponentTeam.getMemberCount() < opponentTeam.getRosterSize()) {
             throw new IllegalStateException(TEAM_NOT_FULL_ROSTER);
         }
 
-        if (teamRoomRepository.hasTeamConflict(request.teamId(), room.getScheduledDate(), room.getStartTime(), room.getEndTime())) {
-            throw new IllegalArgumentException(TEAM_CONFLICT);
-        }
+        checkConflicts(request.teamId(), List.of(room.getScheduledDate()), room.getStartTime(), room.getEndTime());
 
-        List<UUID> opponentMemberIds = teamMemberRepository.findUserIdsByTeamId(request.teamId());
-        if (teamRoomRepository.hasTeamMembersIndividualConflict(opponentMemberIds, room.getScheduledDate(), room.getStartTime(), room.getEndTime())) {
-            throw new IllegalArgumentException(TEAM_MEMBERS_CONFLICT);
+        // The checks above read the room without a lock, so another team may have claimed it since
+        if (teamRoomRepository.claimRoom(roomId, request.teamId()) == 0) {
+            throw teamRoomRepository.findByIdAndStatusNot(roomId, TeamRoom.TeamRoomStatus.CANCELLED).isEmpty()
+                ? new NoSuchElementException(ROOM_CANCELLED)
+                : new SlotUnavailableException(TEAM_ROOM_MATCHED);
         }
 
-        room.setOpponentTeamId(request.teamId());
-        room.setStatus(TeamRoom.TeamRoomStatus.MATCHED);
-        teamRoomRepository.save(room);
+        if (teamRoomRepository.insertTeamBookingIfFree(request.teamId(), roomId, room.getScheduledDate(), room.getStartTime(), room.getEndTime()) == 0) {
+            // Throwing rolls the claim back as well
+            throw new SlotUnavailableException(TEAM_CONFLICT);
+        }
 
         log.info("Team {} joined room {} (opponent)", request.teamId(), roomId);
+        eventPublisher.publishEvent(new EntityChangedEvent(EntityChangedEvent.EntityType.TEAM_ROOM, roomId));
     }
 
     @Override
@@ -241,29 +352,112 @@ public class TeamRoomServiceImpl implements TeamRoomService {
             throw new IllegalStateException(NOT_CAPTAIN);
         }
 
-        room.setStatus(TeamRoom.TeamRoomStatus.CANCELLED);
-        teamRoomRepository.save(room);
+        // A full save would write back the opponent read above, undoing a claim made since
+        if (teamRoomRepository.cancelRoom(roomId) == 0) {
+            throw new NoSuchElementException(ROOM_CANCELLED);
+        }
+        teamRoomRepository.releaseTeamBookings(roomId);
+        pitchAllocator.release(roomId);
         log.info("Team room {} cancelled by creator captain {}", roomId, currentUserId);
+        eventPublisher.publishEvent(new EntityChangedEvent(EntityChangedEvent.EntityType.TEAM_ROOM, roomId));
+    }
+
+    /**
+     * Returns the active team if the user captains it and its roster is full.
+     */
+    private Team findTeamReadyToPlay(UUID teamId, UUID currentUserId) {
+        Team team = teamRepository.findByIdAndStatus(teamId, Team.TeamStatus.ACTIVE)
+            .orElseThrow(() -> new NoSuchElementException(TEAM_DISBANDED));
+
+        if (!team.getCaptainId().equals(currentUserId)) {
+            throw new IllegalStateException(NOT_CAPTAIN);
+        }
+
+        if (team.getMemberCount() < team.getRosterSize()) {
+            throw new IllegalStateException(TEAM_NOT_FULL_ROSTER);
+        }
+        return team;
+    }
+
+    /**
+     * Checks in one query that neither the team nor any of its members is booked at an overlapping
+     * time on any of the dates, whether in an individual room or a room of another of their teams.
+     * The booking inserts still guard against conflicts created after this check.
+     *
+     * @throws SlotUnavailableException listing the dates the team is booked, or else every busy member
+     */
+    private void checkConflicts(UUID teamId, Collection<LocalDate> dates, LocalTime startTime, LocalTime endTime) {
+        List<MemberConflict> conflicts = teamRoomRepository.findMemberConflicts(List.of(teamId), dates, startTime, endTime);
+        if (conflicts.isEmpty()) {
+            return;
+        }
+
+        Set<String> teamConflictDates = conflicts.stream()
+            .filter(conflict -> teamId.equals(conflict.getTeamId()))
+            .map(MemberConflict::getScheduledDate)
+            .collect(Collectors.toCollection(TreeSet::new));
+        if (!teamConflictDates.isEmpty()) {
+            throw new SlotUnavailableException(String.format("%s (%s)", TEAM_CONFLICT, String.join(", ", teamConflictDates)));
+        }
+
+        String busyMembers = conflicts.stream()
+            .map(conflict -> String.format("%s: %s room on %s",
+                conflict.getMemberName(), conflict.getRoomType().toLowerCase(), conflict.getScheduledDate()))
+            .distinct()
+            .collect(Collectors.joining(", "));
+        throw new SlotUnavailableException(String.format("%s (%s)", TEAM_MEMBERS_CONFLICT, busyMembers));
     }
 
-    private TeamRoomResponse mapToResponse(TeamRoom room, Branch branch, Team creatorTeam, Team opponentTeam,
-                                           int creatorMemberCount, int opponentMemberCount) {
+    private TeamDetailResponse findTeamDetail(Map<UUID, TeamDetailResponse> teams, UUID teamId) {
+        TeamDetailResponse team = teams.get(teamId);
+        if (team == null) {
+            throw new NoSuchElementException(TEAM_NOT_FOUND + " with ID: " + teamId);
+        }
+        return team;
+    }
+
+    private void validateSchedule(Branch branch, LocalDate scheduledDate, LocalTime startTime, LocalTime endTime) {
+        if (!endTime.isAfter(startTime)) {
+            throw new IllegalArgumentException(END_TIME_BEFORE_START);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime bookingDateTime = LocalDateTime.of(scheduledDate, startTime);
+        if (bookingDateTime.isBefore(now)) {
+            throw new IllegalArgumentException(BOOKING_IN_PAST);
+        }
+
+        if (startTime.isBefore(branch.getOperatingHoursStart()) || endTime.isAfter(branch.getOperatingHoursEnd())) {
+            throw new IllegalArgumentException(OUTSIDE_OPERATING_HOURS);
+        }
+    }
+
+    private TeamRoomResponse mapToResponse(TeamRoom room, References references) {
+        return mapToResponse(
+            room,
+            references.branch(room.getBranchId()),
+            references.team(room.getCreatorTeamId()),
+            room.getOpponentTeamId() != null ? references.team(room.getOpponentTeamId()) : null
+        );
+    }
+
+    private TeamRoomResponse mapToResponse(TeamRoom room, BranchResponse branch, TeamSummary creatorTeam, TeamSummary opponentTeam) {
         return new TeamRoomResponse(
             room.getId(),
-            mapBranchToResponse(branch),
+            branch,
             new TeamRoomResponse.TeamSummary(
-                creatorTeam.getId(),
-                creatorTeam.getName(),
-                creatorTeam.getLogoUrl(),
-                creatorTeam.getRosterSize(),
-                creatorMemberCount
+                creatorTeam.id(),
+                creatorTeam.name(),
+                creatorTeam.logoUrl(),
+                creatorTeam.rosterSize(),
+                creatorTeam.memberCount()
             ),
             opponentTeam != null ? new TeamRoomResponse.TeamSummary(
-                opponentTeam.getId(),
-                opponentTeam.getName(),
-                opponentTeam.getLogoUrl(),
-                opponentTeam.getRosterSize(),
-                opponentMemberCount
+                opponentTeam.id(),
+                opponentTeam.name(),
+                opponentTeam.logoUrl(),
+                opponentTeam.rosterSize(),
+                opponentTeam.memberCount()
             ) : null,
             room.getScheduledDate().format(DATE_FORMATTER),
             room.getStartTime().format(TIME_FORMATTER),
@@ -275,24 +469,6 @@ public class TeamRoomServiceImpl implements TeamRoomService {
         );
     }
 
-    private BranchResponse mapBranchToResponse(Branch branch) {
-        return new BranchResponse(
-            branch.getId(),
-            branch.getName(),
-            branch.getAddress(),
-            branch.getGoogleMapsUrl(),
-            branch.getOperatingHoursStart().format(TIME_FORMATTER),
-            branch.getOperatingHoursEnd().format(TIME_FORMATTER),
-            branch.getContactPhone(),
-            branch.getContactEmail(),
-            branch.getLatitude(),
-            branch.getLongitude(),
-            branch.getIsActive(),
-            branch.getCreatedAt(),
-            branch.getUpdatedAt()
-        );
-    }
-
     private LocalDate parseDate(String dateStr) {
         try {
             return LocalDate.parse(dateStr, DATE_FORMATTER);
@@ -2,28 +2,31 @@ package com.footbook.service.impl;
 
 import com.footbook.domain.Team;
 import com.footbook.domain.TeamMember;
-import com.footbook.domain.User;
 import com.footbook.dto.request.team.AddMemberRequest;
 import com.footbook.dto.request.team.CreateTeamRequest;
 import com.footbook.dto.request.team.TransferCaptainRequest;
 import com.footbook.dto.request.team.UpdateTeamRequest;
 import com.footbook.dto.response.team.TeamDetailResponse;
 import com.footbook.dto.response.team.TeamResponse;
+import com.footbook.event.EntityChangedEvent;
 import com.footbook.repository.TeamMemberRepository;
 import com.footbook.repository.TeamRepository;
 import com.footbook.repository.UserRepository;
 import com.footbook.service.TeamService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static com.footbook.util.ErrorMessages.*;
 
@@ -34,6 +37,8 @@ public class TeamServiceImpl implements TeamService {
     private final TeamRepository teamRepository;
     private final TeamMemberRepository teamMemberRepository;
     private final UserRepository userRepository;
+    private final TeamResponseAssembler teamResponseAssembler;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -46,6 +51,7 @@ public class TeamServiceImpl implements TeamService {
             .logoUrl(request.logoUrl())
             .captainId(currentUserId)
             .rosterSize(request.rosterSize())
+            .memberCount(1)
             .status(Team.TeamStatus.ACTIVE)
             .build();
 
@@ -60,24 +66,23 @@ public class TeamServiceImpl implements TeamService {
         teamMemberRepository.save(captainMember);
 
         log.info("Created team {} with captain {}", team.getId(), currentUserId);
+        eventPublisher.publishEvent(new EntityChangedEvent(EntityChangedEvent.EntityType.TEAM, team.getId()));
 
-        return mapToResponse(team, 1);
+        return teamResponseAssembler.toTeamResponse(team);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<TeamResponse> getAllTeams(String name, Pageable pageable) {
         Page<Team> teams = teamRepository.findActiveTeams(name, pageable);
+        return new PageImpl<>(teamResponseAssembler.toTeamResponses(teams.getContent()), pageable, teams.getTotalElements());
+    }
 
-        List<UUID> teamIds = teams.getContent().stream().map(Team::getId).toList();
-        Map<UUID, Long> memberCounts = teamIds.isEmpty() ? new HashMap<>() :
-            teamMemberRepository.findByTeamIdIn(teamIds).stream()
-                .collect(Collectors.groupingBy(TeamMember::getTeamId, Collectors.counting()));
-
-        return teams.map(team -> {
-            Long memberCount = memberCounts.getOrDefault(team.getId(), 0L);
-            return mapToResponse(team, memberCount.intValue());
-        });
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<TeamResponse> getActiveTeamsSlice(String name, Pageable pageable) {
+        Slice<Team> teams = teamRepository.findActiveTeamsSlice(name, pageable);
+        return new SliceImpl<>(teamResponseAssembler.toTeamResponses(teams.getContent()), pageable, teams.hasNext());
     }
 
     @Override
@@ -85,48 +90,7 @@ public class TeamServiceImpl implements TeamService {
     public TeamDetailResponse getTeamById(UUID id) {
         Team team = teamRepository.findByIdAndStatus(id, Team.TeamStatus.ACTIVE)
             .orElseThrow(() -> new NoSuchElementException(TEAM_NOT_FOUND + " with ID: " + id));
-
-        List<TeamMember> members = teamMemberRepository.findByTeamIdOrderByJoinedAtAsc(id);
-
-        Set<UUID> userIds = members.stream().map(TeamMember::getUserId).collect(Collectors.toSet());
-        userIds.add(team.getCaptainId());
-        Map<UUID, User> users = userRepository.findAllById(userIds).stream()
-            .collect(Collectors.toMap(User::getId, u -> u));
-
-        User captain = users.get(team.getCaptainId());
-        List<TeamDetailResponse.MemberInfo> memberInfos = members.stream()
-            .map(m -> {
-                User user = users.get(m.getUserId());
-                return new TeamDetailResponse.MemberInfo(
-                    user.getId(),
-                    user.getFirstName(),
-                    user.getLastName(),
-                    user.getProfilePictureUrl(),
-                    m.getJoinedAt()
-                );
-            })
-            .toList();
-
-        return new TeamDetailResponse(
-            team.getId(),
-            team.getName(),
-            team.getDescription(),
-            team.getLogoUrl(),
-            new TeamDetailResponse.CaptainInfo(
-                captain.getId(),
-                captain.getFirstName(),
-                captain.getLastName(),
-                captain.getEmail(),
-                captain.getProfilePictureUrl()
-            ),
-            team.getRosterSize(),
-            members.size(),
-            team.getRosterSize() - members.size(),
-            team.getStatus().name(),
-            memberInfos,
-            team.getCreatedAt(),
-            team.getUpdatedAt()
-        );
+        return teamResponseAssembler.toTeamDetailResponse(team);
     }
 
     @Override
@@ -136,17 +100,7 @@ public class TeamServiceImpl implements TeamService {
         List<Team> teams = teamRepository.findByCaptainIdAndStatusOrderByCreatedAtDesc(
             currentUserId, Team.TeamStatus.ACTIVE);
 
-        List<UUID> teamIds = teams.stream().map(Team::getId).toList();
-        Map<UUID, Long> memberCounts = teamIds.isEmpty() ? new HashMap<>() :
-            teamMemberRepository.findByTeamIdIn(teamIds).stream()
-                .collect(Collectors.groupingBy(TeamMember::getTeamId, Collectors.counting()));
-
-        return teams.stream()
-            .map(team -> {
-                Long memberCount = memberCounts.getOrDefault(team.getId(), 0L);
-                return mapToResponse(team, memberCount.intValue());
-            })
-            .toList();
+        return teamResponseAssembler.toTeamResponses(teams);
     }
 
     @Override
@@ -155,17 +109,7 @@ public class TeamServiceImpl implements TeamService {
         UUID currentUserId = getCurrentUserId();
         List<Team> teams = teamRepository.findTeamsByMember(currentUserId);
 
-        List<UUID> teamIds = teams.stream().map(Team::getId).toList();
-        Map<UUID, Long> memberCounts = teamIds.isEmpty() ? new HashMap<>() :
-            teamMemberRepository.findByTeamIdIn(teamIds).stream()
-                .collect(Collectors.groupingBy(TeamMember::getTeamId, Collectors.counting()));
-
-        return teams.stream()
-            .map(team -> {
-                Long memberCount = memberCounts.getOrDefault(team.getId(), 0L);
-                return mapToResponse(team, memberCount.intValue());
-            })
-            .toList();
+        return teamResponseAssembler.toTeamResponses(teams);
     }
 
     @Override
@@ -192,9 +136,9 @@ public class TeamServiceImpl implements TeamService {
 
         team = teamRepository.save(team);
         log.info("Updated team {} by captain {}", team.getId(), currentUserId);
+        eventPublisher.publishEvent(new EntityChangedEvent(EntityChangedEvent.EntityType.TEAM, team.getId()));
 
-        long memberCount = teamMemberRepository.countByTeamId(id);
-        return mapToResponse(team, (int) memberCount);
+        return teamResponseAssembler.toTeamResponse(team);
     }
 
     @Override
@@ -213,8 +157,7 @@ public class TeamServiceImpl implements TeamService {
             throw new IllegalArgumentException(ALREADY_MEMBER);
         }
 
-        long currentMemberCount = teamMemberRepository.countByTeamId(id);
-        if (currentMemberCount >= team.getRosterSize()) {
+        if (teamRepository.incrementMemberCount(id) == 0) {
             throw new IllegalStateException(TEAM_FULL);
         }
 
@@ -226,6 +169,7 @@ public class TeamServiceImpl implements TeamService {
 
         teamMemberRepository.save(teamMember);
         log.info("Added user {} to team {} by captain {}", request.userId(), id, currentUserId);
+        eventPublisher.publishEvent(new EntityChangedEvent(EntityChangedEvent.EntityType.TEAM, id));
     }
 
     @Override
@@ -244,12 +188,13 @@ public class TeamServiceImpl implements TeamService {
             throw new IllegalStateException(CANNOT_REMOVE_CAPTAIN);
         }
 
-        if (!teamMemberRepository.existsByTeamIdAndUserId(teamId, userId)) {
+        if (teamMemberRepository.deleteByTeamIdAndUserId(teamId, userId) == 0) {
             throw new NoSuchElementException(NOT_TEAM_MEMBER);
         }
 
-        teamMemberRepository.deleteByTeamIdAndUserId(teamId, userId);
+        teamRepository.decrementMemberCount(teamId);
         log.info("Removed user {} from team {} by captain {}", userId, teamId, currentUserId);
+        eventPublisher.publishEvent(new EntityChangedEvent(EntityChangedEvent.EntityType.TEAM, teamId));
     }
 
     @Override
@@ -278,6 +223,7 @@ public class TeamServiceImpl implements TeamService {
         team.setCaptainId(request.newCaptainId());
         teamRepository.save(team);
         log.info("Transferred captain role in team {} from {} to {}", id, currentUserId, request.newCaptainId());
+        eventPublisher.publishEvent(new EntityChangedEvent(EntityChangedEvent.EntityType.TEAM, id));
     }
 
     @Override
@@ -295,30 +241,7 @@ public class TeamServiceImpl implements TeamService {
         team.setStatus(Team.TeamStatus.DISBANDED);
         teamRepository.save(team);
         log.info("Team {} disbanded by captain {}", id, currentUserId);
-    }
-
-    private TeamResponse mapToResponse(Team team, int memberCount) {
-        User captain = userRepository.findById(team.getCaptainId())
-            .orElseThrow(() -> new NoSuchElementException(USER_NOT_FOUND));
-
-        return new TeamResponse(
-            team.getId(),
-            team.getName(),
-            team.getDescription(),
-            team.getLogoUrl(),
-            new TeamResponse.CaptainSummary(
-                captain.getId(),
-                captain.getFirstName(),
-                captain.getLastName(),
-                captain.getProfilePictureUrl()
-            ),
-            team.getRosterSize(),
-            memberCount,
-            team.getRosterSize() - memberCount,
-            team.getStatus().name(),
-            team.getCreatedAt(),
-            team.getUpdatedAt()
-        );
+        eventPublisher.publishEvent(new EntityChangedEvent(EntityChangedEvent.EntityType.TEAM, id));
     }
 
     private UUID getCurrentUserId() {
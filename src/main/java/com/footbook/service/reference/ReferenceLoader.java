@@ -0,0 +1,222 @@
+package com.footbook.service.reference;
+
+import com.footbook.domain.Branch;
+import com.footbook.domain.Team;
+import com.footbook.domain.User;
+import com.footbook.dto.response.branch.BranchResponse;
+import com.footbook.event.EntityChangedEvent;
+import com.footbook.repository.BranchRepository;
+import com.footbook.repository.TeamRepository;
+import com.footbook.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Loads the branches, users and teams that responses refer to, in batches cached for the HTTP request.
+ * <p>
+ * Callers register every reference a set of responses needs on a {@link Batch} and load them
+ * together. Each kind is read with at most one query, for the IDs no earlier batch of the same
+ * request has read, so responses built in several steps of one request share their lookups.
+ * IDs that do not exist are remembered too. References are immutable summaries rather than
+ * entities, so sharing them between responses is safe.
+ * <p>
+ * An {@link EntityChangedEvent} drops the entity from the request's cache as it is published,
+ * so a response built after a write sees the written state. Outside an HTTP request, such as in
+ * scheduled jobs, every batch starts with an empty cache.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceLoader {
+    private static final String CACHE_ATTRIBUTE = ReferenceLoader.class.getName() + ".cache";
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final BranchRepository branchRepository;
+    private final UserRepository userRepository;
+    private final TeamRepository teamRepository;
+
+    /**
+     * References read so far, with a null value for IDs found not to exist.
+     */
+    private static final class Cache {
+        private final Map<UUID, BranchResponse> branches = new HashMap<>();
+        private final Map<UUID, UserSummary> users = new HashMap<>();
+        private final Map<UUID, TeamSummary> teams = new HashMap<>();
+    }
+
+    /**
+     * References to load together. Null IDs are ignored, so optional references can be registered as they are.
+     */
+    public final class Batch {
+        private final Set<UUID> branchIds = new HashSet<>();
+        private final Set<UUID> userIds = new HashSet<>();
+        private final Set<UUID> teamIds = new HashSet<>();
+
+        private Batch() {
+        }
+
+        public Batch branch(UUID id) {
+            add(branchIds, id);
+            return this;
+        }
+
+        public Batch branches(Collection<UUID> ids) {
+            ids.forEach(id -> add(branchIds, id));
+            return this;
+        }
+
+        public Batch user(UUID id) {
+            add(userIds, id);
+            return this;
+        }
+
+        public Batch users(Collection<UUID> ids) {
+            ids.forEach(id -> add(userIds, id));
+            return this;
+        }
+
+        public Batch team(UUID id) {
+            add(teamIds, id);
+            return this;
+        }
+
+        public Batch teams(Collection<UUID> ids) {
+            ids.forEach(id -> add(teamIds, id));
+            return this;
+        }
+
+        public References load() {
+            Cache cache = currentCache();
+            synchronized (cache) {
+                fill(cache.branches, branchIds, branchRepository::findAllById, Branch::getId, ReferenceLoader::toBranchResponse);
+                fill(cache.users, userIds, userRepository::findAllById, User::getId, ReferenceLoader::toUserSummary);
+                fill(cache.teams, teamIds, teamRepository::findAllById, Team::getId, ReferenceLoader::toTeamSummary);
+                return new References(pick(cache.branches, branchIds), pick(cache.users, userIds), pick(cache.teams, teamIds));
+            }
+        }
+
+        private static void add(Set<UUID> ids, UUID id) {
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+    }
+
+    public Batch batch() {
+        return new Batch();
+    }
+
+    public BranchResponse branch(UUID id) {
+        return batch().branch(id).load().branch(id);
+    }
+
+    public UserSummary user(UUID id) {
+        return batch().user(id).load().user(id);
+    }
+
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Cache cache = attributes != null
+            ? (Cache) attributes.getAttribute(CACHE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+            : null;
+        if (cache == null) {
+            return;
+        }
+        synchronized (cache) {
+            switch (event.entityType()) {
+                case BRANCH -> cache.branches.remove(event.entityId());
+                case USER -> cache.users.remove(event.entityId());
+                case TEAM -> cache.teams.remove(event.entityId());
+                default -> {
+                }
+            }
+        }
+    }
+
+    public static BranchResponse toBranchResponse(Branch branch) {
+        return new BranchResponse(
+            branch.getId(),
+            branch.getName(),
+            branch.getAddress(),
+            branch.getGoogleMapsUrl(),
+            branch.getOperatingHoursStart().format(TIME_FORMATTER),
+            branch.getOperatingHoursEnd().format(TIME_FORMATTER),
+            branch.getContactPhone(),
+            branch.getContactEmail(),
+            branch.getLatitude(),
+            branch.getLongitude(),
+            branch.getIsActive(),
+            branch.getCreatedAt(),
+            branch.getUpdatedAt()
+        );
+    }
+
+    public static UserSummary toUserSummary(User user) {
+        return new UserSummary(
+            user.getId(),
+            user.getFirstName(),
+            user.getLastName(),
+            user.getEmail(),
+            user.getProfilePictureUrl()
+        );
+    }
+
+    public static TeamSummary toTeamSummary(Team team) {
+        return new TeamSummary(
+            team.getId(),
+            team.getName(),
+            team.getLogoUrl(),
+            team.getCaptainId(),
+            team.getRosterSize(),
+            team.getMemberCount(),
+            team.getStatus()
+        );
+    }
+
+    private Cache currentCache() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new Cache();
+        }
+        Cache cache = (Cache) attributes.getAttribute(CACHE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cache == null) {
+            cache = new Cache();
+            attributes.setAttribute(CACHE_ATTRIBUTE, cache, RequestAttributes.SCOPE_REQUEST);
+        }
+        return cache;
+    }
+
+    /**
+     * Reads the IDs not cached yet with one query and caches the result, including the IDs not found.
+     */
+    private static <E, T> void fill(Map<UUID, T> cache, Set<UUID> ids, Function<Set<UUID>, List<E>> loader,
+                                    Function<E, UUID> idOf, Function<E, T> toReference) {
+        Set<UUID> missing = new HashSet<>(ids);
+        missing.removeAll(cache.keySet());
+        if (missing.isEmpty()) {
+            return;
+        }
+        for (E entity : loader.apply(missing)) {
+            cache.put(idOf.apply(entity), toReference.apply(entity));
+        }
+        missing.forEach(id -> cache.putIfAbsent(id, null));
+    }
+
+    private static <T> Map<UUID, T> pick(Map<UUID, T> cache, Set<UUID> ids) {
+        Map<UUID, T> picked = new HashMap<>(ids.size() * 2);
+        for (UUID id : ids) {
+            T reference = cache.get(id);
+            if (reference != null) {
+                picked.put(id, reference);
+            }
+        }
+        return Collections.unmodifiableMap(picked);
+    }
+}
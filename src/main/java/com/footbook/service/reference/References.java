@@ -0,0 +1,52 @@
+package com.footbook.service.reference;
+
+import com.footbook.dto.response.branch.BranchResponse;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static com.footbook.util.ErrorMessages.*;
+
+/**
+ * The references loaded by one {@link ReferenceLoader.Batch}. Never modified once loaded.
+ */
+public final class References {
+    private final Map<UUID, BranchResponse> branches;
+    private final Map<UUID, UserSummary> users;
+    private final Map<UUID, TeamSummary> teams;
+
+    References(Map<UUID, BranchResponse> branches, Map<UUID, UserSummary> users, Map<UUID, TeamSummary> teams) {
+        this.branches = branches;
+        this.users = users;
+        this.teams = teams;
+    }
+
+    /**
+     * @throws NoSuchElementException if the branch was not registered or does not exist
+     */
+    public BranchResponse branch(UUID id) {
+        return require(branches.get(id), BRANCH_NOT_FOUND, id);
+    }
+
+    /**
+     * @throws NoSuchElementException if the user was not registered or does not exist
+     */
+    public UserSummary user(UUID id) {
+        return require(users.get(id), USER_NOT_FOUND, id);
+    }
+
+    /**
+     * @throws NoSuchElementException if the team was not registered or does not exist
+     */
+    public TeamSummary team(UUID id) {
+        return require(teams.get(id), TEAM_NOT_FOUND, id);
+    }
+
+    private static <T> T require(T reference, String message, UUID id) {
+        if (reference == null) {
+            throw new NoSuchElementException(message + " with ID: " + id);
+        }
+        return reference;
+    }
+}
@@ -0,0 +1,19 @@
+package com.footbook.service.reference;
+
+import com.footbook.domain.Team;
+
+import java.util.UUID;
+
+/**
+ * The fields of a team that responses show when referring to it.
+ */
+public record TeamSummary(
+    UUID id,
+    String name,
+    String logoUrl,
+    UUID captainId,
+    Integer rosterSize,
+    Integer memberCount,
+    Team.TeamStatus status
+) {
+}
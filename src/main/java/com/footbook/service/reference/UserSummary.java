@@ -0,0 +1,15 @@
+package com.footbook.service.reference;
+
+import java.util.UUID;
+
+/**
+ * The fields of a user that responses show when referring to them.
+ */
+public record UserSummary(
+    UUID id,
+    String firstName,
+    String lastName,
+    String email,
+    String profilePictureUrl
+) {
+}
@@ -0,0 +1,54 @@
+package com.footbook.service.search;
+
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Reads a whole table in fixed-size batches ordered by ID, for building in-memory indexes without
+ * holding every entity at once. Each batch continues after the last ID of the previous one, so it
+ * is a primary key range read however far into the table it is.
+ */
+public final class BatchLoader {
+    private static final int BATCH_SIZE = 1000;
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private BatchLoader() {
+    }
+
+    /**
+     * @param loader   reads up to {@code limit} entities with an ID greater than the given one, ordered by ID
+     * @param idOf     extracts the ID the next batch continues after
+     * @param consumer called with each batch in turn
+     */
+    public static <T> void forEachBatch(BiFunction<UUID, Limit, List<T>> loader, Function<T, UUID> idOf,
+                                        Consumer<List<T>> consumer) {
+        forEachBatch(loader, idOf, consumer, () -> false);
+    }
+
+    /**
+     * Same as {@link #forEachBatch(BiFunction, Function, Consumer)}, stopping before the next batch
+     * once {@code stop} returns true.
+     */
+    public static <T> void forEachBatch(BiFunction<UUID, Limit, List<T>> loader, Function<T, UUID> idOf,
+                                        Consumer<List<T>> consumer, BooleanSupplier stop) {
+        UUID afterId = FIRST_ID;
+        List<T> batch;
+        do {
+            if (stop.getAsBoolean()) {
+                return;
+            }
+            batch = loader.apply(afterId, Limit.of(BATCH_SIZE));
+            if (batch.isEmpty()) {
+                return;
+            }
+            consumer.accept(batch);
+            afterId = idOf.apply(batch.get(batch.size() - 1));
+        } while (batch.size() == BATCH_SIZE);
+    }
+}
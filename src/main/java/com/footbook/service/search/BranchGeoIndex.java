@@ -0,0 +1,122 @@
+package com.footbook.service.search;
+
+import java.util.*;
+
+/**
+ * Immutable spatial index of branch locations for "near me" queries.
+ * <p>
+ * Locations are bucketed into a grid of {@value #CELL_DEGREES}-degree cells. A radius query only
+ * visits the cells overlapping the circle's bounding box, measures the great-circle distance to
+ * the branches in them and keeps those inside the radius, so its cost follows the number of
+ * branches nearby rather than the number of branches overall. Longitude wraps around the
+ * antimeridian; near the poles the bounding box widens to every longitude.
+ * <p>
+ * Instances are never modified; callers build a new index and swap the reference.
+ */
+public final class BranchGeoIndex {
+    private static final double CELL_DEGREES = 0.1;
+    private static final int LAT_CELLS = (int) Math.round(180 / CELL_DEGREES);
+    private static final int LNG_CELLS = (int) Math.round(360 / CELL_DEGREES);
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    private final Map<Long, Entry[]> cells;
+    private final int size;
+
+    public record Entry(UUID id, double latitude, double longitude) {
+    }
+
+    public record Match(UUID id, double distanceKm) {
+    }
+
+    private BranchGeoIndex(Map<Long, Entry[]> cells, int size) {
+        this.cells = cells;
+        this.size = size;
+    }
+
+    public static BranchGeoIndex build(Collection<Entry> source) {
+        Map<Long, List<Entry>> grouped = new HashMap<>();
+        for (Entry entry : source) {
+            grouped.computeIfAbsent(cellOf(latCell(entry.latitude()), lngCell(entry.longitude())), cell -> new ArrayList<>())
+                .add(entry);
+        }
+        Map<Long, Entry[]> cells = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((cell, entries) -> cells.put(cell, entries.toArray(Entry[]::new)));
+        return new BranchGeoIndex(cells, source.size());
+    }
+
+    /**
+     * Returns the branches within the radius of the point.
+     *
+     * @return matches, nearest first
+     */
+    public List<Match> nearby(double latitude, double longitude, double radiusKm) {
+        List<Match> matches = new ArrayList<>();
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        int fromLat = latCell(Math.max(-90, latitude - latDelta));
+        int toLat = latCell(Math.min(90, latitude + latDelta));
+
+        // The box is widest at the latitude closest to a pole
+        double widestLat = Math.min(90, Math.max(Math.abs(latitude - latDelta), Math.abs(latitude + latDelta)));
+        double lngDelta = widestLat >= 90 ? 360 : radiusKm / (KM_PER_DEGREE * Math.cos(Math.toRadians(widestLat)));
+        // Unwrapped cell numbers, so a box crossing the antimeridian still has from <= to
+        int fromLng = (int) Math.floor((longitude - lngDelta + 180) / CELL_DEGREES);
+        int toLng = (int) Math.floor((longitude + lngDelta + 180) / CELL_DEGREES);
+        int lngSpan = lngDelta >= 180 ? LNG_CELLS : Math.min(LNG_CELLS, toLng - fromLng + 1);
+
+        if ((long) (toLat - fromLat + 1) * lngSpan > cells.size()) {
+            // A box larger than the populated grid is cheaper to answer from the populated cells
+            for (Entry[] entries : cells.values()) {
+                collect(entries, latitude, longitude, radiusKm, matches);
+            }
+        } else {
+            for (int lat = fromLat; lat <= toLat; lat++) {
+                for (int i = 0; i < lngSpan; i++) {
+                    Entry[] entries = cells.get(cellOf(lat, Math.floorMod(fromLng + i, LNG_CELLS)));
+                    if (entries != null) {
+                        collect(entries, latitude, longitude, radiusKm, matches);
+                    }
+                }
+            }
+        }
+
+        matches.sort(Comparator.comparingDouble(Match::distanceKm).thenComparing(Match::id));
+        return matches;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Great-circle distance between two points by the haversine formula.
+     */
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static void collect(Entry[] entries, double latitude, double longitude, double radiusKm, List<Match> matches) {
+        for (Entry entry : entries) {
+            double distance = distanceKm(latitude, longitude, entry.latitude(), entry.longitude());
+            if (distance <= radiusKm) {
+                matches.add(new Match(entry.id(), distance));
+            }
+        }
+    }
+
+    private static int latCell(double latitude) {
+        return Math.min(LAT_CELLS - 1, (int) Math.floor((latitude + 90) / CELL_DEGREES));
+    }
+
+    private static int lngCell(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / CELL_DEGREES), LNG_CELLS);
+    }
+
+    private static long cellOf(int latCell, int lngCell) {
+        return (long) latCell * LNG_CELLS + lngCell;
+    }
+}
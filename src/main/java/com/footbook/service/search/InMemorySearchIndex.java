@@ -0,0 +1,513 @@
+package com.footbook.service.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-process inverted index with BM25 scoring.
+ * <p>
+ * Documents are interned to dense int ordinals and postings are kept as parallel primitive arrays
+ * (ordinal, term frequency) per term, so the index holds no boxed ids on the query path. Ordinals
+ * are only ever appended, which keeps every postings list sorted and lets membership checks use a
+ * binary search. Replaced or removed documents are tombstoned and reclaimed by a compaction once
+ * they make up a quarter of the index.
+ * <p>
+ * Queries are conjunctive: every token must match, and the last token also matches as a prefix so
+ * partially typed words still find results. A prefix is expanded to at most 64 terms; a prefix
+ * matching more is reported as incomplete rather than answered from an arbitrary subset. Writes beyond the memory budget are rejected and the
+ * index reports itself as over budget until it is cleared, since the rejected documents are missing
+ * from it however much memory is freed later.
+ */
+public final class InMemorySearchIndex {
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int MIN_DEAD_FOR_COMPACTION = 1024;
+
+    private static final long POSTING_BYTES = 8;
+    private static final long DOC_OVERHEAD_BYTES = 128;
+    private static final long TERM_OVERHEAD_BYTES = 96;
+    private static final long PAYLOAD_ESTIMATE_BYTES = 768;
+
+    private final long memoryBudgetBytes;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final TreeMap<String, Integer> dictionary = new TreeMap<>();
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final BitSet dead = new BitSet();
+
+    private String[] terms = new String[1024];
+    private Postings[] postings = new Postings[1024];
+    private int termCount;
+
+    private UUID[] docIds = new UUID[1024];
+    private DocType[] docTypes = new DocType[1024];
+    private Object[] payloads = new Object[1024];
+    private int[][] docTerms = new int[1024][];
+    private int[][] docFreqs = new int[1024][];
+    private int[] docLengths = new int[1024];
+    private int docCount;
+    private int liveDocs;
+    private long totalLength;
+    private long estimatedBytes;
+    private boolean overBudget;
+
+    public enum DocType {
+        BRANCH,
+        INDIVIDUAL_ROOM,
+        TEAM_ROOM,
+        TEAM
+    }
+
+    public InMemorySearchIndex(long memoryBudgetBytes) {
+        this.memoryBudgetBytes = memoryBudgetBytes;
+    }
+
+    /**
+     * Adds or replaces a document.
+     *
+     * @param id      entity ID
+     * @param type    document type
+     * @param payload object returned to callers when the document matches
+     * @param fields  searchable text, null fields are ignored
+     * @return false if the document was rejected because the memory budget is exhausted, in which
+     * case any previous version of it is kept
+     */
+    public boolean put(UUID id, DocType type, Object payload, String... fields) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+        for (String field : fields) {
+            for (String token : tokenize(field)) {
+                frequencies.merge(token, 1, Integer::sum);
+                length++;
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            long cost = DOC_OVERHEAD_BYTES + PAYLOAD_ESTIMATE_BYTES + frequencies.size() * POSTING_BYTES * 2;
+            for (String term : frequencies.keySet()) {
+                if (!dictionary.containsKey(term)) {
+                    cost += TERM_OVERHEAD_BYTES + term.length() * 2L;
+                }
+            }
+            Integer previous = ordinals.get(id);
+            long freed = previous != null ? documentBytes(previous) : 0;
+            if (estimatedBytes - freed + cost > memoryBudgetBytes) {
+                overBudget = true;
+                return false;
+            }
+
+            // Only replace the previous version once the new one is known to fit
+            removeInternal(id);
+
+            int[] termIds = new int[frequencies.size()];
+            int[] freqs = new int[frequencies.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                termIds[i] = internTerm(entry.getKey());
+                freqs[i] = entry.getValue();
+                i++;
+            }
+
+            appendDocument(id, type, payload, termIds, freqs, length);
+            estimatedBytes += cost;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            dictionary.clear();
+            ordinals.clear();
+            dead.clear();
+            terms = new String[1024];
+            postings = new Postings[1024];
+            termCount = 0;
+            docIds = new UUID[1024];
+            docTypes = new DocType[1024];
+            payloads = new Object[1024];
+            docTerms = new int[1024][];
+            docFreqs = new int[1024][];
+            docLengths = new int[1024];
+            docCount = 0;
+            liveDocs = 0;
+            totalLength = 0;
+            estimatedBytes = 0;
+            overBudget = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the best matching documents of each requested type, ordered by score descending and
+     * then by ID, starting strictly after the given (score, id) keyset.
+     *
+     * @param query      free text query
+     * @param types      document types to collect
+     * @param limit      maximum number of results per type
+     * @param afterScore score of the last result already returned, or {@link Float#POSITIVE_INFINITY}
+     * @param afterId    ID of the last result already returned; only compared on equal scores
+     * @return hits per type, best match first, or an incomplete result if the last token is a
+     * prefix of more terms than are expanded
+     */
+    public Result search(String query, Set<DocType> types, int limit, float afterScore, UUID afterId) {
+        Map<DocType, List<Hit>> results = new EnumMap<>(DocType.class);
+        types.forEach(type -> results.put(type, new ArrayList<>()));
+
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty() || types.isEmpty() || limit <= 0) {
+            return new Result(results, true);
+        }
+
+        lock.readLock().lock();
+        try {
+            int[][] groups = new int[tokens.size()][];
+            int smallestGroup = 0;
+            long smallestSize = Long.MAX_VALUE;
+            for (int i = 0; i < tokens.size(); i++) {
+                groups[i] = i == tokens.size() - 1 ? expandPrefix(tokens.get(i)) : exactTerm(tokens.get(i));
+                if (groups[i] == null) {
+                    return new Result(results, false);
+                }
+                if (groups[i].length == 0) {
+                    return new Result(results, true);
+                }
+                long size = 0;
+                for (int termId : groups[i]) {
+                    size += postings[termId].size;
+                }
+                if (size < smallestSize) {
+                    smallestSize = size;
+                    smallestGroup = i;
+                }
+            }
+
+            float averageLength = liveDocs == 0 ? 1f : Math.max(1f, (float) totalLength / liveDocs);
+            Map<DocType, PriorityQueue<ScoredDoc>> heaps = new EnumMap<>(DocType.class);
+            types.forEach(type -> heaps.put(type, new PriorityQueue<>(ScoredDoc.WORST_FIRST)));
+
+            for (int ordinal : candidates(groups[smallestGroup])) {
+                if (dead.get(ordinal)) {
+                    continue;
+                }
+                PriorityQueue<ScoredDoc> heap = heaps.get(docTypes[ordinal]);
+                if (heap == null) {
+                    continue;
+                }
+
+                float score = score(ordinal, groups, averageLength);
+                if (Float.isNaN(score) || score > afterScore
+                    || (score == afterScore && docIds[ordinal].compareTo(afterId) <= 0)) {
+                    continue;
+                }
+                heap.offer(new ScoredDoc(ordinal, docIds[ordinal], score));
+                if (heap.size() > limit) {
+                    heap.poll();
+                }
+            }
+
+            heaps.forEach((type, heap) -> {
+                List<ScoredDoc> ranked = new ArrayList<>(heap);
+                ranked.sort(ScoredDoc.WORST_FIRST.reversed());
+                List<Hit> hitsOfType = results.get(type);
+                ranked.forEach(doc -> hitsOfType.add(new Hit(doc.id(), doc.score(), payloads[doc.ordinal()])));
+            });
+            return new Result(results, true);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return estimatedBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isOverBudget() {
+        lock.readLock().lock();
+        try {
+            return overBudget;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return TOKEN_SEPARATOR.splitAsStream(text.toLowerCase())
+            .filter(token -> !token.isEmpty())
+            .toList();
+    }
+
+    /**
+     * Sums BM25 over all matching terms, or returns NaN if some query token has no match in the document.
+     */
+    private float score(int ordinal, int[][] groups, float averageLength) {
+        float lengthNorm = K1 * (1 - B + B * docLengths[ordinal] / averageLength);
+        float score = 0;
+        for (int[] group : groups) {
+            boolean matched = false;
+            for (int termId : group) {
+                Postings termPostings = postings[termId];
+                int index = termPostings.indexOf(ordinal);
+                if (index >= 0) {
+                    int tf = termPostings.freqs[index];
+                    score += idf(termPostings.size) * (tf * (K1 + 1)) / (tf + lengthNorm);
+                    matched = true;
+                }
+            }
+            if (!matched) {
+                return Float.NaN;
+            }
+        }
+        return score;
+    }
+
+    // Document frequency counts tombstoned entries until the next compaction; that only skews
+    // idf slightly and keeps updates O(terms in document).
+    private float idf(int documentFrequency) {
+        return (float) Math.log(1 + (liveDocs - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private int[] candidates(int[] group) {
+        if (group.length == 1) {
+            Postings single = postings[group[0]];
+            return Arrays.copyOf(single.docs, single.size);
+        }
+
+        int total = 0;
+        for (int termId : group) {
+            total += postings[termId].size;
+        }
+        int[] merged = new int[total];
+        int offset = 0;
+        for (int termId : group) {
+            Postings termPostings = postings[termId];
+            System.arraycopy(termPostings.docs, 0, merged, offset, termPostings.size);
+            offset += termPostings.size;
+        }
+        Arrays.sort(merged);
+
+        int unique = 0;
+        for (int i = 0; i < merged.length; i++) {
+            if (i == 0 || merged[i] != merged[i - 1]) {
+                merged[unique++] = merged[i];
+            }
+        }
+        return Arrays.copyOf(merged, unique);
+    }
+
+    private int[] exactTerm(String token) {
+        Integer termId = dictionary.get(token);
+        return termId == null || postings[termId].size == 0 ? new int[0] : new int[]{termId};
+    }
+
+    /**
+     * @return the live terms starting with the prefix, or null if there are more than can be expanded
+     */
+    private int[] expandPrefix(String prefix) {
+        int[] expansion = new int[MAX_PREFIX_EXPANSIONS];
+        int count = 0;
+        for (Integer termId : dictionary.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+            if (postings[termId].size == 0) {
+                continue;
+            }
+            if (count == MAX_PREFIX_EXPANSIONS) {
+                return null;
+            }
+            expansion[count++] = termId;
+        }
+        return Arrays.copyOf(expansion, count);
+    }
+
+    private int internTerm(String term) {
+        Integer existing = dictionary.get(term);
+        if (existing != null) {
+            return existing;
+        }
+        if (termCount == terms.length) {
+            terms = Arrays.copyOf(terms, termCount * 2);
+            postings = Arrays.copyOf(postings, termCount * 2);
+        }
+        int termId = termCount++;
+        terms[termId] = term;
+        postings[termId] = new Postings();
+        dictionary.put(term, termId);
+        return termId;
+    }
+
+    private void appendDocument(UUID id, DocType type, Object payload, int[] termIds, int[] freqs, int length) {
+        if (docCount == docIds.length) {
+            int capacity = docCount * 2;
+            docIds = Arrays.copyOf(docIds, capacity);
+            docTypes = Arrays.copyOf(docTypes, capacity);
+            payloads = Arrays.copyOf(payloads, capacity);
+            docTerms = Arrays.copyOf(docTerms, capacity);
+            docFreqs = Arrays.copyOf(docFreqs, capacity);
+            docLengths = Arrays.copyOf(docLengths, capacity);
+        }
+
+        int ordinal = docCount++;
+        docIds[ordinal] = id;
+        docTypes[ordinal] = type;
+        payloads[ordinal] = payload;
+        docTerms[ordinal] = termIds;
+        docFreqs[ordinal] = freqs;
+        docLengths[ordinal] = length;
+        for (int i = 0; i < termIds.length; i++) {
+            postings[termIds[i]].add(ordinal, freqs[i]);
+        }
+
+        ordinals.put(id, ordinal);
+        liveDocs++;
+        totalLength += length;
+    }
+
+    private void removeInternal(UUID id) {
+        Integer ordinal = ordinals.remove(id);
+        if (ordinal == null) {
+            return;
+        }
+
+        dead.set(ordinal);
+        liveDocs--;
+        totalLength -= docLengths[ordinal];
+        estimatedBytes -= documentBytes(ordinal);
+        payloads[ordinal] = null;
+
+        int deadDocs = docCount - liveDocs;
+        if (deadDocs >= MIN_DEAD_FOR_COMPACTION && deadDocs > liveDocs / 4) {
+            compact();
+        }
+    }
+
+    /**
+     * Estimated size of a document, not counting the terms it shares with other documents.
+     */
+    private long documentBytes(int ordinal) {
+        return DOC_OVERHEAD_BYTES + PAYLOAD_ESTIMATE_BYTES + docTerms[ordinal].length * POSTING_BYTES * 2;
+    }
+
+    /**
+     * Rebuilds postings from the forward index of live documents, dropping tombstones and terms
+     * that no longer occur. Ordinals are reassigned in their original order, so postings stay sorted.
+     */
+    private void compact() {
+        String[] oldTerms = terms;
+        UUID[] oldDocIds = docIds;
+        DocType[] oldDocTypes = docTypes;
+        Object[] oldPayloads = payloads;
+        int[][] oldDocTerms = docTerms;
+        int[][] oldDocFreqs = docFreqs;
+        int[] oldDocLengths = docLengths;
+        int oldDocCount = docCount;
+        BitSet oldDead = (BitSet) dead.clone();
+
+        dictionary.clear();
+        ordinals.clear();
+        dead.clear();
+        terms = new String[Math.max(1024, termCount)];
+        postings = new Postings[terms.length];
+        termCount = 0;
+        int capacity = Math.max(1024, liveDocs * 2);
+        docIds = new UUID[capacity];
+        docTypes = new DocType[capacity];
+        payloads = new Object[capacity];
+        docTerms = new int[capacity][];
+        docFreqs = new int[capacity][];
+        docLengths = new int[capacity];
+        docCount = 0;
+        liveDocs = 0;
+        totalLength = 0;
+        estimatedBytes = 0;
+
+        for (int ordinal = 0; ordinal < oldDocCount; ordinal++) {
+            if (oldDead.get(ordinal)) {
+                continue;
+            }
+            int[] oldTermIds = oldDocTerms[ordinal];
+            int[] termIds = new int[oldTermIds.length];
+            for (int i = 0; i < oldTermIds.length; i++) {
+                String term = oldTerms[oldTermIds[i]];
+                if (!dictionary.containsKey(term)) {
+                    estimatedBytes += TERM_OVERHEAD_BYTES + term.length() * 2L;
+                }
+                termIds[i] = internTerm(term);
+            }
+            appendDocument(oldDocIds[ordinal], oldDocTypes[ordinal], oldPayloads[ordinal],
+                termIds, oldDocFreqs[ordinal], oldDocLengths[ordinal]);
+            estimatedBytes += DOC_OVERHEAD_BYTES + PAYLOAD_ESTIMATE_BYTES + termIds.length * POSTING_BYTES * 2;
+        }
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+
+        private void add(int ordinal, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = ordinal;
+            freqs[size] = freq;
+            size++;
+        }
+
+        private int indexOf(int ordinal) {
+            return Arrays.binarySearch(docs, 0, size, ordinal);
+        }
+    }
+
+    /**
+     * Hits of a search per document type.
+     *
+     * @param complete false if the query could not be fully answered from the index
+     */
+    public record Result(Map<DocType, List<Hit>> hits, boolean complete) {
+    }
+
+    /**
+     * A matched document with the score it was ranked by.
+     */
+    public record Hit(UUID id, float score, Object payload) {
+    }
+
+    private record ScoredDoc(int ordinal, UUID id, float score) {
+        private static final Comparator<ScoredDoc> WORST_FIRST = Comparator
+            .comparingDouble(ScoredDoc::score)
+            .thenComparing(ScoredDoc::id, Comparator.reverseOrder());
+    }
+}
@@ -0,0 +1,163 @@
+package com.footbook.service.search;
+
+import com.footbook.config.search.SearchProperties;
+import com.footbook.domain.Branch;
+import com.footbook.event.EntityChangedEvent;
+import com.footbook.repository.BranchRepository;
+import com.footbook.service.search.BranchGeoIndex.Entry;
+import com.footbook.service.search.BranchGeoIndex.Match;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static com.footbook.util.ErrorMessages.*;
+
+/**
+ * Answers "near me" lookups from a {@link BranchGeoIndex} over the active branches that have a location.
+ * <p>
+ * Branches are loaded once the application is ready and patched from {@link EntityChangedEvent}s
+ * after commit. Branch writes are rare, so each patch rebuilds and swaps the index at once.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NearbyBranchLocator {
+    private final BranchRepository branchRepository;
+    private final SearchProperties searchProperties;
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private volatile BranchGeoIndex index = BranchGeoIndex.build(List.of());
+
+    public record Location(double latitude, double longitude) {
+    }
+
+    /**
+     * Time range of a nearby room lookup, from {@code from} inclusive to {@code to} exclusive.
+     */
+    public record Window(LocalDateTime from, LocalDateTime to) {
+    }
+
+    /**
+     * @param radiusKm search radius, or null for the largest one allowed
+     * @return active branches within the radius, nearest first
+     * @throws IllegalArgumentException if the location or radius is out of range
+     */
+    public List<Match> findNearby(Location location, Double radiusKm) {
+        double radius = radiusKm != null ? radiusKm : searchProperties.getNearbyMaxRadiusKm();
+        if (!(radius > 0) || radius > searchProperties.getNearbyMaxRadiusKm()) {
+            throw new IllegalArgumentException(INVALID_RADIUS);
+        }
+        return index.nearby(location.latitude(), location.longitude(), radius);
+    }
+
+    /**
+     * Parses a {@code latitude,longitude} pair such as {@code 40.4093,49.8671}.
+     *
+     * @throws IllegalArgumentException if the text is not a valid location
+     */
+    public Location parseLocation(String near) {
+        String[] parts = near.split(",");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException(INVALID_LOCATION);
+        }
+        try {
+            return toLocation(Double.parseDouble(parts[0].trim()), Double.parseDouble(parts[1].trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(INVALID_LOCATION);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the coordinates are out of range
+     */
+    public Location toLocation(double latitude, double longitude) {
+        if (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            throw new IllegalArgumentException(INVALID_LOCATION);
+        }
+        return new Location(latitude, longitude);
+    }
+
+    /**
+     * Resolves the dates of a nearby room lookup into a time range that never starts in the past.
+     * A missing start date means today, and a missing end date means {@code app.search.nearby-window-days} later.
+     *
+     * @throws IllegalArgumentException if the range is longer than {@code app.search.nearby-window-days}
+     */
+    public Window window(LocalDate startDate, LocalDate endDate) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate start = startDate != null && startDate.isAfter(now.toLocalDate()) ? startDate : now.toLocalDate();
+        LocalDate end = endDate != null ? endDate : start.plusDays(searchProperties.getNearbyWindowDays() - 1);
+        if (end.isAfter(start.plusDays(searchProperties.getNearbyWindowDays() - 1))) {
+            throw new IllegalArgumentException(NEARBY_WINDOW_TOO_LONG);
+        }
+        LocalDateTime from = start.atStartOfDay().isAfter(now) ? start.atStartOfDay() : now;
+        return new Window(from, end.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * Pages rooms of nearby branches by distance, nearest branch first.
+     *
+     * @param matches branches the rooms belong to, nearest first, as returned by {@link #findNearby}
+     * @param rooms   rooms ordered by start time, which is kept among the rooms of one branch
+     */
+    public <T> Page<T> pageByDistance(List<Match> matches, List<T> rooms, Function<T, UUID> branchOf, Pageable pageable) {
+        Map<UUID, Integer> rank = new HashMap<>();
+        for (int i = 0; i < matches.size(); i++) {
+            rank.put(matches.get(i).id(), i);
+        }
+        List<T> sorted = new ArrayList<>(rooms);
+        sorted.sort(Comparator.comparingInt(room -> rank.getOrDefault(branchOf.apply(room), Integer.MAX_VALUE)));
+
+        int from = (int) Math.min(pageable.getOffset(), sorted.size());
+        int to = Math.min(from + pageable.getPageSize(), sorted.size());
+        return new PageImpl<>(sorted.subList(from, to), pageable, sorted.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadBranches() {
+        branchRepository.findByIsActiveTrueAndLatitudeIsNotNullAndLongitudeIsNotNull()
+            .forEach(branch -> entries.put(branch.getId(), toEntry(branch)));
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.entityType() != EntityChangedEvent.EntityType.BRANCH) {
+            return;
+        }
+        UUID id = event.entityId();
+        Optional<Entry> current = branchRepository.findByIdAndIsActiveTrue(id)
+            .filter(branch -> branch.getLatitude() != null && branch.getLongitude() != null)
+            .map(this::toEntry);
+
+        Entry previous = current.isPresent() ? entries.put(id, current.get()) : entries.remove(id);
+        if (!Objects.equals(previous, current.orElse(null))) {
+            rebuild();
+        }
+    }
+
+    private synchronized void rebuild() {
+        index = BranchGeoIndex.build(List.copyOf(entries.values()));
+        log.debug("Rebuilt branch geo index: {} branches", index.size());
+    }
+
+    private Entry toEntry(Branch branch) {
+        return new Entry(branch.getId(), branch.getLatitude().doubleValue(), branch.getLongitude().doubleValue());
+    }
+}
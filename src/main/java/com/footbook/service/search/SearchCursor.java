@@ -0,0 +1,40 @@
+package com.footbook.service.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import static com.footbook.util.ErrorMessages.INVALID_SEARCH_CURSOR;
+
+/**
+ * Opaque continuation token for one result type of a search.
+ * <p>
+ * Results are ordered by relevance, so the keyset is the (score, id) pair of the last result
+ * returned. The engine is recorded because scores produced by the database and by the in-memory
+ * index are not comparable.
+ */
+public record SearchCursor(String engine, String mode, String type, float score, UUID id) {
+    public static final String DATABASE = "database";
+    public static final String MEMORY = "memory";
+
+    public String encode() {
+        String raw = String.join("|", engine, mode, type, Float.toString(score), id.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the value was not produced by {@link #encode()}
+     */
+    public static SearchCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 5) {
+                throw new IllegalArgumentException(INVALID_SEARCH_CURSOR);
+            }
+            return new SearchCursor(parts[0], parts[1], parts[2], Float.parseFloat(parts[3]), UUID.fromString(parts[4]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(INVALID_SEARCH_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.footbook.service.search;
+
+import com.footbook.dto.response.search.SearchResponse;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded, expiring cache of global search responses.
+ * <p>
+ * Entries are evicted least recently used first once {@code maxEntries} is reached, and are
+ * dropped on read once older than the TTL. Each entry remembers every entity ID its response
+ * shows, so a write can evict exactly the entries that display the changed entity, plus those
+ * whose query could now match it (see {@link #invalidate}).
+ * <p>
+ * A response computed while an invalidation happened is not stored, since it may predate the
+ * write; {@link #generation()} is read before searching and passed back to {@link #put}.
+ */
+public final class SearchResultCache {
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LinkedHashMap<Key, Entry> entries;
+
+    private long generation;
+    private long hits;
+    private long misses;
+    private long sizeEvictions;
+    private long expiredEvictions;
+    private long invalidatedEvictions;
+
+    public record Key(String query, String type, String mode, String cursor, int size) {
+    }
+
+    private record Entry(SearchResponse response, Set<UUID> entityIds, long expiresAt) {
+    }
+
+    public SearchResultCache(int maxEntries, Duration ttl) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > SearchResultCache.this.maxEntries) {
+                    sizeEvictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized SearchResponse get(Key key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (entry.expiresAt() - System.nanoTime() <= 0) {
+            entries.remove(key);
+            expiredEvictions++;
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.response();
+    }
+
+    /**
+     * Stores a response unless an invalidation happened since {@code generationAtStart}.
+     */
+    public synchronized void put(Key key, SearchResponse response, long generationAtStart) {
+        if (generationAtStart != generation) {
+            return;
+        }
+        entries.put(key, new Entry(response, entityIds(response), System.nanoTime() + ttlNanos));
+    }
+
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Evicts entries affected by a change to one entity.
+     *
+     * @param entityId      changed entity; entries showing it are always evicted
+     * @param affectedTypes result types the entity's text is searched under
+     * @param text          the entity's current searchable text, or null if it is no longer searchable;
+     *                      full-text entries of an affected type are evicted when every query token occurs in it,
+     *                      fuzzy entries of an affected type are always evicted
+     */
+    public synchronized void invalidate(UUID entityId, Set<String> affectedTypes, String text) {
+        generation++;
+        String normalizedText = text != null ? normalizeQuery(text) : null;
+
+        Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, Entry> cached = iterator.next();
+            Key key = cached.getKey();
+            boolean affected = cached.getValue().entityIds().contains(entityId)
+                || (normalizedText != null && searchesAny(key, affectedTypes) && couldMatch(key, normalizedText));
+            if (affected) {
+                iterator.remove();
+                invalidatedEvictions++;
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long hits() {
+        return hits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+
+    public synchronized long sizeEvictions() {
+        return sizeEvictions;
+    }
+
+    public synchronized long expiredEvictions() {
+        return expiredEvictions;
+    }
+
+    public synchronized long invalidatedEvictions() {
+        return invalidatedEvictions;
+    }
+
+    public synchronized double hitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    /**
+     * Case and punctuation do not change search results, so they are folded out of cache keys.
+     */
+    public static String normalizeQuery(String query) {
+        if (query == null) {
+            return "";
+        }
+        return TOKEN_SEPARATOR.matcher(query.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private static boolean searchesAny(Key key, Set<String> types) {
+        if (key.type() == null || key.type().isEmpty() || key.cursor() != null) {
+            return true;
+        }
+        if (key.type().equals("rooms")) {
+            return types.contains("individual_rooms") || types.contains("team_rooms");
+        }
+        return types.contains(key.type());
+    }
+
+    /**
+     * Conservative stand-in for the database match: a full-text query can only match the entity
+     * when each of its tokens appears somewhere in the entity's text.
+     */
+    private static boolean couldMatch(Key key, String normalizedText) {
+        if ("fuzzy".equals(key.mode())) {
+            return true;
+        }
+        for (String token : key.query().split(" ")) {
+            if (!normalizedText.contains(token)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<UUID> entityIds(SearchResponse response) {
+        Set<UUID> ids = new HashSet<>();
+        response.branches().forEach(branch -> ids.add(branch.id()));
+        response.individualRooms().forEach(room -> {
+            ids.add(room.id());
+            ids.add(room.branch().id());
+            ids.add(room.owner().id());
+        });
+        response.teamRooms().forEach(room -> {
+            ids.add(room.id());
+            ids.add(room.branch().id());
+            ids.add(room.creatorTeam().id());
+            if (room.opponentTeam() != null) {
+                ids.add(room.opponentTeam().id());
+            }
+        });
+        response.teams().forEach(team -> {
+            ids.add(team.id());
+            if (team.captain() != null) {
+                ids.add(team.captain().id());
+            }
+        });
+        return ids;
+    }
+}
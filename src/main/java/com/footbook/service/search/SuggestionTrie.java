@@ -0,0 +1,273 @@
+package com.footbook.service.search;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable prefix index over normalized names, used for search-box autocomplete.
+ * <p>
+ * Every name is indexed from its start and from the start of each later word, so "uni" finds
+ * "Manchester United". The trie is stored as flat arrays with the children of each node laid out
+ * contiguously and sorted by label, and every node carries its precomputed best suggestions. A
+ * lookup is therefore one binary search per prefix character plus a copy of at most
+ * {@code maxResults} entries, with no allocation proportional to the number of matches.
+ * <p>
+ * Instances are never modified; callers build a new trie and swap the reference.
+ */
+public final class SuggestionTrie {
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_KEY_LENGTH = 32;
+
+    /**
+     * Orders suggestions best first: shorter names, then alphabetically.
+     */
+    private static final Comparator<Entry> RANK = Comparator
+        .comparingInt((Entry entry) -> entry.name().length())
+        .thenComparing(Entry::name, String.CASE_INSENSITIVE_ORDER)
+        .thenComparing(Entry::id);
+
+    private final Entry[] entries;
+    private final String[] normalizedNames;
+    private final char[] labels;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] topStart;
+    private final int[] top;
+
+    public enum Kind {
+        BRANCH,
+        TEAM,
+        PLAYER
+    }
+
+    public record Entry(UUID id, Kind kind, String name) {
+    }
+
+    private SuggestionTrie(Entry[] entries, String[] normalizedNames, char[] labels, int[] firstChild,
+                           int[] childCount, int[] topStart, int[] top) {
+        this.entries = entries;
+        this.normalizedNames = normalizedNames;
+        this.labels = labels;
+        this.firstChild = firstChild;
+        this.childCount = childCount;
+        this.topStart = topStart;
+        this.top = top;
+    }
+
+    /**
+     * Builds a trie over the given entries.
+     *
+     * @param source     entries to index; names that normalize to nothing are skipped
+     * @param maxResults number of suggestions precomputed per prefix, the upper bound for {@link #suggest}
+     */
+    public static SuggestionTrie build(Collection<Entry> source, int maxResults) {
+        Entry[] entries = source.stream()
+            .filter(entry -> entry.name() != null && !normalize(entry.name()).isEmpty())
+            .sorted(RANK)
+            .toArray(Entry[]::new);
+        String[] normalizedNames = new String[entries.length];
+
+        List<Key> sortedKeys = new ArrayList<>();
+        for (int i = 0; i < entries.length; i++) {
+            normalizedNames[i] = normalize(entries[i].name());
+            for (String key : keysOf(normalizedNames[i])) {
+                sortedKeys.add(new Key(key, i));
+            }
+        }
+        sortedKeys.sort(null);
+
+        String[] keys = new String[sortedKeys.size()];
+        int[] keyEntry = new int[sortedKeys.size()];
+        int capacity = 1;
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = sortedKeys.get(i).text();
+            keyEntry[i] = sortedKeys.get(i).entry();
+            capacity += keys[i].length();
+        }
+
+        // Breadth-first layout: a node's children get consecutive IDs, all greater than the parent's
+        char[] labels = new char[capacity];
+        int[] firstChild = new int[capacity];
+        int[] childCount = new int[capacity];
+        int[] rangeStart = new int[capacity];
+        int[] rangeEnd = new int[capacity];
+        int[] terminalEnd = new int[capacity];
+        int[] depth = new int[capacity];
+        rangeEnd[0] = keys.length;
+        int nodeCount = 1;
+
+        for (int node = 0; node < nodeCount; node++) {
+            int d = depth[node];
+            int i = rangeStart[node];
+            int end = rangeEnd[node];
+            while (i < end && keys[i].length() == d) {
+                i++;
+            }
+            terminalEnd[node] = i;
+            firstChild[node] = nodeCount;
+            while (i < end) {
+                char label = keys[i].charAt(d);
+                int j = i + 1;
+                while (j < end && keys[j].charAt(d) == label) {
+                    j++;
+                }
+                int child = nodeCount++;
+                labels[child] = label;
+                rangeStart[child] = i;
+                rangeEnd[child] = j;
+                depth[child] = d + 1;
+                i = j;
+            }
+            childCount[node] = nodeCount - firstChild[node];
+        }
+
+        // Children have higher IDs than their parent, so a reverse pass sees them first
+        int[][] tops = new int[nodeCount][];
+        int topSize = 0;
+        for (int node = nodeCount - 1; node >= 0; node--) {
+            if (terminalEnd[node] == rangeStart[node] && childCount[node] == 1) {
+                // A chain node has exactly its only child's suggestions; share them
+                tops[node] = tops[firstChild[node]];
+                topSize += tops[node].length;
+                continue;
+            }
+            int[] candidates = new int[terminalEnd[node] - rangeStart[node] + childCount[node] * maxResults];
+            int size = 0;
+            for (int i = rangeStart[node]; i < terminalEnd[node]; i++) {
+                candidates[size++] = keyEntry[i];
+            }
+            for (int child = firstChild[node]; child < firstChild[node] + childCount[node]; child++) {
+                for (int entry : tops[child]) {
+                    candidates[size++] = entry;
+                }
+            }
+            tops[node] = best(candidates, size, maxResults);
+            topSize += tops[node].length;
+        }
+
+        int[] topStart = new int[nodeCount + 1];
+        int[] top = new int[topSize];
+        for (int node = 0; node < nodeCount; node++) {
+            System.arraycopy(tops[node], 0, top, topStart[node], tops[node].length);
+            topStart[node + 1] = topStart[node] + tops[node].length;
+        }
+
+        return new SuggestionTrie(
+            entries,
+            normalizedNames,
+            Arrays.copyOf(labels, nodeCount),
+            Arrays.copyOf(firstChild, nodeCount),
+            Arrays.copyOf(childCount, nodeCount),
+            topStart,
+            top
+        );
+    }
+
+    /**
+     * Returns the best entries whose name, or one of its words, starts with the prefix.
+     *
+     * @param prefix typed text; case, accents and punctuation are ignored
+     * @param limit  maximum number of suggestions, capped at the trie's {@code maxResults}
+     * @return suggestions, best first
+     */
+    public List<Entry> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        String key = normalized.length() > MAX_KEY_LENGTH ? normalized.substring(0, MAX_KEY_LENGTH) : normalized;
+        int node = 0;
+        for (int i = 0; i < key.length(); i++) {
+            node = child(node, key.charAt(i));
+            if (node < 0) {
+                return List.of();
+            }
+        }
+
+        List<Entry> suggestions = new ArrayList<>(Math.min(limit, topStart[node + 1] - topStart[node]));
+        for (int i = topStart[node]; i < topStart[node + 1] && suggestions.size() < limit; i++) {
+            int entry = top[i];
+            // Keys are truncated, so longer prefixes need to be confirmed against the full name
+            if (key.length() == normalized.length() || matchesWordStart(normalizedNames[entry], normalized)) {
+                suggestions.add(entries[entry]);
+            }
+        }
+        return suggestions;
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * Lower-cases the text, strips accents and collapses everything that is not a letter or
+     * digit into single spaces.
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String stripped = DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+        return SEPARATORS.matcher(stripped).replaceAll(" ").trim();
+    }
+
+    private record Key(String text, int entry) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key other) {
+            int byText = text.compareTo(other.text);
+            return byText != 0 ? byText : Integer.compare(entry, other.entry);
+        }
+    }
+
+    private int child(int node, char label) {
+        int low = firstChild[node];
+        int high = low + childCount[node] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (labels[mid] < label) {
+                low = mid + 1;
+            } else if (labels[mid] > label) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private static Set<String> keysOf(String normalizedName) {
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(truncate(normalizedName));
+        for (int i = normalizedName.indexOf(' '); i >= 0; i = normalizedName.indexOf(' ', i + 1)) {
+            keys.add(truncate(normalizedName.substring(i + 1)));
+        }
+        return keys;
+    }
+
+    private static String truncate(String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    private static boolean matchesWordStart(String normalizedName, String prefix) {
+        return normalizedName.startsWith(prefix) || normalizedName.contains(" " + prefix);
+    }
+
+    /**
+     * Entry indexes are assigned in rank order, so the best candidates are the smallest distinct ones.
+     */
+    private static int[] best(int[] candidates, int size, int limit) {
+        Arrays.sort(candidates, 0, size);
+        int[] best = new int[Math.min(size, limit)];
+        int count = 0;
+        for (int i = 0; i < size && count < limit; i++) {
+            if (count == 0 || best[count - 1] != candidates[i]) {
+                best[count++] = candidates[i];
+            }
+        }
+        return count == best.length ? best : Arrays.copyOf(best, count);
+    }
+}
@@ -0,0 +1,69 @@
+package com.footbook.util;
+
+import com.footbook.config.booking.BookingProperties;
+import com.footbook.repository.UserBookingTimelineRepository;
+import com.footbook.service.booking.BookingTimelineProjector;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compares the recent and upcoming part of the booking timeline with the live view it is
+ * projected from and repairs the rooms that differ. When too many rooms differ to repair one by
+ * one, for example after restoring a backup taken before the timeline existed, the timeline is
+ * rebuilt from scratch instead.
+ * <p>
+ * Only rooms scheduled within {@code app.booking.timeline-check-days} or later are compared, so
+ * each run costs the same however much history has accumulated.
+ */
+@Component
+@Slf4j
+public class BookingTimelineConsistencyScheduler {
+    private static final int MAX_ROOM_REPAIRS = 5000;
+
+    private final UserBookingTimelineRepository timelineRepository;
+    private final BookingTimelineProjector projector;
+    private final BookingProperties properties;
+    private final Counter repairedRooms;
+    private final Counter rebuilds;
+
+    public BookingTimelineConsistencyScheduler(UserBookingTimelineRepository timelineRepository,
+                                               BookingTimelineProjector projector,
+                                               BookingProperties properties,
+                                               MeterRegistry meterRegistry) {
+        this.timelineRepository = timelineRepository;
+        this.projector = projector;
+        this.properties = properties;
+        this.repairedRooms = meterRegistry.counter("footbook.booking.timeline.repaired.rooms");
+        this.rebuilds = meterRegistry.counter("footbook.booking.timeline.rebuilds");
+    }
+
+    @Scheduled(cron = "0 */15 * * * *")
+    public void repairTimeline() {
+        try {
+            LocalDate from = LocalDate.now().minusDays(properties.getTimelineCheckDays());
+            List<UUID> drifted = timelineRepository.findDriftedRoomIdsFrom(from, MAX_ROOM_REPAIRS + 1);
+            if (drifted.isEmpty()) {
+                log.debug("Booking timeline is consistent");
+                return;
+            }
+            if (drifted.size() > MAX_ROOM_REPAIRS) {
+                log.warn("Booking timeline differs for more than {} rooms, rebuilding", MAX_ROOM_REPAIRS);
+                projector.rebuild();
+                rebuilds.increment();
+                return;
+            }
+            int rows = projector.refreshRooms(drifted);
+            repairedRooms.increment(drifted.size());
+            log.warn("Repaired booking timeline for {} rooms ({} rows)", drifted.size(), rows);
+        } catch (Exception e) {
+            log.error("Failed to check booking timeline consistency", e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.footbook.util;
+
+import com.footbook.repository.IndividualRoomRepository;
+import com.footbook.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Recounts the denormalized room slot and team member counters. They are kept exact by the
+ * statements that add and remove participants and members, so a correction here points to a
+ * write path that bypassed them.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CounterReconciliationScheduler {
+    private final IndividualRoomRepository individualRoomRepository;
+    private final TeamRepository teamRepository;
+
+    @Scheduled(cron = "0 30 3 * * *")
+    @Transactional
+    public void reconcileFilledSlots() {
+        try {
+            int corrected = individualRoomRepository.reconcileFilledSlots();
+            if (corrected > 0) {
+                log.warn("Corrected filled slot counts of {} individual rooms", corrected);
+            } else {
+                log.info("Individual room filled slot counts are consistent");
+            }
+            long overbooked = individualRoomRepository.countOverbookedRooms();
+            if (overbooked > 0) {
+                log.warn("{} individual rooms have more participants than slots", overbooked);
+            }
+        } catch (Exception e) {
+            log.error("Failed to reconcile individual room filled slot counts", e);
+        }
+    }
+
+    @Scheduled(cron = "0 45 3 * * *")
+    @Transactional
+    public void reconcileMemberCounts() {
+        try {
+            int corrected = teamRepository.reconcileMemberCounts();
+            if (corrected > 0) {
+                log.warn("Corrected member counts of {} teams", corrected);
+            } else {
+                log.info("Team member counts are consistent");
+            }
+        } catch (Exception e) {
+            log.error("Failed to reconcile team member counts", e);
+        }
+    }
+}
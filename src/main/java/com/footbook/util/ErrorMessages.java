@@ -60,14 +60,20 @@ public final class ErrorMessages {
     public static final String DATE_FORMAT_INVALID = "Date must be in yyyy-MM-dd format";
     public static final String OUTSIDE_OPERATING_HOURS = "Booking time must be within branch operating hours";
 
+    // Pitch
+    public static final String NO_PITCH_AVAILABLE = "No pitch is available at this branch for the selected time";
+    public static final String PITCH_BOOKING_CONFLICT = "The selected time was just booked by someone else. Please try again";
+
     // Individual Room
     public static final String ROOM_NOT_FOUND = "Room not found";
     public static final String ROOM_CANCELLED = "Room not found or cancelled";
     public static final String ROOM_FULL = "Room is already full";
     public static final String ALREADY_JOINED = "You have already joined this room";
+    public static final String SLOTS_HELD = "All remaining slots are currently held by other players. Please try again shortly";
     public static final String TIME_CONFLICT = "You have a conflicting booking at this time";
     public static final String BOOKING_IN_PAST = "Cannot create a room in the past";
     public static final String END_TIME_BEFORE_START = "End time must be after start time";
+    public static final String INVALID_RECURRENCE = "Recurrence must be WEEKLY or BIWEEKLY";
     public static final String OWNER_CANNOT_LEAVE = "Room owner cannot leave the room. Please cancel the room instead.";
     public static final String NOT_PARTICIPANT = "You are not a participant in this room";
     public static final String NOT_OWNER = "Only the room owner can cancel the room";
@@ -89,8 +95,21 @@ public final class ErrorMessages {
     public static final String CANNOT_JOIN_OWN_ROOM = "Cannot join your own team's room";
     public static final String TEAM_SIZE_MISMATCH = "Team size mismatch";
     public static final String TEAM_CONFLICT = "Your team has a conflicting team room booking at this time";
-    public static final String TEAM_MEMBERS_CONFLICT = "One or more team members have conflicting individual room bookings at this time";
+    public static final String TEAM_MEMBERS_CONFLICT = "One or more team members have conflicting bookings at this time";
     public static final String ONLY_CREATOR_CAPTAIN_CAN_CANCEL = "Only the creator team's captain can cancel the room";
+    public static final String NO_MATCH_FOUND = "No open team room matches your team in this date range";
+    public static final String MATCH_WINDOW_TOO_LONG = "Date range is too long for matchmaking";
+
+    // Search
+    public static final String INVALID_SEARCH_MODE = "Invalid search mode. Must be fulltext or fuzzy";
+    public static final String INVALID_SEARCH_CURSOR = "Invalid or expired search cursor";
+    public static final String SEARCH_INTERRUPTED = "Search was interrupted";
+    public static final String INVALID_LOCATION = "Invalid location. Must be latitude,longitude";
+    public static final String INVALID_RADIUS = "Radius is out of range";
+    public static final String NEARBY_WINDOW_TOO_LONG = "Date range is too long for a nearby search";
+
+    // Booking
+    public static final String INVALID_BOOKING_CURSOR = "Invalid booking cursor";
 
     // Notification
     public static final String NOTIFICATION_NOT_FOUND = "Notification not found";
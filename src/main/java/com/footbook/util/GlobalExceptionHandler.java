@@ -1,6 +1,7 @@
 package com.footbook.util;
 
 import com.footbook.dto.response.error.ErrorResponse;
+import com.footbook.exception.SlotUnavailableException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -121,6 +122,11 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.CONFLICT, message);
     }
 
+    @ExceptionHandler(SlotUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleSlotUnavailable(SlotUnavailableException ex) {
+        return buildErrorResponse(HttpStatus.CONFLICT, ex.getMessage());
+    }
+
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<ErrorResponse> handleIllegalState(IllegalStateException ex) {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
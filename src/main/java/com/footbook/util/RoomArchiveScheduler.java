@@ -0,0 +1,57 @@
+package com.footbook.util;
+
+import com.footbook.config.booking.BookingProperties;
+import com.footbook.service.booking.RoomArchiver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Moves rooms of past months out of the live tables into the monthly archive partitions, and
+ * detaches archive partitions past retention so they can be dumped and dropped.
+ * <p>
+ * The live tables then only hold the last few months and everything upcoming, which keeps
+ * their indexes, and every query against them, small regardless of how much history exists.
+ */
+@Component
+@Slf4j
+public class RoomArchiveScheduler {
+    private static final int BATCH_SIZE = 1000;
+
+    private final RoomArchiver archiver;
+    private final BookingProperties properties;
+    private final Counter archivedRooms;
+
+    public RoomArchiveScheduler(RoomArchiver archiver, BookingProperties properties, MeterRegistry meterRegistry) {
+        this.archiver = archiver;
+        this.properties = properties;
+        this.archivedRooms = meterRegistry.counter("footbook.booking.archive.rooms");
+    }
+
+    @Scheduled(cron = "0 0 4 * * *")
+    public void archivePastRooms() {
+        try {
+            LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+            LocalDate cutoff = currentMonth.minusMonths(properties.getArchiveAfterMonths());
+
+            int partitions = archiver.prepare(cutoff);
+            int total = 0;
+            int moved;
+            do {
+                moved = archiver.archiveBatch(cutoff, BATCH_SIZE);
+                total += moved;
+                archivedRooms.increment(moved);
+            } while (moved > 0);
+
+            int detached = archiver.detachPartitionsBefore(currentMonth.minusMonths(properties.getArchiveRetentionMonths()));
+            log.info("Archived {} rooms scheduled before {} ({} partitions created, {} detached)",
+                total, cutoff, partitions, detached);
+        } catch (Exception e) {
+            log.error("Failed to archive past rooms", e);
+        }
+    }
+}
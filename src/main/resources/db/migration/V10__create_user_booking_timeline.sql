@@ -0,0 +1,100 @@
+-- Live definition of every user's bookings; user_booking_timeline is a materialized copy of it.
+-- Team rooms are listed once per member, rooms between two of a user's teams only once.
+CREATE OR REPLACE VIEW user_booking_live AS
+SELECT p.user_id,
+       r.id AS room_id,
+       'INDIVIDUAL'::VARCHAR(20) AS booking_type,
+       r.scheduled_date,
+       r.start_time,
+       r.end_time,
+       r.status,
+       r.created_at AS room_created_at,
+       r.total_slots,
+       (SELECT count(*) FROM individual_room_participants c WHERE c.room_id = r.id)::INTEGER AS filled_slots,
+       (u.first_name || ' ' || u.last_name)::VARCHAR(511) AS owner_name,
+       NULL::VARCHAR(255) AS creator_team_name,
+       NULL::VARCHAR(255) AS opponent_team_name,
+       NULL::INTEGER AS required_team_size,
+       b.id AS branch_id,
+       b.name AS branch_name,
+       b.address AS branch_address,
+       b.google_maps_url AS branch_google_maps_url,
+       b.operating_hours_start AS branch_operating_hours_start,
+       b.operating_hours_end AS branch_operating_hours_end,
+       b.contact_phone AS branch_contact_phone,
+       b.contact_email AS branch_contact_email,
+       b.latitude AS branch_latitude,
+       b.longitude AS branch_longitude,
+       b.is_active AS branch_is_active,
+       b.created_at AS branch_created_at,
+       b.updated_at AS branch_updated_at
+FROM individual_room_participants p
+JOIN individual_rooms r ON r.id = p.room_id
+JOIN branches b ON b.id = r.branch_id
+JOIN users u ON u.id = r.owner_id
+UNION ALL
+SELECT m.user_id, r.id, 'TEAM', r.scheduled_date, r.start_time, r.end_time, r.status, r.created_at,
+       NULL, NULL, NULL, ct.name, coalesce(ot.name, 'Waiting for opponent'), r.required_team_size,
+       b.id, b.name, b.address, b.google_maps_url, b.operating_hours_start, b.operating_hours_end,
+       b.contact_phone, b.contact_email, b.latitude, b.longitude, b.is_active, b.created_at, b.updated_at
+FROM team_rooms r
+JOIN team_members m ON m.team_id = r.creator_team_id
+JOIN branches b ON b.id = r.branch_id
+JOIN teams ct ON ct.id = r.creator_team_id
+LEFT JOIN teams ot ON ot.id = r.opponent_team_id
+WHERE r.status <> 'CANCELLED'
+UNION ALL
+SELECT m.user_id, r.id, 'TEAM', r.scheduled_date, r.start_time, r.end_time, r.status, r.created_at,
+       NULL, NULL, NULL, ct.name, ot.name, r.required_team_size,
+       b.id, b.name, b.address, b.google_maps_url, b.operating_hours_start, b.operating_hours_end,
+       b.contact_phone, b.contact_email, b.latitude, b.longitude, b.is_active, b.created_at, b.updated_at
+FROM team_rooms r
+JOIN team_members m ON m.team_id = r.opponent_team_id
+JOIN branches b ON b.id = r.branch_id
+JOIN teams ct ON ct.id = r.creator_team_id
+JOIN teams ot ON ot.id = r.opponent_team_id
+WHERE r.status <> 'CANCELLED'
+  AND NOT EXISTS (
+      SELECT 1 FROM team_members cm WHERE cm.team_id = r.creator_team_id AND cm.user_id = m.user_id
+  );
+
+-- Per-user booking timeline read model
+CREATE TABLE IF NOT EXISTS user_booking_timeline (
+    user_id UUID NOT NULL,
+    room_id UUID NOT NULL,
+    booking_type VARCHAR(20) NOT NULL,
+    scheduled_date DATE NOT NULL,
+    start_time TIME NOT NULL,
+    end_time TIME NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    room_created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    total_slots INTEGER,
+    filled_slots INTEGER,
+    owner_name VARCHAR(511),
+    creator_team_name VARCHAR(255),
+    opponent_team_name VARCHAR(255),
+    required_team_size INTEGER,
+    branch_id UUID NOT NULL,
+    branch_name VARCHAR(255) NOT NULL,
+    branch_address TEXT NOT NULL,
+    branch_google_maps_url TEXT,
+    branch_operating_hours_start TIME NOT NULL,
+    branch_operating_hours_end TIME NOT NULL,
+    branch_contact_phone VARCHAR(50),
+    branch_contact_email VARCHAR(255),
+    branch_latitude DECIMAL(10, 8),
+    branch_longitude DECIMAL(11, 8),
+    branch_is_active BOOLEAN NOT NULL,
+    branch_created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    branch_updated_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT pk_user_booking_timeline PRIMARY KEY (user_id, room_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_user_booking_timeline_user_date_time ON user_booking_timeline (user_id, scheduled_date, start_time, room_id);
+CREATE INDEX IF NOT EXISTS idx_user_booking_timeline_room_id ON user_booking_timeline (room_id);
+CREATE INDEX IF NOT EXISTS idx_user_booking_timeline_branch_id ON user_booking_timeline (branch_id);
+
+-- Backfill
+INSERT INTO user_booking_timeline
+SELECT * FROM user_booking_live
+ON CONFLICT (user_id, room_id) DO NOTHING;
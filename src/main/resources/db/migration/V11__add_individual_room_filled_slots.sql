@@ -0,0 +1,24 @@
+-- Reserved slots per individual room, maintained by the join and leave statements
+ALTER TABLE individual_rooms ADD COLUMN IF NOT EXISTS filled_slots INTEGER NOT NULL DEFAULT 0;
+
+-- Rooms joined past capacity before slots were reserved atomically keep their participants;
+-- their counter is capped at the capacity so the slot constraint holds, and they are reported
+DO $$
+DECLARE
+    overbooked INTEGER;
+BEGIN
+    SELECT count(*) INTO overbooked
+    FROM individual_rooms r
+    WHERE (SELECT count(*) FROM individual_room_participants p WHERE p.room_id = r.id) > r.total_slots;
+    IF overbooked > 0 THEN
+        RAISE NOTICE 'Capping filled_slots at total_slots for % overbooked individual rooms', overbooked;
+    END IF;
+END $$;
+
+UPDATE individual_rooms r
+SET filled_slots = LEAST(r.total_slots,
+    (SELECT count(*) FROM individual_room_participants p WHERE p.room_id = r.id));
+
+ALTER TABLE individual_rooms DROP CONSTRAINT IF EXISTS chk_individual_rooms_filled_slots;
+ALTER TABLE individual_rooms ADD CONSTRAINT chk_individual_rooms_filled_slots
+    CHECK (filled_slots >= 0 AND filled_slots <= total_slots);
@@ -0,0 +1,67 @@
+-- Member count per team, maintained by the add and remove member statements
+ALTER TABLE teams ADD COLUMN IF NOT EXISTS member_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE teams t
+SET member_count = (SELECT count(*) FROM team_members m WHERE m.team_id = t.id);
+
+ALTER TABLE teams DROP CONSTRAINT IF EXISTS chk_teams_member_count;
+ALTER TABLE teams ADD CONSTRAINT chk_teams_member_count CHECK (member_count >= 0);
+
+-- The booking timeline can read the slot counter instead of counting participants
+CREATE OR REPLACE VIEW user_booking_live AS
+SELECT p.user_id,
+       r.id AS room_id,
+       'INDIVIDUAL'::VARCHAR(20) AS booking_type,
+       r.scheduled_date,
+       r.start_time,
+       r.end_time,
+       r.status,
+       r.created_at AS room_created_at,
+       r.total_slots,
+       r.filled_slots,
+       (u.first_name || ' ' || u.last_name)::VARCHAR(511) AS owner_name,
+       NULL::VARCHAR(255) AS creator_team_name,
+       NULL::VARCHAR(255) AS opponent_team_name,
+       NULL::INTEGER AS required_team_size,
+       b.id AS branch_id,
+       b.name AS branch_name,
+       b.address AS branch_address,
+       b.google_maps_url AS branch_google_maps_url,
+       b.operating_hours_start AS branch_operating_hours_start,
+       b.operating_hours_end AS branch_operating_hours_end,
+       b.contact_phone AS branch_contact_phone,
+       b.contact_email AS branch_contact_email,
+       b.latitude AS branch_latitude,
+       b.longitude AS branch_longitude,
+       b.is_active AS branch_is_active,
+       b.created_at AS branch_created_at,
+       b.updated_at AS branch_updated_at
+FROM individual_room_participants p
+JOIN individual_rooms r ON r.id = p.room_id
+JOIN branches b ON b.id = r.branch_id
+JOIN users u ON u.id = r.owner_id
+UNION ALL
+SELECT m.user_id, r.id, 'TEAM', r.scheduled_date, r.start_time, r.end_time, r.status, r.created_at,
+       NULL, NULL, NULL, ct.name, coalesce(ot.name, 'Waiting for opponent'), r.required_team_size,
+       b.id, b.name, b.address, b.google_maps_url, b.operating_hours_start, b.operating_hours_end,
+       b.contact_phone, b.contact_email, b.latitude, b.longitude, b.is_active, b.created_at, b.updated_at
+FROM team_rooms r
+JOIN team_members m ON m.team_id = r.creator_team_id
+JOIN branches b ON b.id = r.branch_id
+JOIN teams ct ON ct.id = r.creator_team_id
+LEFT JOIN teams ot ON ot.id = r.opponent_team_id
+WHERE r.status <> 'CANCELLED'
+UNION ALL
+SELECT m.user_id, r.id, 'TEAM', r.scheduled_date, r.start_time, r.end_time, r.status, r.created_at,
+       NULL, NULL, NULL, ct.name, ot.name, r.required_team_size,
+       b.id, b.name, b.address, b.google_maps_url, b.operating_hours_start, b.operating_hours_end,
+       b.contact_phone, b.contact_email, b.latitude, b.longitude, b.is_active, b.created_at, b.updated_at
+FROM team_rooms r
+JOIN team_members m ON m.team_id = r.opponent_team_id
+JOIN branches b ON b.id = r.branch_id
+JOIN teams ct ON ct.id = r.creator_team_id
+JOIN teams ot ON ot.id = r.opponent_team_id
+WHERE r.status <> 'CANCELLED'
+  AND NOT EXISTS (
+      SELECT 1 FROM team_members cm WHERE cm.team_id = r.creator_team_id AND cm.user_id = m.user_id
+  );
@@ -0,0 +1,92 @@
+-- Pitches of a branch and the bookings that occupy them
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+CREATE TABLE IF NOT EXISTS pitches (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    branch_id UUID NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT now(),
+    updated_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT now(),
+    CONSTRAINT fk_pitches_branch FOREIGN KEY (branch_id) REFERENCES branches(id),
+    CONSTRAINT uq_pitches_branch_name UNIQUE (branch_id, name)
+);
+
+CREATE INDEX IF NOT EXISTS idx_pitches_branch_id ON pitches (branch_id);
+
+ALTER TABLE individual_rooms ADD COLUMN IF NOT EXISTS pitch_id UUID;
+ALTER TABLE individual_rooms DROP CONSTRAINT IF EXISTS fk_individual_rooms_pitch;
+ALTER TABLE individual_rooms ADD CONSTRAINT fk_individual_rooms_pitch FOREIGN KEY (pitch_id) REFERENCES pitches(id);
+
+ALTER TABLE team_rooms ADD COLUMN IF NOT EXISTS pitch_id UUID;
+ALTER TABLE team_rooms DROP CONSTRAINT IF EXISTS fk_team_rooms_pitch;
+ALTER TABLE team_rooms ADD CONSTRAINT fk_team_rooms_pitch FOREIGN KEY (pitch_id) REFERENCES pitches(id);
+
+-- One row per non-cancelled room of either kind; the exclusion constraint makes a pitch
+-- impossible to double-book, whichever kind of room the two bookings belong to
+CREATE TABLE IF NOT EXISTS pitch_bookings (
+    room_id UUID PRIMARY KEY,
+    room_type VARCHAR(20) NOT NULL,
+    pitch_id UUID NOT NULL,
+    branch_id UUID NOT NULL,
+    scheduled_date DATE NOT NULL,
+    start_time TIME NOT NULL,
+    end_time TIME NOT NULL,
+    during TSRANGE GENERATED ALWAYS AS (tsrange(scheduled_date + start_time, scheduled_date + end_time, '[)')) STORED,
+    CONSTRAINT fk_pitch_bookings_pitch FOREIGN KEY (pitch_id) REFERENCES pitches(id),
+    CONSTRAINT chk_pitch_bookings_room_type CHECK (room_type IN ('INDIVIDUAL', 'TEAM')),
+    CONSTRAINT ex_pitch_bookings_overlap EXCLUDE USING gist (pitch_id WITH =, during WITH &&)
+);
+
+CREATE INDEX IF NOT EXISTS idx_pitch_bookings_branch_date ON pitch_bookings (branch_id, scheduled_date);
+
+-- Every branch starts with one pitch
+INSERT INTO pitches (branch_id, name)
+SELECT b.id, 'Pitch 1'
+FROM branches b
+WHERE NOT EXISTS (SELECT 1 FROM pitches p WHERE p.branch_id = b.id);
+
+-- Assign existing rooms to pitches in start order, adding pitches where bookings already overlap
+DO $$
+DECLARE
+    booking RECORD;
+    free_pitch UUID;
+BEGIN
+    FOR booking IN
+        SELECT id, 'INDIVIDUAL' AS room_type, branch_id, scheduled_date, start_time, end_time
+        FROM individual_rooms WHERE status <> 'CANCELLED' AND pitch_id IS NULL
+        UNION ALL
+        SELECT id, 'TEAM', branch_id, scheduled_date, start_time, end_time
+        FROM team_rooms WHERE status <> 'CANCELLED' AND pitch_id IS NULL
+        ORDER BY scheduled_date, start_time, id
+    LOOP
+        SELECT p.id INTO free_pitch
+        FROM pitches p
+        WHERE p.branch_id = booking.branch_id
+          AND NOT EXISTS (
+              SELECT 1 FROM pitch_bookings pb
+              WHERE pb.pitch_id = p.id
+                AND pb.during && tsrange(booking.scheduled_date + booking.start_time,
+                                         booking.scheduled_date + booking.end_time, '[)')
+          )
+        ORDER BY p.created_at, p.name
+        LIMIT 1;
+
+        IF free_pitch IS NULL THEN
+            INSERT INTO pitches (branch_id, name)
+            SELECT booking.branch_id, 'Pitch ' || (count(*) + 1)
+            FROM pitches WHERE branch_id = booking.branch_id
+            RETURNING id INTO free_pitch;
+        END IF;
+
+        INSERT INTO pitch_bookings (room_id, room_type, pitch_id, branch_id, scheduled_date, start_time, end_time)
+        VALUES (booking.id, booking.room_type, free_pitch, booking.branch_id,
+                booking.scheduled_date, booking.start_time, booking.end_time);
+
+        IF booking.room_type = 'INDIVIDUAL' THEN
+            UPDATE individual_rooms SET pitch_id = free_pitch WHERE id = booking.id;
+        ELSE
+            UPDATE team_rooms SET pitch_id = free_pitch WHERE id = booking.id;
+        END IF;
+    END LOOP;
+END $$;
@@ -0,0 +1,53 @@
+-- Time each user spends in individual rooms and each team in team rooms. The exclusion
+-- constraints reject overlapping bookings, so conflicts surface as the insert doing nothing
+-- instead of a separate check beforehand.
+CREATE TABLE IF NOT EXISTS user_bookings (
+    user_id UUID NOT NULL,
+    room_id UUID NOT NULL,
+    scheduled_date DATE NOT NULL,
+    start_time TIME NOT NULL,
+    end_time TIME NOT NULL,
+    during TSRANGE GENERATED ALWAYS AS (tsrange(scheduled_date + start_time, scheduled_date + end_time, '[)')) STORED,
+    CONSTRAINT pk_user_bookings PRIMARY KEY (user_id, room_id),
+    CONSTRAINT fk_user_bookings_user FOREIGN KEY (user_id) REFERENCES users(id),
+    CONSTRAINT fk_user_bookings_room FOREIGN KEY (room_id) REFERENCES individual_rooms(id) ON DELETE CASCADE,
+    CONSTRAINT ex_user_bookings_overlap EXCLUDE USING gist (user_id WITH =, during WITH &&)
+);
+
+CREATE INDEX IF NOT EXISTS idx_user_bookings_room_id ON user_bookings (room_id);
+
+CREATE TABLE IF NOT EXISTS team_bookings (
+    team_id UUID NOT NULL,
+    room_id UUID NOT NULL,
+    scheduled_date DATE NOT NULL,
+    start_time TIME NOT NULL,
+    end_time TIME NOT NULL,
+    during TSRANGE GENERATED ALWAYS AS (tsrange(scheduled_date + start_time, scheduled_date + end_time, '[)')) STORED,
+    CONSTRAINT pk_team_bookings PRIMARY KEY (team_id, room_id),
+    CONSTRAINT fk_team_bookings_team FOREIGN KEY (team_id) REFERENCES teams(id),
+    CONSTRAINT fk_team_bookings_room FOREIGN KEY (room_id) REFERENCES team_rooms(id) ON DELETE CASCADE,
+    CONSTRAINT ex_team_bookings_overlap EXCLUDE USING gist (team_id WITH =, during WITH &&)
+);
+
+CREATE INDEX IF NOT EXISTS idx_team_bookings_room_id ON team_bookings (room_id);
+
+-- Backfill from non-cancelled rooms; bookings that already overlap keep the earliest-created one
+INSERT INTO user_bookings (user_id, room_id, scheduled_date, start_time, end_time)
+SELECT p.user_id, r.id, r.scheduled_date, r.start_time, r.end_time
+FROM individual_room_participants p
+JOIN individual_rooms r ON r.id = p.room_id
+WHERE r.status <> 'CANCELLED'
+ORDER BY p.joined_at
+ON CONFLICT DO NOTHING;
+
+INSERT INTO team_bookings (team_id, room_id, scheduled_date, start_time, end_time)
+SELECT b.team_id, b.room_id, b.scheduled_date, b.start_time, b.end_time
+FROM (
+    SELECT r.creator_team_id AS team_id, r.id AS room_id, r.scheduled_date, r.start_time, r.end_time, r.created_at
+    FROM team_rooms r WHERE r.status <> 'CANCELLED'
+    UNION ALL
+    SELECT r.opponent_team_id, r.id, r.scheduled_date, r.start_time, r.end_time, r.created_at
+    FROM team_rooms r WHERE r.status <> 'CANCELLED' AND r.opponent_team_id IS NOT NULL
+) b
+ORDER BY b.created_at
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,20 @@
+-- A single timestamp per room turns "upcoming" and "past" into one range condition
+-- (starts_at >= now) instead of an OR over date and time, which no index can serve as a range
+ALTER TABLE individual_rooms
+    ADD COLUMN IF NOT EXISTS starts_at TIMESTAMP GENERATED ALWAYS AS (scheduled_date + start_time) STORED,
+    ADD COLUMN IF NOT EXISTS ends_at TIMESTAMP GENERATED ALWAYS AS (scheduled_date + end_time) STORED;
+
+ALTER TABLE team_rooms
+    ADD COLUMN IF NOT EXISTS starts_at TIMESTAMP GENERATED ALWAYS AS (scheduled_date + start_time) STORED,
+    ADD COLUMN IF NOT EXISTS ends_at TIMESTAMP GENERATED ALWAYS AS (scheduled_date + end_time) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_individual_rooms_owner_starts_at ON individual_rooms (owner_id, starts_at);
+CREATE INDEX IF NOT EXISTS idx_individual_rooms_status_starts_at ON individual_rooms (status, starts_at);
+
+CREATE INDEX IF NOT EXISTS idx_team_rooms_creator_team_starts_at ON team_rooms (creator_team_id, starts_at, id);
+CREATE INDEX IF NOT EXISTS idx_team_rooms_opponent_team_starts_at ON team_rooms (opponent_team_id, starts_at, id);
+CREATE INDEX IF NOT EXISTS idx_team_rooms_status_starts_at ON team_rooms (status, starts_at);
+
+-- Superseded by the starts_at indexes above
+DROP INDEX IF EXISTS idx_team_rooms_creator_team_date_time;
+DROP INDEX IF EXISTS idx_team_rooms_opponent_team_date_time;
@@ -0,0 +1,6 @@
+-- Rooms created together as a recurring series share a series_id
+ALTER TABLE individual_rooms ADD COLUMN IF NOT EXISTS series_id UUID;
+ALTER TABLE team_rooms ADD COLUMN IF NOT EXISTS series_id UUID;
+
+CREATE INDEX IF NOT EXISTS idx_individual_rooms_series_id ON individual_rooms (series_id) WHERE series_id IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_team_rooms_series_id ON team_rooms (series_id) WHERE series_id IS NOT NULL;
@@ -0,0 +1,150 @@
+-- Finished rooms are moved out of the live tables into archive tables partitioned by month of
+-- scheduled_date, so the live tables and their indexes only hold recent and upcoming games.
+-- The live tables stay unpartitioned: their primary keys are referenced by foreign keys and
+-- exclusion-constrained booking tables that a partition key would have to be threaded through.
+
+-- Rooms scheduled before archived_before have been, or are being, moved to the archive
+CREATE TABLE IF NOT EXISTS room_archive_state (
+    id BOOLEAN PRIMARY KEY DEFAULT TRUE,
+    archived_before DATE NOT NULL,
+    CONSTRAINT chk_room_archive_state_single_row CHECK (id)
+);
+
+INSERT INTO room_archive_state (id, archived_before) VALUES (TRUE, '-infinity') ON CONFLICT DO NOTHING;
+
+CREATE TABLE IF NOT EXISTS individual_rooms_archive (
+    id UUID NOT NULL,
+    branch_id UUID NOT NULL,
+    pitch_id UUID,
+    series_id UUID,
+    owner_id UUID NOT NULL,
+    scheduled_date DATE NOT NULL,
+    start_time TIME NOT NULL,
+    end_time TIME NOT NULL,
+    total_slots INTEGER NOT NULL,
+    filled_slots INTEGER NOT NULL,
+    notes TEXT,
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    archived_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT now(),
+    CONSTRAINT pk_individual_rooms_archive PRIMARY KEY (id, scheduled_date)
+) PARTITION BY RANGE (scheduled_date);
+
+CREATE INDEX IF NOT EXISTS idx_individual_rooms_archive_owner_id ON individual_rooms_archive (owner_id);
+
+CREATE TABLE IF NOT EXISTS individual_room_participants_archive (
+    id UUID NOT NULL,
+    room_id UUID NOT NULL,
+    user_id UUID NOT NULL,
+    scheduled_date DATE NOT NULL,
+    joined_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT pk_individual_room_participants_archive PRIMARY KEY (id, scheduled_date)
+) PARTITION BY RANGE (scheduled_date);
+
+CREATE INDEX IF NOT EXISTS idx_individual_room_participants_archive_room_id ON individual_room_participants_archive (room_id);
+CREATE INDEX IF NOT EXISTS idx_individual_room_participants_archive_user_id ON individual_room_participants_archive (user_id);
+
+CREATE TABLE IF NOT EXISTS team_rooms_archive (
+    id UUID NOT NULL,
+    branch_id UUID NOT NULL,
+    pitch_id UUID,
+    series_id UUID,
+    creator_team_id UUID NOT NULL,
+    opponent_team_id UUID,
+    scheduled_date DATE NOT NULL,
+    start_time TIME NOT NULL,
+    end_time TIME NOT NULL,
+    required_team_size INTEGER NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    archived_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT now(),
+    CONSTRAINT pk_team_rooms_archive PRIMARY KEY (id, scheduled_date)
+) PARTITION BY RANGE (scheduled_date);
+
+CREATE INDEX IF NOT EXISTS idx_team_rooms_archive_creator_team_id ON team_rooms_archive (creator_team_id);
+CREATE INDEX IF NOT EXISTS idx_team_rooms_archive_opponent_team_id ON team_rooms_archive (opponent_team_id);
+
+-- Creates the monthly partitions of every archive table covering [from_month, to_month)
+CREATE OR REPLACE FUNCTION create_room_archive_partitions(from_month DATE, to_month DATE) RETURNS INTEGER AS $$
+DECLARE
+    parent TEXT;
+    month_start DATE := date_trunc('month', from_month)::DATE;
+    created INTEGER := 0;
+BEGIN
+    WHILE month_start < to_month LOOP
+        FOREACH parent IN ARRAY ARRAY['individual_rooms_archive', 'individual_room_participants_archive', 'team_rooms_archive'] LOOP
+            IF to_regclass(parent || '_p' || to_char(month_start, 'YYYYMM')) IS NULL THEN
+                EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                    parent || '_p' || to_char(month_start, 'YYYYMM'), parent, month_start, (month_start + INTERVAL '1 month')::DATE);
+                created := created + 1;
+            END IF;
+        END LOOP;
+        month_start := (month_start + INTERVAL '1 month')::DATE;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Moves up to max_rooms rooms of each kind scheduled before cutoff, with their participants,
+-- into the archive. Deleting a room cascades to its participants and time bookings.
+CREATE OR REPLACE FUNCTION archive_rooms_before(cutoff DATE, max_rooms INTEGER) RETURNS INTEGER AS $$
+DECLARE
+    individual_ids UUID[];
+    team_ids UUID[];
+BEGIN
+    individual_ids := ARRAY(SELECT id FROM individual_rooms WHERE scheduled_date < cutoff ORDER BY scheduled_date LIMIT max_rooms);
+    team_ids := ARRAY(SELECT id FROM team_rooms WHERE scheduled_date < cutoff ORDER BY scheduled_date LIMIT max_rooms);
+
+    INSERT INTO individual_room_participants_archive (id, room_id, user_id, scheduled_date, joined_at, created_at, updated_at)
+    SELECT p.id, p.room_id, p.user_id, r.scheduled_date, p.joined_at, p.created_at, p.updated_at
+    FROM individual_room_participants p
+    JOIN individual_rooms r ON r.id = p.room_id
+    WHERE r.id = ANY (individual_ids);
+
+    INSERT INTO individual_rooms_archive (id, branch_id, pitch_id, series_id, owner_id, scheduled_date, start_time, end_time,
+                                          total_slots, filled_slots, notes, status, created_at, updated_at)
+    SELECT id, branch_id, pitch_id, series_id, owner_id, scheduled_date, start_time, end_time,
+           total_slots, filled_slots, notes, status, created_at, updated_at
+    FROM individual_rooms
+    WHERE id = ANY (individual_ids);
+
+    INSERT INTO team_rooms_archive (id, branch_id, pitch_id, series_id, creator_team_id, opponent_team_id, scheduled_date,
+                                    start_time, end_time, required_team_size, status, created_at, updated_at)
+    SELECT id, branch_id, pitch_id, series_id, creator_team_id, opponent_team_id, scheduled_date,
+           start_time, end_time, required_team_size, status, created_at, updated_at
+    FROM team_rooms
+    WHERE id = ANY (team_ids);
+
+    DELETE FROM pitch_bookings WHERE room_id = ANY (individual_ids) OR room_id = ANY (team_ids);
+    DELETE FROM individual_rooms WHERE id = ANY (individual_ids);
+    DELETE FROM team_rooms WHERE id = ANY (team_ids);
+
+    RETURN cardinality(individual_ids) + cardinality(team_ids);
+END;
+$$ LANGUAGE plpgsql;
+
+-- Detaches archive partitions of months before the given one, leaving them as standalone
+-- tables to be dumped and dropped outside the application
+CREATE OR REPLACE FUNCTION detach_room_archive_partitions(before_month DATE) RETURNS INTEGER AS $$
+DECLARE
+    part RECORD;
+    detached INTEGER := 0;
+BEGIN
+    FOR part IN
+        SELECT parent.relname AS parent_name, child.relname AS child_name
+        FROM pg_inherits i
+        JOIN pg_class parent ON parent.oid = i.inhparent
+        JOIN pg_class child ON child.oid = i.inhrelid
+        WHERE parent.relname IN ('individual_rooms_archive', 'individual_room_participants_archive', 'team_rooms_archive')
+        AND to_date(right(child.relname, 6), 'YYYYMM') < before_month
+    LOOP
+        EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', part.parent_name, part.child_name);
+        detached := detached + 1;
+    END LOOP;
+    RETURN detached;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,7 @@
+-- Nearby room lookups list the upcoming rooms of a handful of branches, so rooms are indexed by
+-- branch and start time. The branch_id indexes are a prefix of these and are dropped.
+CREATE INDEX IF NOT EXISTS idx_individual_rooms_branch_starts_at ON individual_rooms (branch_id, starts_at);
+CREATE INDEX IF NOT EXISTS idx_team_rooms_branch_starts_at ON team_rooms (branch_id, starts_at);
+
+DROP INDEX IF EXISTS idx_individual_rooms_branch_id;
+DROP INDEX IF EXISTS idx_team_rooms_branch_id;
@@ -0,0 +1,44 @@
+-- archive_rooms_before returns the rooms it moved rather than their count, so the application
+-- can drop them from its in-memory search index and caches. The return type changes, so the
+-- function is dropped and recreated.
+DROP FUNCTION IF EXISTS archive_rooms_before(DATE, INTEGER);
+
+CREATE FUNCTION archive_rooms_before(cutoff DATE, max_rooms INTEGER)
+    RETURNS TABLE (room_type TEXT, room_id UUID) AS $$
+DECLARE
+    individual_ids UUID[];
+    team_ids UUID[];
+BEGIN
+    individual_ids := ARRAY(SELECT id FROM individual_rooms WHERE scheduled_date < cutoff ORDER BY scheduled_date LIMIT max_rooms);
+    team_ids := ARRAY(SELECT id FROM team_rooms WHERE scheduled_date < cutoff ORDER BY scheduled_date LIMIT max_rooms);
+
+    INSERT INTO individual_room_participants_archive (id, room_id, user_id, scheduled_date, joined_at, created_at, updated_at)
+    SELECT p.id, p.room_id, p.user_id, r.scheduled_date, p.joined_at, p.created_at, p.updated_at
+    FROM individual_room_participants p
+    JOIN individual_rooms r ON r.id = p.room_id
+    WHERE r.id = ANY (individual_ids);
+
+    INSERT INTO individual_rooms_archive (id, branch_id, pitch_id, series_id, owner_id, scheduled_date, start_time, end_time,
+                                          total_slots, filled_slots, notes, status, created_at, updated_at)
+    SELECT id, branch_id, pitch_id, series_id, owner_id, scheduled_date, start_time, end_time,
+           total_slots, filled_slots, notes, status, created_at, updated_at
+    FROM individual_rooms
+    WHERE id = ANY (individual_ids);
+
+    INSERT INTO team_rooms_archive (id, branch_id, pitch_id, series_id, creator_team_id, opponent_team_id, scheduled_date,
+                                    start_time, end_time, required_team_size, status, created_at, updated_at)
+    SELECT id, branch_id, pitch_id, series_id, creator_team_id, opponent_team_id, scheduled_date,
+           start_time, end_time, required_team_size, status, created_at, updated_at
+    FROM team_rooms
+    WHERE id = ANY (team_ids);
+
+    DELETE FROM pitch_bookings WHERE pitch_bookings.room_id = ANY (individual_ids) OR pitch_bookings.room_id = ANY (team_ids);
+    DELETE FROM individual_rooms WHERE id = ANY (individual_ids);
+    DELETE FROM team_rooms WHERE id = ANY (team_ids);
+
+    RETURN QUERY
+        SELECT 'INDIVIDUAL_ROOM'::TEXT, unnest(individual_ids)
+        UNION ALL
+        SELECT 'TEAM_ROOM'::TEXT, unnest(team_ids);
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,2 @@
+-- The consistency check only compares rows of recent and upcoming rooms
+CREATE INDEX IF NOT EXISTS idx_user_booking_timeline_scheduled_date ON user_booking_timeline (scheduled_date);
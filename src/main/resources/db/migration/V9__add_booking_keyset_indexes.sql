@@ -0,0 +1,3 @@
+-- Keyset pagination of a user's bookings walks each team's rooms in (scheduled_date, start_time, id) order
+CREATE INDEX IF NOT EXISTS idx_team_rooms_creator_team_date_time ON team_rooms (creator_team_id, scheduled_date, start_time, id);
+CREATE INDEX IF NOT EXISTS idx_team_rooms_opponent_team_date_time ON team_rooms (opponent_team_id, scheduled_date, start_time, id);
@@ -1,10 +1,9 @@
 package com.footbook;
 
+import com.footbook.support.PostgresIntegrationTest;
 import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
-class FootbookApplicationTests {
+class FootbookApplicationTests extends PostgresIntegrationTest {
 
     @Test
     void contextLoads() {
@@ -0,0 +1,81 @@
+package com.footbook.service.impl;
+
+import com.footbook.service.IndividualRoomService;
+import com.footbook.service.booking.SlotHoldRegistry;
+import com.footbook.support.ConcurrentCalls;
+import com.footbook.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Players racing to join or hold the last slot of an individual room. The calls commit on their
+ * own threads, so the fixture is removed after each test rather than rolled back.
+ */
+@Sql("/sql/individual-room-race.sql")
+@Sql(scripts = "/sql/race-cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class IndividualRoomConcurrencyTests extends PostgresIntegrationTest {
+    private static final UUID ROOM_ID = UUID.fromString("00000000-0000-0000-0001-0000000000c1");
+    // Holds and cached free slot counts outlive a test, so the hold test keeps to its own room
+    private static final UUID HELD_ROOM_ID = UUID.fromString("00000000-0000-0000-0001-0000000000c2");
+
+    @Autowired
+    private IndividualRoomService individualRoomService;
+    @Autowired
+    private SlotHoldRegistry slotHolds;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void secondPlayerJoiningTheLastSlotGetsConflict() throws Exception {
+        List<Integer> statuses = new ConcurrentCalls()
+            .as("racer2@footbook.test", () -> individualRoomService.joinRoom(ROOM_ID))
+            .as("racer3@footbook.test", () -> individualRoomService.joinRoom(ROOM_ID))
+            .run();
+
+        assertThat(statuses).containsExactlyInAnyOrder(200, 409);
+        assertRoomCounts(ROOM_ID, 2, "FULL");
+    }
+
+    @Test
+    void secondPlayerHoldingTheLastSlotGetsConflictAndCannotJoinAroundTheHold() throws Exception {
+        List<Integer> holds = new ConcurrentCalls()
+            .as("racer2@footbook.test", () -> individualRoomService.holdSlot(HELD_ROOM_ID))
+            .as("racer3@footbook.test", () -> individualRoomService.holdSlot(HELD_ROOM_ID))
+            .run();
+
+        assertThat(holds).containsExactlyInAnyOrder(200, 409);
+        String holder = holds.get(0) == 200 ? "racer2@footbook.test" : "racer3@footbook.test";
+        String other = holds.get(0) == 200 ? "racer3@footbook.test" : "racer2@footbook.test";
+
+        List<Integer> joins = new ConcurrentCalls()
+            .as(holder, () -> individualRoomService.joinRoom(HELD_ROOM_ID))
+            .as(other, () -> individualRoomService.joinRoom(HELD_ROOM_ID))
+            .run();
+
+        assertEquals(List.of(200, 409), joins);
+        assertRoomCounts(HELD_ROOM_ID, 2, "FULL");
+        assertEquals(0, slotHolds.heldSlots(HELD_ROOM_ID));
+    }
+
+    /**
+     * Checks that the slot count, the participants and their bookings all agree.
+     */
+    private void assertRoomCounts(UUID roomId, int participants, String status) {
+        assertEquals(participants, jdbcTemplate.queryForObject(
+            "SELECT filled_slots FROM individual_rooms WHERE id = ?", Integer.class, roomId));
+        assertEquals(participants, jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM individual_room_participants WHERE room_id = ?", Integer.class, roomId));
+        assertEquals(participants, jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM user_bookings WHERE room_id = ?", Integer.class, roomId));
+        assertEquals(status, jdbcTemplate.queryForObject(
+            "SELECT status FROM individual_rooms WHERE id = ?", String.class, roomId));
+    }
+}
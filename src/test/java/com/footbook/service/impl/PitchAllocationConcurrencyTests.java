@@ -0,0 +1,59 @@
+package com.footbook.service.impl;
+
+import com.footbook.dto.request.room.CreateIndividualRoomRequest;
+import com.footbook.dto.request.room.CreateTeamRoomRequest;
+import com.footbook.service.IndividualRoomService;
+import com.footbook.service.TeamRoomService;
+import com.footbook.support.ConcurrentCalls;
+import com.footbook.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * An individual room and a team room created at once for the only pitch of a branch.
+ */
+@Sql("/sql/pitch-race.sql")
+@Sql(scripts = "/sql/race-cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class PitchAllocationConcurrencyTests extends PostgresIntegrationTest {
+    private static final UUID BRANCH_ID = UUID.fromString("00000000-0000-0000-0002-0000000000b1");
+    private static final UUID TEAM_ID = UUID.fromString("00000000-0000-0000-0002-0000000000a1");
+
+    @Autowired
+    private IndividualRoomService individualRoomService;
+    @Autowired
+    private TeamRoomService teamRoomService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void secondRoomForTheLastPitchGetsConflict() throws Exception {
+        String date = LocalDate.now().plusDays(1).toString();
+        List<Integer> statuses = new ConcurrentCalls()
+            .as("racer1@footbook.test", () -> individualRoomService.createRoom(
+                new CreateIndividualRoomRequest(BRANCH_ID, date, "18:00", "19:00", 10, null)))
+            .as("racer2@footbook.test", () -> teamRoomService.createRoom(
+                new CreateTeamRoomRequest(BRANCH_ID, TEAM_ID, date, "18:30", "19:30")))
+            .run();
+
+        assertThat(statuses).containsExactlyInAnyOrder(200, 409);
+        // Only the winner's room, its pitch booking and its player or team booking remain
+        assertEquals(1, count("SELECT count(*) FROM individual_rooms WHERE branch_id = ?")
+            + count("SELECT count(*) FROM team_rooms WHERE branch_id = ?"));
+        assertEquals(1, count("SELECT count(*) FROM pitch_bookings WHERE branch_id = ?"));
+        assertEquals(1, count("SELECT count(*) FROM user_bookings b JOIN individual_rooms r ON r.id = b.room_id WHERE r.branch_id = ?")
+            + count("SELECT count(*) FROM team_bookings b JOIN team_rooms r ON r.id = b.room_id WHERE r.branch_id = ?"));
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, BRANCH_ID);
+    }
+}
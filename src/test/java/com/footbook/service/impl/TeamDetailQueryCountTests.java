@@ -0,0 +1,80 @@
+package com.footbook.service.impl;
+
+import com.footbook.dto.response.room.TeamRoomDetailResponse;
+import com.footbook.dto.response.team.TeamDetailResponse;
+import com.footbook.service.TeamRoomService;
+import com.footbook.service.TeamService;
+import com.footbook.support.PostgresIntegrationTest;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pins the number of statements behind the team detail and team room detail endpoints, which
+ * must not grow with the number of teams or members shown. The fixture is rolled back after
+ * each test, and only statements of the test's own thread are counted, so scheduled jobs
+ * running alongside do not affect the result.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "com.footbook.service.impl.TeamDetailQueryCountTests$StatementCounter")
+@Transactional
+@Sql("/sql/team-details.sql")
+class TeamDetailQueryCountTests extends PostgresIntegrationTest {
+    private static final UUID CREATOR_TEAM_ID = UUID.fromString("00000000-0000-0000-0000-0000000000a1");
+    private static final UUID ROOM_ID = UUID.fromString("00000000-0000-0000-0000-0000000000c1");
+
+    @Autowired
+    private TeamService teamService;
+    @Autowired
+    private TeamRoomService teamRoomService;
+
+    @BeforeEach
+    void resetCounter() {
+        StatementCounter.reset();
+    }
+
+    @Test
+    void teamDetailUsesThreeQueries() {
+        TeamDetailResponse response = teamService.getTeamById(CREATOR_TEAM_ID);
+
+        // The team, its members, and their users with the captain
+        assertEquals(3, StatementCounter.count());
+        assertEquals(3, response.members().size());
+    }
+
+    @Test
+    void teamRoomDetailUsesFiveQueries() {
+        TeamRoomDetailResponse response = teamRoomService.getRoomById(ROOM_ID);
+
+        // The room, its branch, both teams, their members, and their users with the captains
+        assertEquals(5, StatementCounter.count());
+        assertEquals(3, response.creatorTeam().members().size());
+        assertEquals(3, response.opponentTeam().members().size());
+    }
+
+    public static class StatementCounter implements StatementInspector {
+        private static final ThreadLocal<Integer> STATEMENTS = ThreadLocal.withInitial(() -> 0);
+
+        static void reset() {
+            STATEMENTS.set(0);
+        }
+
+        static int count() {
+            return STATEMENTS.get();
+        }
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.set(STATEMENTS.get() + 1);
+            return sql;
+        }
+    }
+}
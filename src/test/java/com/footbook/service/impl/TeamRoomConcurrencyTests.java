@@ -0,0 +1,91 @@
+package com.footbook.service.impl;
+
+import com.footbook.dto.request.room.JoinTeamRoomRequest;
+import com.footbook.service.TeamRoomService;
+import com.footbook.support.ConcurrentCalls;
+import com.footbook.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Teams racing to claim open team rooms, and a claim racing the room's cancellation.
+ */
+@Sql("/sql/team-room-race.sql")
+@Sql(scripts = "/sql/race-cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class TeamRoomConcurrencyTests extends PostgresIntegrationTest {
+    private static final UUID ROOM_ID = UUID.fromString("00000000-0000-0000-0003-0000000000c1");
+    private static final UUID OVERLAPPING_ROOM_ID = UUID.fromString("00000000-0000-0000-0003-0000000000c2");
+    private static final UUID CHALLENGERS_ID = UUID.fromString("00000000-0000-0000-0003-0000000000a2");
+    private static final UUID RIVALS_ID = UUID.fromString("00000000-0000-0000-0003-0000000000a3");
+    private static final String CREATORS_CAPTAIN = "racer1@footbook.test";
+    private static final String CHALLENGERS_CAPTAIN = "racer4@footbook.test";
+    private static final String RIVALS_CAPTAIN = "racer7@footbook.test";
+
+    @Autowired
+    private TeamRoomService teamRoomService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void secondTeamClaimingTheRoomGetsConflict() throws Exception {
+        List<Integer> statuses = new ConcurrentCalls()
+            .as(CHALLENGERS_CAPTAIN, () -> teamRoomService.joinRoom(ROOM_ID, new JoinTeamRoomRequest(CHALLENGERS_ID)))
+            .as(RIVALS_CAPTAIN, () -> teamRoomService.joinRoom(ROOM_ID, new JoinTeamRoomRequest(RIVALS_ID)))
+            .run();
+
+        assertThat(statuses).containsExactlyInAnyOrder(200, 409);
+        UUID winner = statuses.get(0) == 200 ? CHALLENGERS_ID : RIVALS_ID;
+        assertEquals("MATCHED", roomStatus(ROOM_ID));
+        assertEquals(winner, jdbcTemplate.queryForObject(
+            "SELECT opponent_team_id FROM team_rooms WHERE id = ?", UUID.class, ROOM_ID));
+        assertEquals(List.of(winner), jdbcTemplate.queryForList(
+            "SELECT team_id FROM team_bookings WHERE room_id = ? AND team_id <> "
+                + "(SELECT creator_team_id FROM team_rooms WHERE id = ?)", UUID.class, ROOM_ID, ROOM_ID));
+    }
+
+    @Test
+    void secondClaimOfAnOverlappingRoomByTheSameTeamGetsConflict() throws Exception {
+        List<Integer> statuses = new ConcurrentCalls()
+            .as(CHALLENGERS_CAPTAIN, () -> teamRoomService.joinRoom(ROOM_ID, new JoinTeamRoomRequest(CHALLENGERS_ID)))
+            .as(CHALLENGERS_CAPTAIN, () -> teamRoomService.joinRoom(OVERLAPPING_ROOM_ID, new JoinTeamRoomRequest(CHALLENGERS_ID)))
+            .run();
+
+        assertThat(statuses).containsExactlyInAnyOrder(200, 409);
+        // The refused claim is rolled back along with its booking, leaving that room open
+        assertThat(List.of(roomStatus(ROOM_ID), roomStatus(OVERLAPPING_ROOM_ID))).containsExactlyInAnyOrder("MATCHED", "OPEN");
+        assertEquals(1, jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM team_bookings WHERE team_id = ?", Integer.class, CHALLENGERS_ID));
+        assertEquals(0, jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM team_rooms WHERE status = 'OPEN' AND opponent_team_id IS NOT NULL "
+                + "AND id IN (?, ?)", Integer.class, ROOM_ID, OVERLAPPING_ROOM_ID));
+    }
+
+    @Test
+    void cancellingWhileATeamClaimsLeavesNoBookings() throws Exception {
+        List<Integer> statuses = new ConcurrentCalls()
+            .as(CREATORS_CAPTAIN, () -> teamRoomService.cancelRoom(ROOM_ID))
+            .as(CHALLENGERS_CAPTAIN, () -> teamRoomService.joinRoom(ROOM_ID, new JoinTeamRoomRequest(CHALLENGERS_ID)))
+            .run();
+
+        // A matched room can still be cancelled; a claim arriving after the cancellation finds the room gone
+        assertEquals(200, statuses.get(0));
+        assertThat(statuses.get(1)).isIn(200, 404);
+        assertEquals("CANCELLED", roomStatus(ROOM_ID));
+        assertEquals(0, jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM team_bookings WHERE room_id = ?", Integer.class, ROOM_ID));
+        assertEquals(0, jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM pitch_bookings WHERE room_id = ?", Integer.class, ROOM_ID));
+    }
+
+    private String roomStatus(UUID roomId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM team_rooms WHERE id = ?", String.class, roomId);
+    }
+}
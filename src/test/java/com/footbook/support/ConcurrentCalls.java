@@ -0,0 +1,81 @@
+package com.footbook.support;
+
+import com.footbook.util.GlobalExceptionHandler;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.annotation.ExceptionHandlerMethodResolver;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Runs service calls for several users at the same moment, each on its own thread and in its own
+ * transaction, and reports the HTTP status each caller would have been answered with: 200 when
+ * the call returned, otherwise the status {@link GlobalExceptionHandler} maps its exception to.
+ */
+public final class ConcurrentCalls {
+    private static final long TIMEOUT_SECONDS = 30;
+    private static final ExceptionHandlerMethodResolver HANDLERS = new ExceptionHandlerMethodResolver(GlobalExceptionHandler.class);
+    private static final GlobalExceptionHandler EXCEPTION_HANDLER = new GlobalExceptionHandler();
+
+    private record Call(String email, Runnable action) {
+    }
+
+    private final List<Call> calls = new ArrayList<>();
+
+    /**
+     * Adds a call made by the customer signed in with the email.
+     */
+    public ConcurrentCalls as(String email, Runnable action) {
+        calls.add(new Call(email, action));
+        return this;
+    }
+
+    /**
+     * Starts every call at once and waits for all of them.
+     *
+     * @return the status of each call, in the order they were added
+     */
+    public List<Integer> run() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(calls.size());
+        CountDownLatch ready = new CountDownLatch(calls.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (Call call : calls) {
+                statuses.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return status(call);
+                }));
+            }
+            ready.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            start.countDown();
+            List<Integer> results = new ArrayList<>();
+            for (Future<Integer> status : statuses) {
+                results.add(status.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static int status(Call call) throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+            call.email(), null, List.of(new SimpleGrantedAuthority("ROLE_CUSTOMER"))));
+        try {
+            call.action().run();
+            return 200;
+        } catch (RuntimeException e) {
+            Method handler = HANDLERS.resolveMethodByThrowable(e);
+            return ((ResponseEntity<?>) handler.invoke(EXCEPTION_HANDLER, e)).getStatusCode().value();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
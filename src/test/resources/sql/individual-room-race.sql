@@ -0,0 +1,24 @@
+-- Four players and two individual rooms at different times owned by the first, each with one slot left
+INSERT INTO users (id, role_id, email, password_hash, first_name, last_name, is_verified)
+SELECT ('00000000-0000-0000-0001-00000000000' || n)::UUID, r.id, 'racer' || n || '@footbook.test', 'hash', 'Racer', n::TEXT, TRUE
+FROM roles r, generate_series(1, 4) n
+WHERE r.title = 'CUSTOMER';
+
+INSERT INTO branches (id, name, address, operating_hours_start, operating_hours_end)
+VALUES ('00000000-0000-0000-0001-0000000000b1', 'Race Branch', 'Test address', '08:00', '23:00');
+
+INSERT INTO individual_rooms (id, branch_id, owner_id, scheduled_date, start_time, end_time, total_slots, filled_slots, status)
+VALUES ('00000000-0000-0000-0001-0000000000c1', '00000000-0000-0000-0001-0000000000b1',
+        '00000000-0000-0000-0001-000000000001', current_date + 1, '18:00', '19:00', 2, 1, 'OPEN'),
+       ('00000000-0000-0000-0001-0000000000c2', '00000000-0000-0000-0001-0000000000b1',
+        '00000000-0000-0000-0001-000000000001', current_date + 1, '20:00', '21:00', 2, 1, 'OPEN');
+
+INSERT INTO individual_room_participants (room_id, user_id)
+VALUES ('00000000-0000-0000-0001-0000000000c1', '00000000-0000-0000-0001-000000000001'),
+       ('00000000-0000-0000-0001-0000000000c2', '00000000-0000-0000-0001-000000000001');
+
+INSERT INTO user_bookings (user_id, room_id, scheduled_date, start_time, end_time)
+SELECT p.user_id, r.id, r.scheduled_date, r.start_time, r.end_time
+FROM individual_room_participants p
+JOIN individual_rooms r ON r.id = p.room_id
+WHERE r.branch_id = '00000000-0000-0000-0001-0000000000b1';
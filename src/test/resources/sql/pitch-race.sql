@@ -0,0 +1,18 @@
+-- A branch with a single pitch, a player and the captain of a full team of three
+INSERT INTO users (id, role_id, email, password_hash, first_name, last_name, is_verified)
+SELECT ('00000000-0000-0000-0002-00000000000' || n)::UUID, r.id, 'racer' || n || '@footbook.test', 'hash', 'Racer', n::TEXT, TRUE
+FROM roles r, generate_series(1, 4) n
+WHERE r.title = 'CUSTOMER';
+
+INSERT INTO teams (id, name, captain_id, roster_size, member_count)
+VALUES ('00000000-0000-0000-0002-0000000000a1', 'Race Team', '00000000-0000-0000-0002-000000000002', 3, 3);
+
+INSERT INTO team_members (team_id, user_id)
+SELECT '00000000-0000-0000-0002-0000000000a1', ('00000000-0000-0000-0002-00000000000' || n)::UUID
+FROM generate_series(2, 4) n;
+
+INSERT INTO branches (id, name, address, operating_hours_start, operating_hours_end)
+VALUES ('00000000-0000-0000-0002-0000000000b1', 'Race Pitch Branch', 'Test address', '08:00', '23:00');
+
+INSERT INTO pitches (id, branch_id, name)
+VALUES ('00000000-0000-0000-0002-0000000000d1', '00000000-0000-0000-0002-0000000000b1', 'Pitch 1');
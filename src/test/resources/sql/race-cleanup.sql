@@ -0,0 +1,9 @@
+-- Removes the rows of the concurrency tests, which commit from several threads and cannot be rolled back
+DELETE FROM user_booking_timeline WHERE branch_id IN (SELECT id FROM branches WHERE name LIKE 'Race %');
+DELETE FROM pitch_bookings WHERE branch_id IN (SELECT id FROM branches WHERE name LIKE 'Race %');
+DELETE FROM individual_rooms WHERE branch_id IN (SELECT id FROM branches WHERE name LIKE 'Race %');
+DELETE FROM team_rooms WHERE branch_id IN (SELECT id FROM branches WHERE name LIKE 'Race %');
+DELETE FROM teams WHERE name LIKE 'Race %';
+DELETE FROM pitches WHERE branch_id IN (SELECT id FROM branches WHERE name LIKE 'Race %');
+DELETE FROM branches WHERE name LIKE 'Race %';
+DELETE FROM users WHERE email LIKE 'racer%@footbook.test';
@@ -0,0 +1,22 @@
+-- Two full teams of three players and a matched room between them, at a fixed branch
+INSERT INTO users (id, role_id, email, password_hash, first_name, last_name, is_verified)
+SELECT ('00000000-0000-0000-0000-00000000000' || n)::UUID, r.id, 'player' || n || '@footbook.test', 'hash', 'Player', n::TEXT, TRUE
+FROM roles r, generate_series(1, 6) n
+WHERE r.title = 'CUSTOMER';
+
+INSERT INTO teams (id, name, captain_id, roster_size, member_count) VALUES
+    ('00000000-0000-0000-0000-0000000000a1', 'Creators', '00000000-0000-0000-0000-000000000001', 3, 3),
+    ('00000000-0000-0000-0000-0000000000a2', 'Opponents', '00000000-0000-0000-0000-000000000004', 3, 3);
+
+INSERT INTO team_members (team_id, user_id)
+SELECT CASE WHEN n <= 3 THEN '00000000-0000-0000-0000-0000000000a1'::UUID ELSE '00000000-0000-0000-0000-0000000000a2'::UUID END,
+       ('00000000-0000-0000-0000-00000000000' || n)::UUID
+FROM generate_series(1, 6) n;
+
+INSERT INTO branches (id, name, address, operating_hours_start, operating_hours_end)
+VALUES ('00000000-0000-0000-0000-0000000000b1', 'Test Branch', 'Test address', '08:00', '23:00');
+
+INSERT INTO team_rooms (id, branch_id, creator_team_id, opponent_team_id, scheduled_date, start_time, end_time, required_team_size, status)
+VALUES ('00000000-0000-0000-0000-0000000000c1', '00000000-0000-0000-0000-0000000000b1',
+        '00000000-0000-0000-0000-0000000000a1', '00000000-0000-0000-0000-0000000000a2',
+        current_date + 1, '18:00', '19:00', 3, 'MATCHED');
@@ -0,0 +1,40 @@
+-- Four full teams of three, and two open rooms at overlapping times on the two pitches of a branch:
+-- the first created by the Race Creators, the second by the Race Hosts
+INSERT INTO users (id, role_id, email, password_hash, first_name, last_name, is_verified)
+SELECT ('00000000-0000-0000-0003-0000000000' || lpad(n::TEXT, 2, '0'))::UUID, r.id, 'racer' || n || '@footbook.test', 'hash', 'Racer', n::TEXT, TRUE
+FROM roles r, generate_series(1, 12) n
+WHERE r.title = 'CUSTOMER';
+
+INSERT INTO teams (id, name, captain_id, roster_size, member_count) VALUES
+    ('00000000-0000-0000-0003-0000000000a1', 'Race Creators', '00000000-0000-0000-0003-000000000001', 3, 3),
+    ('00000000-0000-0000-0003-0000000000a2', 'Race Challengers', '00000000-0000-0000-0003-000000000004', 3, 3),
+    ('00000000-0000-0000-0003-0000000000a3', 'Race Rivals', '00000000-0000-0000-0003-000000000007', 3, 3),
+    ('00000000-0000-0000-0003-0000000000a4', 'Race Hosts', '00000000-0000-0000-0003-000000000010', 3, 3);
+
+INSERT INTO team_members (team_id, user_id)
+SELECT ('00000000-0000-0000-0003-0000000000a' || ((n - 1) / 3 + 1))::UUID,
+       ('00000000-0000-0000-0003-0000000000' || lpad(n::TEXT, 2, '0'))::UUID
+FROM generate_series(1, 12) n;
+
+INSERT INTO branches (id, name, address, operating_hours_start, operating_hours_end)
+VALUES ('00000000-0000-0000-0003-0000000000b1', 'Race Team Branch', 'Test address', '08:00', '23:00');
+
+INSERT INTO pitches (id, branch_id, name) VALUES
+    ('00000000-0000-0000-0003-0000000000d1', '00000000-0000-0000-0003-0000000000b1', 'Pitch 1'),
+    ('00000000-0000-0000-0003-0000000000d2', '00000000-0000-0000-0003-0000000000b1', 'Pitch 2');
+
+INSERT INTO team_rooms (id, branch_id, pitch_id, creator_team_id, scheduled_date, start_time, end_time, required_team_size, status) VALUES
+    ('00000000-0000-0000-0003-0000000000c1', '00000000-0000-0000-0003-0000000000b1', '00000000-0000-0000-0003-0000000000d1',
+     '00000000-0000-0000-0003-0000000000a1', current_date + 1, '18:00', '19:00', 3, 'OPEN'),
+    ('00000000-0000-0000-0003-0000000000c2', '00000000-0000-0000-0003-0000000000b1', '00000000-0000-0000-0003-0000000000d2',
+     '00000000-0000-0000-0003-0000000000a4', current_date + 1, '18:30', '19:30', 3, 'OPEN');
+
+INSERT INTO team_bookings (team_id, room_id, scheduled_date, start_time, end_time)
+SELECT creator_team_id, id, scheduled_date, start_time, end_time
+FROM team_rooms
+WHERE branch_id = '00000000-0000-0000-0003-0000000000b1';
+
+INSERT INTO pitch_bookings (room_id, room_type, pitch_id, branch_id, scheduled_date, start_time, end_time)
+SELECT id, 'TEAM', pitch_id, branch_id, scheduled_date, start_time, end_time
+FROM team_rooms
+WHERE branch_id = '00000000-0000-0000-0003-0000000000b1';